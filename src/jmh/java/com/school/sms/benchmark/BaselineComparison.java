@@ -0,0 +1,105 @@
+package com.school.sms.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares two JMH JSON result files benchmark by benchmark
+ * A score counts as a regression when it is worse than the baseline by more than
+ * the threshold percentage and the difference exceeds the combined score errors.
+ */
+public final class BaselineComparison {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private BaselineComparison() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public record Score(String mode, double value, double error, String unit) {
+
+        boolean lowerIsBetter() {
+            // avgt / sample / ss report time per operation; thrpt reports operations per time
+            return !"thrpt".equals(mode);
+        }
+    }
+
+    public record Delta(String benchmark, Score baseline, Score current, double changePercent, boolean regression) {
+    }
+
+    public static List<Delta> compare(Path baselineFile, Path currentFile, double thresholdPercent) throws IOException {
+        Map<String, Score> baseline = read(baselineFile);
+        Map<String, Score> current = read(currentFile);
+
+        List<Delta> deltas = new ArrayList<>();
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score before = baseline.get(entry.getKey());
+            if (before == null || !before.mode().equals(entry.getValue().mode())) {
+                continue;
+            }
+            Score after = entry.getValue();
+            double change = before.value() == 0 ? 0 : (after.value() - before.value()) / before.value() * 100;
+            double worsening = after.lowerIsBetter() ? change : -change;
+            boolean outsideNoise = Math.abs(after.value() - before.value()) > safe(before.error()) + safe(after.error());
+            deltas.add(new Delta(entry.getKey(), before, after, change, worsening > thresholdPercent && outsideNoise));
+        }
+        return deltas;
+    }
+
+    public static String format(List<Delta> deltas, double thresholdPercent) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%nBaseline comparison (regression threshold %.1f%%)%n", thresholdPercent));
+        for (Delta delta : deltas) {
+            report.append(String.format("  %-4s %-70s %12.3f -> %12.3f %-8s %+7.1f%%%n",
+                    delta.regression() ? "FAIL" : "ok",
+                    delta.benchmark(),
+                    delta.baseline().value(),
+                    delta.current().value(),
+                    delta.current().unit(),
+                    delta.changePercent()));
+        }
+        return report.toString();
+    }
+
+    private static Map<String, Score> read(Path file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode run : MAPPER.readTree(file.toFile())) {
+            JsonNode metric = run.path("primaryMetric");
+            scores.put(key(run), new Score(
+                    run.path("mode").asText(),
+                    metric.path("score").asDouble(),
+                    metric.path("scoreError").asDouble(),
+                    metric.path("scoreUnit").asText()));
+        }
+        return scores;
+    }
+
+    private static String key(JsonNode run) {
+        StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+        JsonNode params = run.path("params");
+        if (params.isObject()) {
+            List<String> pairs = new ArrayList<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                pairs.add(field.getKey() + "=" + field.getValue().asText());
+            }
+            pairs.sort(null);
+            key.append(pairs);
+        }
+        return key.toString();
+    }
+
+    private static double safe(double error) {
+        // JMH reports NaN when there are too few iterations to estimate an error
+        return Double.isNaN(error) ? 0 : error;
+    }
+}
@@ -0,0 +1,169 @@
+package com.school.sms.benchmark;
+
+import com.school.sms.auth.entity.User;
+import com.school.sms.common.enums.AccountStatus;
+import com.school.sms.common.enums.BloodGroup;
+import com.school.sms.common.enums.Gender;
+import com.school.sms.common.enums.Role;
+import com.school.sms.common.enums.StudentStatus;
+import com.school.sms.student.entity.Student;
+import com.school.sms.teacher.entity.Teacher;
+import com.school.sms.timetable.entity.StudentResult;
+import com.school.sms.timetable.entity.Timetable;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmark fixtures shaped like TestDataInitializer's data
+ * Classes 1-7, sections A/B, 30 students per class, fully populated profiles;
+ * seeded so every run measures the same objects.
+ */
+public final class BenchmarkFixtures {
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Olivia", "Michael", "Sophia", "David", "Isabella", "Daniel", "Mia",
+            "Matthew", "Charlotte", "Andrew", "Amelia", "Joseph", "Harper", "William", "Evelyn" };
+
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis",
+            "Rodriguez", "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson" };
+
+    private static final String[] SUBJECTS = {
+            "Mathematics", "English", "Science", "Social Studies", "Art", "Physical Education" };
+
+    private BenchmarkFixtures() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static User user(long id, Role role, String firstName, String lastName) {
+        User user = User.builder()
+                .username(firstName.toLowerCase() + "_" + id)
+                .email(firstName.toLowerCase() + "." + id + "@school.edu")
+                .password("{bcrypt10}$2a$10$7EqJtq98hPqEX7fNZaFWoOHiA5lKXgXOZvZ9gHCXyD0j4Qz0p5f6.")
+                .firstName(firstName)
+                .lastName(lastName)
+                .phoneNumber("5551234567")
+                .role(role)
+                .gender(Gender.FEMALE)
+                .accountStatus(AccountStatus.ACTIVE)
+                .emailVerified(true)
+                .failedLoginAttempts(0)
+                .passwordExpired(false)
+                .build();
+        user.setId(id);
+        user.setActive(true);
+        user.setCreatedAt(LocalDateTime.of(2026, 1, 15, 8, 0));
+        user.setUpdatedAt(LocalDateTime.of(2026, 1, 15, 8, 0));
+        return user;
+    }
+
+    /**
+     * Students of one class roster, 15 per section like TestDataInitializer
+     */
+    public static List<Student> students(int count, long seed) {
+        Random random = new Random(seed);
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            int classNum = 1 + (i - 1) / 30 % 7;
+            int studentNum = 1 + (i - 1) % 30;
+            String section = studentNum <= 15 ? "A" : "B";
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            String username = String.format("student_c%d_%02d", classNum, studentNum);
+
+            Student student = Student.builder()
+                    .user(user(i, Role.STUDENT, firstName, lastName))
+                    .admissionNumber(String.format("ADM2026%d%03d", classNum, studentNum))
+                    .rollNumber(String.format("C%d%s%02d", classNum, section, studentNum <= 15 ? studentNum : studentNum - 15))
+                    .dateOfBirth(LocalDate.of(2026 - 5 - classNum, 1 + random.nextInt(12), 1 + random.nextInt(28)))
+                    .gender(random.nextBoolean() ? Gender.MALE : Gender.FEMALE)
+                    .bloodGroup(BloodGroup.values()[random.nextInt(BloodGroup.values().length)])
+                    .currentClass("Class " + classNum)
+                    .section(section)
+                    .admissionDate(LocalDate.of(2026, 1, 15))
+                    .status(StudentStatus.ACTIVE)
+                    .nationality("American")
+                    .address(String.format("%d Main Street, Apt %d", 100 + random.nextInt(900), random.nextInt(50) + 1))
+                    .city("Springfield")
+                    .state("Illinois")
+                    .postalCode(String.format("%05d", 60000 + random.nextInt(999)))
+                    .country("USA")
+                    .fatherName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + lastName)
+                    .fatherPhone(String.format("55512%04d", random.nextInt(10000)))
+                    .fatherEmail(String.format("parent.%s@email.com", username))
+                    .motherName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + lastName)
+                    .motherPhone(String.format("55513%04d", random.nextInt(10000)))
+                    .build();
+            student.setId((long) i);
+            student.setCreatedAt(LocalDateTime.of(2026, 1, 15, 8, 0));
+            student.setUpdatedAt(LocalDateTime.of(2026, 1, 15, 8, 0));
+            students.add(student);
+        }
+        return students;
+    }
+
+    public static Teacher teacher(long id) {
+        User user = user(10_000 + id, Role.TEACHER, "John", "Smith");
+        Teacher teacher = Teacher.builder()
+                .user(user)
+                .employeeId(String.format("EMP2026%03d", id))
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .email(user.getEmail())
+                .qualification("M.Ed")
+                .subjects("Mathematics,Science")
+                .joiningDate(LocalDate.of(2020, 8, 1))
+                .build();
+        teacher.setId(id);
+        return teacher;
+    }
+
+    /**
+     * A teacher's existing slots on one day, used as conflict query results
+     */
+    public static List<Timetable> slots(Teacher teacher, int count) {
+        List<Timetable> slots = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalTime start = LocalTime.of(8, 0).plusMinutes(45L * i);
+            Timetable slot = Timetable.builder()
+                    .className("Class " + (1 + i % 7))
+                    .section(i % 2 == 0 ? "A" : "B")
+                    .subject(SUBJECTS[i % SUBJECTS.length])
+                    .teacher(teacher)
+                    .dayOfWeek(DayOfWeek.MONDAY)
+                    .startTime(start)
+                    .endTime(start.plusMinutes(45))
+                    .room("Room " + (101 + i))
+                    .isActive(true)
+                    .build();
+            slot.setId(1_000L + i);
+            slots.add(slot);
+        }
+        return slots;
+    }
+
+    /**
+     * Results with marks spread over every grade band
+     */
+    public static StudentResult[] results(int count, long seed) {
+        Random random = new Random(seed);
+        StudentResult[] results = new StudentResult[count];
+        for (int i = 0; i < count; i++) {
+            results[i] = StudentResult.builder()
+                    .subject(SUBJECTS[i % SUBJECTS.length])
+                    .examType("Final")
+                    .academicYear("2025-2026")
+                    .term("Term 1")
+                    .marksObtained((double) random.nextInt(101))
+                    .totalMarks(100.0)
+                    .build();
+        }
+        return results;
+    }
+}
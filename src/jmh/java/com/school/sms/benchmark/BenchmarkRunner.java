@@ -0,0 +1,64 @@
+package com.school.sms.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * Entry point for the benchmarks profile
+ * <pre>
+ * mvn -Pbenchmarks test-compile exec:exec                                   # run, write target/jmh/current.json
+ * mvn -Pbenchmarks test-compile exec:exec -Djmh.saveBaseline=benchmarks/baseline.json
+ * mvn -Pbenchmarks test-compile exec:exec -Djmh.baseline=benchmarks/baseline.json [-Djmh.threshold=10]
+ * </pre>
+ * With a baseline the run fails (exit code 1) when any benchmark regressed past the threshold.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        String include = System.getProperty("jmh.include", BenchmarkRunner.class.getPackageName() + ".*");
+        Path result = Path.of(System.getProperty("jmh.result", "target/jmh/current.json"));
+        String baseline = System.getProperty("jmh.baseline", "");
+        String saveBaseline = System.getProperty("jmh.saveBaseline", "");
+        double threshold = Double.parseDouble(System.getProperty("jmh.threshold", "10"));
+
+        Files.createDirectories(result.toAbsolutePath().getParent());
+        Options options = new OptionsBuilder()
+                .include(include)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString())
+                .build();
+        new Runner(options).run();
+
+        if (!saveBaseline.isBlank()) {
+            Path target = Path.of(saveBaseline);
+            if (target.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(target.toAbsolutePath().getParent());
+            }
+            Files.copy(result, target, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Saved baseline to " + target);
+        }
+
+        if (!baseline.isBlank()) {
+            List<BaselineComparison.Delta> deltas = BaselineComparison.compare(Path.of(baseline), result, threshold);
+            System.out.print(BaselineComparison.format(deltas, threshold));
+            long regressions = deltas.stream().filter(BaselineComparison.Delta::regression).count();
+            if (regressions > 0) {
+                System.out.printf("%d benchmark(s) regressed beyond %.1f%%%n", regressions, threshold);
+                System.exit(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.school.sms.benchmark;
+
+import com.school.sms.teacher.entity.Teacher;
+import com.school.sms.timetable.dto.ConflictCheckResponse;
+import com.school.sms.timetable.dto.TimetableRequest;
+import com.school.sms.timetable.entity.Timetable;
+import com.school.sms.timetable.repository.TimetableRepository;
+import com.school.sms.timetable.service.TimetableService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TimetableService.checkConflicts with the repository answering from memory
+ * Measures the in-process work (filtering, mapping, messages) on top of the two queries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConflictCheckBenchmark {
+
+    @Param({ "0", "2", "8" })
+    private int conflictsPerQuery;
+
+    private TimetableService timetableService;
+    private TimetableRequest request;
+
+    @Setup
+    public void setup() {
+        Teacher teacher = BenchmarkFixtures.teacher(1);
+        List<Timetable> conflicts = BenchmarkFixtures.slots(teacher, conflictsPerQuery);
+
+        TimetableRepository repository = (TimetableRepository) Proxy.newProxyInstance(
+                TimetableRepository.class.getClassLoader(),
+                new Class<?>[] { TimetableRepository.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findTeacherConflicts", "findClassConflicts" -> conflicts;
+                    case "toString" -> "InMemoryTimetableRepository";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        timetableService = new TimetableService(repository, null, null);
+
+        request = TimetableRequest.builder()
+                .className("Class 3")
+                .section("A")
+                .subject("Mathematics")
+                .teacherId(teacher.getId())
+                .dayOfWeek(DayOfWeek.MONDAY)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(9, 45))
+                .room("Room 103")
+                .build();
+    }
+
+    @Benchmark
+    public ConflictCheckResponse checkNewSlot() {
+        return timetableService.checkConflicts(request, null);
+    }
+
+    @Benchmark
+    public ConflictCheckResponse checkExistingSlot() {
+        return timetableService.checkConflicts(request, 1_000L);
+    }
+}
@@ -0,0 +1,99 @@
+package com.school.sms.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Platform thread pool (Tomcat's default 200 threads) vs virtual thread per task.
+ * A burst of requests, each waiting on non-database I/O and then holding one of
+ * the pool's connections (modelled by a semaphore sized like Hikari, as in
+ * BulkheadDataSource). Shows where virtual threads help: waits that do not need a
+ * connection stop tying up request threads, while database-bound work stays
+ * capped by the pool either way.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ExecutionModeBenchmark {
+
+    private static final int PLATFORM_THREADS = 200;
+
+    @Param({ "platform", "virtual" })
+    private String mode;
+
+    @Param({ "1000", "5000" })
+    private int requests;
+
+    // Time spent outside the database (mail, file I/O, remote calls) per request
+    @Param({ "20" })
+    private int externalIoMillis;
+
+    // Time a connection is held per request
+    @Param({ "2" })
+    private int queryMillis;
+
+    @Param({ "10" })
+    private int poolSize;
+
+    private ExecutorService executor;
+    private Semaphore connections;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        executor = "virtual".equals(mode)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_THREADS);
+        connections = new Semaphore(poolSize, true);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int burst() throws InterruptedException, ExecutionException {
+        List<Future<?>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            futures.add(executor.submit(this::handleRequest));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return futures.size();
+    }
+
+    private Void handleRequest() throws InterruptedException {
+        Thread.sleep(externalIoMillis);
+        connections.acquire();
+        try {
+            Thread.sleep(queryMillis);
+        } finally {
+            connections.release();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,50 @@
+package com.school.sms.benchmark;
+
+import com.school.sms.timetable.entity.StudentResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StudentResult.calculateGrade (runs on every result insert/update) over mixed marks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GradeBenchmark {
+
+    private static final int RESULT_COUNT = 1024; // power of two for cheap wrap-around
+
+    private MethodHandle calculateGrade;
+    private StudentResult[] results;
+    private int next;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        calculateGrade = MethodHandles.privateLookupIn(StudentResult.class, MethodHandles.lookup())
+                .findVirtual(StudentResult.class, "calculateGrade", MethodType.methodType(void.class));
+        results = BenchmarkFixtures.results(RESULT_COUNT, 42);
+    }
+
+    @Benchmark
+    public String calculateGrade() throws Throwable {
+        StudentResult result = results[next++ & (RESULT_COUNT - 1)];
+        calculateGrade.invokeExact(result);
+        return result.getGrade();
+    }
+}
@@ -0,0 +1,65 @@
+package com.school.sms.benchmark;
+
+import com.school.sms.common.enums.Role;
+import com.school.sms.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider.validateToken, run by JwtAuthenticationFilter on every request
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    // Same default secret as application.yml
+    private static final String SECRET = "supersecretkeythatisverylongandstrongenoughforhs256algorithmsecurity";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String validToken;
+    private String tamperedToken;
+
+    @Setup
+    public void setup() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpiration", 86_400_000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshExpiration", 604_800_000L);
+
+        validToken = jwtTokenProvider.generateTokenFromUser(BenchmarkFixtures.user(1, Role.TEACHER, "John", "Smith"));
+        char last = validToken.charAt(validToken.length() - 2);
+        tamperedToken = validToken.substring(0, validToken.length() - 2) + (last == 'A' ? 'B' : 'A')
+                + validToken.charAt(validToken.length() - 1);
+    }
+
+    @Benchmark
+    public boolean validateValidToken() {
+        return jwtTokenProvider.validateToken(validToken);
+    }
+
+    @Benchmark
+    public boolean validateTamperedToken() {
+        return jwtTokenProvider.validateToken(tamperedToken);
+    }
+
+    @Benchmark
+    public Long validateAndExtractUserId() {
+        // What the filter does per request: validate, then parse again for the user id
+        return jwtTokenProvider.validateToken(validToken) ? jwtTokenProvider.getUserIdFromToken(validToken) : null;
+    }
+}
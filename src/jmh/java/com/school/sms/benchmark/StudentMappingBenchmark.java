@@ -0,0 +1,59 @@
+package com.school.sms.benchmark;
+
+import com.school.sms.student.dto.StudentResponse;
+import com.school.sms.student.entity.Student;
+import com.school.sms.student.service.StudentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StudentService.mapToResponse over a roster (one section, one class, the whole school)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentMappingBenchmark {
+
+    @Param({ "15", "30", "210" })
+    private int rosterSize;
+
+    private StudentService studentService;
+    private MethodHandle mapToResponse;
+    private List<Student> roster;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        // Mapping touches no collaborators
+        studentService = new StudentService(null, null, null, null, null);
+        mapToResponse = MethodHandles.privateLookupIn(StudentService.class, MethodHandles.lookup())
+                .findVirtual(StudentService.class, "mapToResponse",
+                        MethodType.methodType(StudentResponse.class, Student.class));
+        roster = BenchmarkFixtures.students(rosterSize, 42);
+    }
+
+    @Benchmark
+    public void mapRoster(Blackhole blackhole) throws Throwable {
+        for (Student student : roster) {
+            blackhole.consume((StudentResponse) mapToResponse.invokeExact(studentService, student));
+        }
+    }
+}
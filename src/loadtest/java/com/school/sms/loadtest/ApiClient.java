@@ -0,0 +1,129 @@
+package com.school.sms.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Thin JSON client for one virtual user
+ * Every call is timed under its endpoint label (method + path template) while recording is on.
+ */
+class ApiClient {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final Map<String, EndpointStats> stats;
+    private final BooleanSupplier recording;
+    private final Map<String, String> etags = new ConcurrentHashMap<>();
+    private String accessToken;
+    private String refreshToken;
+
+    ApiClient(HttpClient httpClient, String baseUrl, Map<String, EndpointStats> stats, BooleanSupplier recording) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.stats = stats;
+        this.recording = recording;
+    }
+
+    boolean login(String username, String password) {
+        JsonNode body = post("POST /api/auth/login", "/api/auth/login",
+                Map.of("usernameOrEmail", username, "password", password));
+        if (body == null) {
+            return false;
+        }
+        accessToken = body.path("data").path("accessToken").asText(null);
+        refreshToken = body.path("data").path("refreshToken").asText(null);
+        return accessToken != null;
+    }
+
+    void logout() {
+        if (refreshToken != null) {
+            post("POST /api/auth/logout", "/api/auth/logout", Map.of("refreshToken", refreshToken));
+        }
+        accessToken = null;
+        refreshToken = null;
+    }
+
+    /**
+     * GET with conditional revalidation, like a browser polling a dashboard
+     * Returns the parsed body, or null on 304 and errors.
+     */
+    JsonNode get(String label, String path) {
+        HttpRequest.Builder request = request(path).GET();
+        String etag = etags.get(path);
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+        HttpResponse<String> response = send(label, request.build());
+        if (response == null || response.statusCode() != 200) {
+            return null;
+        }
+        response.headers().firstValue("ETag").ifPresent(value -> etags.put(path, value));
+        return parse(response.body());
+    }
+
+    JsonNode post(String label, String path, Object payload) {
+        String json;
+        try {
+            json = MAPPER.writeValueAsString(payload);
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Unserializable payload for " + label, ex);
+        }
+        HttpResponse<String> response = send(label, request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build());
+        if (response == null || response.statusCode() >= 400) {
+            return null;
+        }
+        return parse(response.body());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json");
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return builder;
+    }
+
+    private HttpResponse<String> send(String label, HttpRequest request) {
+        long started = System.nanoTime();
+        HttpResponse<String> response = null;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            return response;
+        } catch (IOException ex) {
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            if (recording.getAsBoolean()) {
+                stats.computeIfAbsent(label, key -> new EndpointStats())
+                        .record(System.nanoTime() - started, response != null ? response.statusCode() : 0);
+            }
+        }
+    }
+
+    private static JsonNode parse(String body) {
+        try {
+            return MAPPER.readTree(body);
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.school.sms.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latency samples and outcome counts for one endpoint
+ * Keeps every sample so percentiles are exact rather than bucket estimates.
+ */
+class EndpointStats {
+
+    private long[] samplesNanos = new long[4096];
+    private int count;
+    private long errors;
+    private long notModified;
+
+    synchronized void record(long nanos, int status) {
+        if (count == samplesNanos.length) {
+            samplesNanos = Arrays.copyOf(samplesNanos, count * 2);
+        }
+        samplesNanos[count++] = nanos;
+        if (status == 304) {
+            notModified++;
+        } else if (status < 200 || status >= 400) {
+            errors++;
+        }
+    }
+
+    synchronized Summary summarize(double elapsedSeconds) {
+        long[] sorted = Arrays.copyOf(samplesNanos, count);
+        Arrays.sort(sorted);
+        return new Summary(count, errors, notModified,
+                elapsedSeconds > 0 ? count / elapsedSeconds : 0,
+                millis(sorted, 0.50), millis(sorted, 0.95), millis(sorted, 0.99),
+                count > 0 ? sorted[count - 1] / 1_000_000.0 : 0);
+    }
+
+    private static double millis(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    record Summary(long count, long errors, long notModified, double throughput,
+            double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+    }
+}
@@ -0,0 +1,234 @@
+package com.school.sms.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Scripted load test against a running instance seeded by DatasetGenerator
+ * Role mix (virtual users, closed model with think time):
+ * <ul>
+ * <li>login storm: users logging in and out back to back for the first load.stormSeconds</li>
+ * <li>students: dashboard polling (profile + results, revalidated with ETags)</li>
+ * <li>teachers: marks entry (class roster, then a handful of result inserts)</li>
+ * <li>admins: browsing student lists and timetables</li>
+ * </ul>
+ * Reports count, errors, throughput and p50/p95/p99/max latency per endpoint.
+ * <pre>
+ * mvn -Pload-test test-compile exec:java -Dload.baseUrl=http://localhost:8080 -Dload.durationSeconds=300
+ * </pre>
+ */
+public final class LoadHarness {
+
+    private static final String[] SUBJECTS = { "Mathematics", "English", "Science", "History", "Geography" };
+
+    private final String baseUrl = System.getProperty("load.baseUrl", "http://localhost:8080");
+    private final int durationSeconds = Integer.getInteger("load.durationSeconds", 180);
+    private final int warmupSeconds = Integer.getInteger("load.warmupSeconds", 20);
+    private final int stormUsers = Integer.getInteger("load.stormUsers", 50);
+    private final int stormSeconds = Integer.getInteger("load.stormSeconds", 30);
+    private final int studentUsers = Integer.getInteger("load.studentUsers", 400);
+    private final int teacherUsers = Integer.getInteger("load.teacherUsers", 40);
+    private final int adminUsers = Integer.getInteger("load.adminUsers", 2);
+    private final int pollIntervalMillis = Integer.getInteger("load.pollIntervalMillis", 5_000);
+    private final int thinkTimeMillis = Integer.getInteger("load.thinkTimeMillis", 2_000);
+    private final int datasetStudents = Integer.getInteger("load.datasetStudents", 50_000);
+    private final int datasetTeachers = Integer.getInteger("load.datasetTeachers", 2_000);
+    private final int schools = Integer.getInteger("load.schools", 20);
+    private final String password = System.getProperty("load.password", "LoadTest@123");
+    private final String adminUsername = System.getProperty("load.adminUsername", "admin");
+    private final String adminPassword = System.getProperty("load.adminPassword", "Admin@123");
+    private final String reportFile = System.getProperty("load.report", "target/load-test/report.csv");
+
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private final AtomicBoolean recording = new AtomicBoolean();
+    private final AtomicBoolean running = new AtomicBoolean(true);
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private LoadHarness() {
+    }
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        new LoadHarness().run();
+    }
+
+    private void run() throws InterruptedException, IOException {
+        System.out.printf("Load test against %s: %d s (+%d s warm-up), %d storm / %d student / %d teacher / %d admin users%n",
+                baseUrl, durationSeconds, warmupSeconds, stormUsers, studentUsers, teacherUsers, adminUsers);
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < studentUsers; i++) {
+                users.submit(this::studentDashboard);
+            }
+            for (int i = 0; i < teacherUsers; i++) {
+                users.submit(this::teacherMarksEntry);
+            }
+            for (int i = 0; i < adminUsers; i++) {
+                users.submit(this::adminBrowsing);
+            }
+
+            TimeUnit.SECONDS.sleep(warmupSeconds);
+            recording.set(true);
+            long started = System.nanoTime();
+
+            // The storm starts with measurement so its latency impact on the other roles is visible
+            long stormDeadline = started + TimeUnit.SECONDS.toNanos(stormSeconds);
+            for (int i = 0; i < stormUsers; i++) {
+                users.submit(() -> loginStorm(stormDeadline));
+            }
+
+            TimeUnit.SECONDS.sleep(durationSeconds);
+            recording.set(false);
+            running.set(false);
+            double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+            users.shutdownNow();
+
+            report(elapsedSeconds);
+        }
+    }
+
+    private void loginStorm(long deadlineNanos) {
+        ApiClient client = client();
+        while (running.get() && System.nanoTime() < deadlineNanos) {
+            if (client.login(randomStudent(), password)) {
+                client.logout();
+            }
+        }
+    }
+
+    private void studentDashboard() {
+        ApiClient client = client();
+        pause(ThreadLocalRandom.current().nextInt(Math.max(1, pollIntervalMillis)));
+        if (!client.login(randomStudent(), password)) {
+            return;
+        }
+        while (running.get()) {
+            client.get("GET /api/student/me", "/api/student/me");
+            client.get("GET /api/student/results", "/api/student/results");
+            pause(jitter(pollIntervalMillis));
+        }
+    }
+
+    private void teacherMarksEntry() {
+        ApiClient client = client();
+        pause(ThreadLocalRandom.current().nextInt(Math.max(1, thinkTimeMillis)));
+        String username = String.format("ds_teacher_%05d", 1 + ThreadLocalRandom.current().nextInt(datasetTeachers));
+        if (!client.login(username, password)) {
+            return;
+        }
+        String academicYear = (LocalDate.now().getYear() - 1) + "-" + LocalDate.now().getYear();
+        while (running.get()) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String className = "Class " + (1 + random.nextInt(7));
+            String section = String.format("S%02d-A", 1 + random.nextInt(schools));
+            JsonNode roster = client.get("GET /api/teacher/students",
+                    "/api/teacher/students?className=" + encode(className) + "&section=" + encode(section));
+
+            List<Long> studentIds = new ArrayList<>();
+            if (roster != null) {
+                roster.path("data").forEach(student -> studentIds.add(student.path("id").asLong()));
+            }
+            String subject = SUBJECTS[random.nextInt(SUBJECTS.length)];
+            for (int i = 0; i < Math.min(5, studentIds.size()) && running.get(); i++) {
+                client.post("POST /api/results", "/api/results", Map.of(
+                        "studentId", studentIds.get(random.nextInt(studentIds.size())),
+                        "subject", subject,
+                        "examType", "Quiz",
+                        "academicYear", academicYear,
+                        "term", "Term 3",
+                        "marksObtained", (double) random.nextInt(101),
+                        "totalMarks", 100.0));
+                pause(jitter(thinkTimeMillis / 4));
+            }
+            pause(jitter(thinkTimeMillis));
+        }
+    }
+
+    private void adminBrowsing() {
+        ApiClient client = client();
+        if (!client.login(adminUsername, adminPassword)) {
+            return;
+        }
+        while (running.get()) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String className = "Class " + (1 + random.nextInt(7));
+            String section = String.format("S%02d-%s", 1 + random.nextInt(schools), (char) ('A' + random.nextInt(2)));
+            client.get("GET /api/admin/students", "/api/admin/students?className=" + encode(className)
+                    + "&section=" + encode(section));
+            client.get("GET /api/timetable", "/api/timetable?className=" + encode(className)
+                    + "&section=" + encode(section));
+            pause(jitter(thinkTimeMillis));
+        }
+    }
+
+    private void report(double elapsedSeconds) throws IOException {
+        Map<String, EndpointStats.Summary> summaries = new TreeMap<>();
+        stats.forEach((label, endpoint) -> summaries.put(label, endpoint.summarize(elapsedSeconds)));
+
+        System.out.printf("%n%-32s %9s %7s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "304s", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        summaries.forEach((label, s) -> System.out.printf("%-32s %9d %7d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                label, s.count(), s.errors(), s.notModified(), s.throughput(),
+                s.p50Millis(), s.p95Millis(), s.p99Millis(), s.maxMillis()));
+
+        Path csv = Path.of(reportFile);
+        Files.createDirectories(csv.toAbsolutePath().getParent());
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(csv))) {
+            writer.println("endpoint,requests,errors,not_modified,throughput_rps,p50_ms,p95_ms,p99_ms,max_ms");
+            summaries.forEach((label, s) -> writer.printf("%s,%d,%d,%d,%.2f,%.2f,%.2f,%.2f,%.2f%n",
+                    label, s.count(), s.errors(), s.notModified(), s.throughput(),
+                    s.p50Millis(), s.p95Millis(), s.p99Millis(), s.maxMillis()));
+        }
+        System.out.println("Report written to " + csv);
+    }
+
+    private ApiClient client() {
+        return new ApiClient(httpClient, baseUrl, stats, recording::get);
+    }
+
+    private String randomStudent() {
+        return String.format("ds_student_%06d", 1 + ThreadLocalRandom.current().nextInt(datasetStudents));
+    }
+
+    private static int jitter(int millis) {
+        // +/- 50% so virtual users do not poll in lock step
+        return millis / 2 + ThreadLocalRandom.current().nextInt(Math.max(1, millis));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private void pause(long millis) {
+        if (millis <= 0 || !running.get()) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running.set(false);
+        }
+    }
+}
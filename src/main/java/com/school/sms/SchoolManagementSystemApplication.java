@@ -4,17 +4,20 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main application class for School Management System
  * 
  * @EnableCaching: Enables Spring's annotation-driven cache management
  * @EnableAsync: Enables asynchronous method execution
+ * @EnableScheduling: Enables scheduled housekeeping tasks
  *               Note: JPA Auditing is configured in AuditConfig.java
  */
 @SpringBootApplication
 @EnableCaching
 @EnableAsync
+@EnableScheduling
 public class SchoolManagementSystemApplication {
 
     public static void main(String[] args) {
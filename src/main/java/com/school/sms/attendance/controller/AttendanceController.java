@@ -0,0 +1,70 @@
+package com.school.sms.attendance.controller;
+
+import com.school.sms.attendance.dto.AbsenceResponse;
+import com.school.sms.attendance.dto.AttendanceSessionResponse;
+import com.school.sms.attendance.dto.AttendanceSummaryResponse;
+import com.school.sms.attendance.dto.MarkAttendanceRequest;
+import com.school.sms.attendance.service.AttendanceService;
+import com.school.sms.common.dto.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for attendance
+ * Teachers mark the periods they teach; staff read term summaries per student or class
+ */
+@RestController
+@RequestMapping("/api/attendance")
+@RequiredArgsConstructor
+@PreAuthorize("hasAnyRole('ADMIN', 'PRINCIPAL', 'TEACHER', 'ACADEMIC_TEACHER', 'DISCIPLINE_TEACHER')")
+public class AttendanceController {
+
+    private final AttendanceService attendanceService;
+
+    @PostMapping("/sessions")
+    public ResponseEntity<ApiResponse<AttendanceSessionResponse>> markSession(
+            @Valid @RequestBody MarkAttendanceRequest request) {
+        AttendanceSessionResponse session = attendanceService.markSession(request);
+        return ResponseEntity.ok(ApiResponse.success(
+                Boolean.TRUE.equals(session.getCorrected())
+                        ? "Attendance corrected successfully"
+                        : "Attendance marked successfully",
+                session));
+    }
+
+    @GetMapping("/students/{studentId}")
+    public ResponseEntity<ApiResponse<AttendanceSummaryResponse>> getStudentSummary(
+            @PathVariable Long studentId,
+            @RequestParam String academicYear,
+            @RequestParam String term) {
+        AttendanceSummaryResponse summary = attendanceService.getStudentSummary(studentId, academicYear, term);
+        return ResponseEntity.ok(ApiResponse.success("Attendance retrieved successfully", summary));
+    }
+
+    @GetMapping("/students/{studentId}/absences")
+    public ResponseEntity<ApiResponse<List<AbsenceResponse>>> getAbsences(
+            @PathVariable Long studentId,
+            @RequestParam String academicYear,
+            @RequestParam String term) {
+        List<AbsenceResponse> absences = attendanceService.getAbsences(studentId, academicYear, term);
+        return ResponseEntity.ok(ApiResponse.success(
+                "Absences retrieved successfully (" + absences.size() + " found)", absences));
+    }
+
+    @GetMapping("/classes")
+    public ResponseEntity<ApiResponse<List<AttendanceSummaryResponse>>> getClassSummary(
+            @RequestParam String className,
+            @RequestParam(required = false) String section,
+            @RequestParam String academicYear,
+            @RequestParam String term) {
+        List<AttendanceSummaryResponse> summaries = attendanceService.getClassSummary(
+                className, section, academicYear, term);
+        return ResponseEntity.ok(ApiResponse.success(
+                "Class attendance retrieved successfully (" + summaries.size() + " students)", summaries));
+    }
+}
@@ -0,0 +1,23 @@
+package com.school.sms.attendance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO for one missed period
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AbsenceResponse {
+
+    private LocalDate date;
+    private String subject;
+    private String className;
+    private String section;
+}
@@ -0,0 +1,29 @@
+package com.school.sms.attendance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO for a marked attendance session
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceSessionResponse {
+
+    private Long sessionId;
+    private Long timetableId;
+    private String className;
+    private String section;
+    private String subject;
+    private LocalDate date;
+    private Integer ordinal;
+    private Integer present;
+    private Integer absent;
+    private Boolean corrected; // the slot had already been marked for this date
+}
@@ -0,0 +1,25 @@
+package com.school.sms.attendance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a student's attendance over a term
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceSummaryResponse {
+
+    private Long studentId;
+    private String studentName;
+    private String academicYear;
+    private String term;
+    private Integer sessionsMarked;
+    private Integer present;
+    private Integer absent;
+    private Double percentage;
+}
@@ -0,0 +1,18 @@
+package com.school.sms.attendance.dto;
+
+/**
+ * Closed projection of a student's attendance counts
+ * Names are only selected by the per-class query
+ */
+public interface AttendanceTotals {
+
+    Long getStudentId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    Number getMarked();
+
+    Number getPresent();
+}
@@ -0,0 +1,41 @@
+package com.school.sms.attendance.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * DTO for marking one timetable period for the whole class
+ * Every student on the roll is present unless listed as absent; sending the
+ * same slot and date again corrects the earlier marking.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MarkAttendanceRequest {
+
+    @NotNull(message = "Timetable slot is required")
+    private Long timetableId;
+
+    @NotNull(message = "Date is required")
+    @PastOrPresent(message = "Attendance cannot be marked for a future date")
+    private LocalDate date;
+
+    @NotBlank(message = "Academic year is required")
+    private String academicYear;
+
+    @NotBlank(message = "Term is required")
+    private String term;
+
+    @Builder.Default
+    private Set<Long> absentStudentIds = new HashSet<>();
+}
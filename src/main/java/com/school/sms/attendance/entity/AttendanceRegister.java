@@ -0,0 +1,44 @@
+package com.school.sms.attendance.entity;
+
+import com.school.sms.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Attendance Register Entity
+ * One per class/section and term. Every marked period of the class becomes a
+ * session with the next ordinal, which is the bit position used in the
+ * students' attendance bitmaps.
+ */
+@Entity
+@Table(name = "attendance_registers")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceRegister extends BaseEntity {
+
+    @Column(nullable = false, updatable = false, length = 50)
+    private String className;
+
+    @Column(updatable = false, length = 20)
+    private String section;
+
+    @Column(nullable = false, updatable = false, length = 20)
+    private String academicYear;
+
+    @Column(nullable = false, updatable = false, length = 20)
+    private String term;
+
+    @Column(nullable = false)
+    private Integer sessionCount;
+
+    /**
+     * Hand out the ordinal for a new session
+     */
+    @Transient
+    public int nextOrdinal() {
+        return sessionCount++;
+    }
+}
@@ -0,0 +1,49 @@
+package com.school.sms.attendance.entity;
+
+import com.school.sms.common.entity.BaseEntity;
+import com.school.sms.timetable.entity.Timetable;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Attendance Session Entity
+ * One timetable slot taught on one date; its ordinal indexes the student bitmaps
+ */
+@Entity
+@Table(name = "attendance_sessions", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_attendance_session_ordinal", columnNames = { "register_id", "ordinal" }),
+        @UniqueConstraint(name = "uk_attendance_session_slot",
+                columnNames = { "register_id", "sessionDate", "timetable_id" })
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceSession extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "register_id", nullable = false, updatable = false)
+    private AttendanceRegister register;
+
+    @Column(nullable = false, updatable = false)
+    private Integer ordinal;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDate sessionDate;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "timetable_id", nullable = false, updatable = false)
+    private Timetable timetable;
+
+    @Column(nullable = false, updatable = false, length = 100)
+    private String subject; // as taught, even if the slot changes later
+
+    @Column(nullable = false)
+    private Integer presentCount;
+
+    @Column(nullable = false)
+    private Integer absentCount;
+}
@@ -0,0 +1,100 @@
+package com.school.sms.attendance.entity;
+
+import com.school.sms.common.entity.BaseEntity;
+import com.school.sms.student.entity.Student;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.BitSet;
+
+/**
+ * Student Attendance Entity
+ * A student's attendance for one register as two bitmaps indexed by session
+ * ordinal: marked (the student was on the roll when the period was taken) and
+ * present. A term of 8 periods a day is about 200 bytes per bitmap, instead of
+ * well over a thousand rows. The counts are kept in step with the bits so the
+ * attendance percentage is read without decoding anything.
+ */
+@Entity
+@Table(name = "student_attendance", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_student_attendance_register_student",
+                columnNames = { "register_id", "student_id" })
+}, indexes = {
+        @Index(name = "idx_student_attendance_student_term", columnList = "student_id, academicYear, term")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentAttendance extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id", nullable = false, updatable = false)
+    private Student student;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "register_id", nullable = false, updatable = false)
+    private AttendanceRegister register;
+
+    @Column(nullable = false, updatable = false, length = 20)
+    private String academicYear;
+
+    @Column(nullable = false, updatable = false, length = 20)
+    private String term;
+
+    // BitSet.toByteArray layout: bit n is bit (n % 8) of byte (n / 8), as with PostgreSQL get_bit on bytea
+    @Column(nullable = false)
+    @Builder.Default
+    private byte[] markedBits = new byte[0];
+
+    @Column(nullable = false)
+    @Builder.Default
+    private byte[] presentBits = new byte[0];
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer markedCount = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer presentCount = 0;
+
+    /**
+     * Record the student as present or absent for a session; re-marking a session corrects it
+     *
+     * @return false when the session was already marked the same way
+     */
+    @Transient
+    public boolean mark(int ordinal, boolean present) {
+        BitSet marked = BitSet.valueOf(markedBits);
+        BitSet presentSet = BitSet.valueOf(presentBits);
+        boolean wasMarked = marked.get(ordinal);
+        boolean wasPresent = presentSet.get(ordinal);
+        if (wasMarked && wasPresent == present) {
+            return false;
+        }
+
+        if (!wasMarked) {
+            marked.set(ordinal);
+            markedCount++;
+            markedBits = marked.toByteArray();
+        }
+        if (wasPresent != present) {
+            presentSet.set(ordinal, present);
+            presentCount += present ? 1 : -1;
+            presentBits = presentSet.toByteArray();
+        }
+        return true;
+    }
+
+    /**
+     * Ordinals of the sessions the student was marked absent for
+     */
+    @Transient
+    public BitSet getAbsentOrdinals() {
+        BitSet absent = BitSet.valueOf(markedBits);
+        absent.andNot(BitSet.valueOf(presentBits));
+        return absent;
+    }
+}
@@ -0,0 +1,56 @@
+package com.school.sms.attendance.repository;
+
+import com.school.sms.attendance.entity.AttendanceRegister;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository for AttendanceRegister entity
+ */
+@Repository
+public interface AttendanceRegisterRepository extends JpaRepository<AttendanceRegister, Long> {
+
+    /**
+     * Create the register unless it exists; safe when two teachers open the same class at once
+     */
+    @Modifying
+    @Query(value = "INSERT INTO attendance_registers (created_at, updated_at, created_by, updated_by, version, " +
+            "active, class_name, section, academic_year, term, session_count) " +
+            "VALUES (:now, :now, :createdBy, :createdBy, 0, true, :className, :section, :academicYear, :term, 0) " +
+            "ON CONFLICT (class_name, (COALESCE(section, '')), academic_year, term) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("className") String className,
+                       @Param("section") String section,
+                       @Param("academicYear") String academicYear,
+                       @Param("term") String term,
+                       @Param("createdBy") String createdBy,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * Register locked for the marking transaction, so concurrent sessions get distinct ordinals
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM AttendanceRegister r WHERE r.className = :className " +
+            "AND ((:section IS NULL AND r.section IS NULL) OR r.section = :section) " +
+            "AND r.academicYear = :academicYear AND r.term = :term")
+    Optional<AttendanceRegister> findForUpdate(@Param("className") String className,
+                                               @Param("section") String section,
+                                               @Param("academicYear") String academicYear,
+                                               @Param("term") String term);
+
+    @Query("SELECT r FROM AttendanceRegister r WHERE r.className = :className " +
+            "AND ((:section IS NULL AND r.section IS NULL) OR r.section = :section) " +
+            "AND r.academicYear = :academicYear AND r.term = :term")
+    Optional<AttendanceRegister> findByClassAndTerm(@Param("className") String className,
+                                                    @Param("section") String section,
+                                                    @Param("academicYear") String academicYear,
+                                                    @Param("term") String term);
+}
@@ -0,0 +1,27 @@
+package com.school.sms.attendance.repository;
+
+import com.school.sms.attendance.entity.AttendanceSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for AttendanceSession entity
+ */
+@Repository
+public interface AttendanceSessionRepository extends JpaRepository<AttendanceSession, Long> {
+
+    Optional<AttendanceSession> findByRegister_IdAndSessionDateAndTimetable_Id(
+            Long registerId, LocalDate sessionDate, Long timetableId);
+
+    @Query("SELECT s FROM AttendanceSession s WHERE s.register.id = :registerId AND s.ordinal IN :ordinals " +
+            "ORDER BY s.sessionDate, s.ordinal")
+    List<AttendanceSession> findByRegisterAndOrdinals(@Param("registerId") Long registerId,
+                                                      @Param("ordinals") Collection<Integer> ordinals);
+}
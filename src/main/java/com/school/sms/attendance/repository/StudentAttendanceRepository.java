@@ -0,0 +1,59 @@
+package com.school.sms.attendance.repository;
+
+import com.school.sms.attendance.dto.AttendanceTotals;
+import com.school.sms.attendance.entity.StudentAttendance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for StudentAttendance entity
+ */
+@Repository
+public interface StudentAttendanceRepository extends JpaRepository<StudentAttendance, Long> {
+
+    /**
+     * Create empty bitmap rows for the students that have none in the register yet, in one statement
+     */
+    @Modifying
+    @Query(value = "INSERT INTO student_attendance (created_at, updated_at, created_by, updated_by, version, " +
+            "active, student_id, register_id, academic_year, term, marked_bits, present_bits, marked_count, " +
+            "present_count) " +
+            "SELECT :now, :now, :createdBy, :createdBy, 0, true, s.id, r.id, r.academic_year, r.term, " +
+            "decode('', 'hex'), decode('', 'hex'), 0, 0 " +
+            "FROM students s JOIN attendance_registers r ON r.id = :registerId WHERE s.id IN (:studentIds) " +
+            "ON CONFLICT (register_id, student_id) DO NOTHING",
+            nativeQuery = true)
+    int insertMissing(@Param("registerId") Long registerId,
+                      @Param("studentIds") Collection<Long> studentIds,
+                      @Param("createdBy") String createdBy,
+                      @Param("now") LocalDateTime now);
+
+    @Query("SELECT a FROM StudentAttendance a WHERE a.register.id = :registerId AND a.student.id IN :studentIds")
+    List<StudentAttendance> findByRegisterAndStudents(@Param("registerId") Long registerId,
+                                                      @Param("studentIds") Collection<Long> studentIds);
+
+    List<StudentAttendance> findByStudent_IdAndAcademicYearAndTerm(Long studentId, String academicYear, String term);
+
+    /**
+     * Term totals for one student; a student who changed class mid-term has one row per register
+     */
+    @Query("SELECT a.student.id AS studentId, SUM(a.markedCount) AS marked, SUM(a.presentCount) AS present " +
+            "FROM StudentAttendance a WHERE a.student.id = :studentId " +
+            "AND a.academicYear = :academicYear AND a.term = :term GROUP BY a.student.id")
+    List<AttendanceTotals> findTotalsByStudent(@Param("studentId") Long studentId,
+                                               @Param("academicYear") String academicYear,
+                                               @Param("term") String term);
+
+    @Query("SELECT a.student.id AS studentId, u.firstName AS firstName, u.lastName AS lastName, " +
+            "a.markedCount AS marked, a.presentCount AS present " +
+            "FROM StudentAttendance a JOIN a.student s JOIN s.user u WHERE a.register.id = :registerId " +
+            "ORDER BY u.firstName, u.lastName")
+    List<AttendanceTotals> findTotalsByRegister(@Param("registerId") Long registerId);
+}
@@ -0,0 +1,236 @@
+package com.school.sms.attendance.service;
+
+import com.school.sms.attendance.dto.AbsenceResponse;
+import com.school.sms.attendance.dto.AttendanceSessionResponse;
+import com.school.sms.attendance.dto.AttendanceSummaryResponse;
+import com.school.sms.attendance.dto.AttendanceTotals;
+import com.school.sms.attendance.dto.MarkAttendanceRequest;
+import com.school.sms.attendance.entity.AttendanceRegister;
+import com.school.sms.attendance.entity.AttendanceSession;
+import com.school.sms.attendance.entity.StudentAttendance;
+import com.school.sms.attendance.repository.AttendanceRegisterRepository;
+import com.school.sms.attendance.repository.AttendanceSessionRepository;
+import com.school.sms.attendance.repository.StudentAttendanceRepository;
+import com.school.sms.common.enums.Role;
+import com.school.sms.common.enums.StudentStatus;
+import com.school.sms.common.exception.BadRequestException;
+import com.school.sms.common.exception.ResourceNotFoundException;
+import com.school.sms.common.util.SecurityUtils;
+import com.school.sms.student.repository.StudentRepository;
+import com.school.sms.teacher.entity.Teacher;
+import com.school.sms.teacher.repository.TeacherRepository;
+import com.school.sms.timetable.entity.Timetable;
+import com.school.sms.timetable.repository.TimetableRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service for attendance
+ * Marking a period touches one register row (locked, hands out the session
+ * ordinal), one session row and one bitmap row per student on the roll, all in
+ * a single transaction: missing bitmap rows are created by one INSERT ... SELECT
+ * and the changed ones are written as batched updates. Percentages come from the running
+ * counts; bitmaps are only decoded to list individual absences.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AttendanceService {
+
+    private final AttendanceRegisterRepository registerRepository;
+    private final AttendanceSessionRepository sessionRepository;
+    private final StudentAttendanceRepository studentAttendanceRepository;
+    private final TimetableRepository timetableRepository;
+    private final TeacherRepository teacherRepository;
+    private final StudentRepository studentRepository;
+
+    /**
+     * Mark one timetable period for the whole class on a date
+     */
+    @Transactional
+    public AttendanceSessionResponse markSession(MarkAttendanceRequest request) {
+        Timetable slot = timetableRepository.findById(request.getTimetableId())
+                .orElseThrow(() -> new ResourceNotFoundException("Timetable", "id", request.getTimetableId()));
+        if (!Boolean.TRUE.equals(slot.getIsActive())) {
+            throw new BadRequestException("Timetable slot is not active");
+        }
+        if (request.getDate().getDayOfWeek() != slot.getDayOfWeek()) {
+            throw new BadRequestException("Timetable slot is on " + slot.getDayOfWeek()
+                    + ", not on " + request.getDate().getDayOfWeek());
+        }
+        checkCanMark(slot);
+
+        String section = StringUtils.hasText(slot.getSection()) ? slot.getSection() : null;
+        List<Long> roster = studentRepository.findIdsByClass(slot.getClassName(), section, StudentStatus.ACTIVE);
+        Set<Long> absentees = request.getAbsentStudentIds() != null ? request.getAbsentStudentIds() : Set.of();
+        if (!new HashSet<>(roster).containsAll(absentees)) {
+            throw new BadRequestException("Absent students must belong to " + slot.getClassName()
+                    + (section != null ? " " + section : ""));
+        }
+
+        AttendanceRegister register = lockRegister(slot.getClassName(), section,
+                request.getAcademicYear(), request.getTerm());
+
+        AttendanceSession session = sessionRepository
+                .findByRegister_IdAndSessionDateAndTimetable_Id(register.getId(), request.getDate(), slot.getId())
+                .orElse(null);
+        boolean corrected = session != null;
+        if (session == null) {
+            session = AttendanceSession.builder()
+                    .register(register)
+                    .ordinal(register.nextOrdinal())
+                    .sessionDate(request.getDate())
+                    .timetable(slot)
+                    .subject(slot.getSubject())
+                    .build();
+        }
+        int ordinal = session.getOrdinal();
+
+        // One bitmap row per student; empty rows for students on their first marked period of the term
+        // are created in one statement, so the first marking of a term costs no per-student inserts
+        if (!roster.isEmpty()) {
+            studentAttendanceRepository.insertMissing(register.getId(), roster, auditUser(), LocalDateTime.now());
+        }
+        Map<Long, StudentAttendance> rows = studentAttendanceRepository
+                .findByRegisterAndStudents(register.getId(), roster).stream()
+                .collect(Collectors.toMap(a -> a.getStudent().getId(), Function.identity()));
+        List<StudentAttendance> changed = new ArrayList<>();
+        for (Long studentId : roster) {
+            StudentAttendance attendance = rows.get(studentId);
+            if (attendance.mark(ordinal, !absentees.contains(studentId))) {
+                changed.add(attendance);
+            }
+        }
+
+        session.setPresentCount(roster.size() - absentees.size());
+        session.setAbsentCount(absentees.size());
+        session = sessionRepository.save(session);
+        studentAttendanceRepository.saveAll(changed);
+
+        log.info("Attendance {} for {} {} {} period {} on {}: {} present, {} absent",
+                corrected ? "corrected" : "marked", slot.getClassName(), section != null ? section : "",
+                slot.getSubject(), ordinal, request.getDate(), session.getPresentCount(), session.getAbsentCount());
+
+        return AttendanceSessionResponse.builder()
+                .sessionId(session.getId())
+                .timetableId(slot.getId())
+                .className(slot.getClassName())
+                .section(section)
+                .subject(session.getSubject())
+                .date(session.getSessionDate())
+                .ordinal(ordinal)
+                .present(session.getPresentCount())
+                .absent(session.getAbsentCount())
+                .corrected(corrected)
+                .build();
+    }
+
+    /**
+     * Term attendance of one student from the stored counts
+     */
+    @Transactional(readOnly = true)
+    public AttendanceSummaryResponse getStudentSummary(Long studentId, String academicYear, String term) {
+        if (!studentRepository.existsById(studentId)) {
+            throw new ResourceNotFoundException("Student", "id", studentId);
+        }
+        List<AttendanceTotals> totals = studentAttendanceRepository.findTotalsByStudent(studentId, academicYear, term);
+        int marked = totals.isEmpty() ? 0 : totals.get(0).getMarked().intValue();
+        int present = totals.isEmpty() ? 0 : totals.get(0).getPresent().intValue();
+        return toSummary(studentId, null, academicYear, term, marked, present);
+    }
+
+    /**
+     * Term attendance of every student in a class register
+     */
+    @Transactional(readOnly = true)
+    public List<AttendanceSummaryResponse> getClassSummary(String className, String section,
+                                                           String academicYear, String term) {
+        String sectionOrNull = StringUtils.hasText(section) ? section : null;
+        return registerRepository.findByClassAndTerm(className, sectionOrNull, academicYear, term)
+                .map(register -> studentAttendanceRepository.findTotalsByRegister(register.getId()).stream()
+                        .map(row -> toSummary(row.getStudentId(), row.getFirstName() + " " + row.getLastName(),
+                                academicYear, term, row.getMarked().intValue(), row.getPresent().intValue()))
+                        .toList())
+                .orElse(List.of());
+    }
+
+    /**
+     * Periods a student missed in a term, decoded from the bitmaps
+     */
+    @Transactional(readOnly = true)
+    public List<AbsenceResponse> getAbsences(Long studentId, String academicYear, String term) {
+        List<AbsenceResponse> absences = new ArrayList<>();
+        for (StudentAttendance attendance : studentAttendanceRepository
+                .findByStudent_IdAndAcademicYearAndTerm(studentId, academicYear, term)) {
+            BitSet absent = attendance.getAbsentOrdinals();
+            if (absent.isEmpty()) {
+                continue;
+            }
+            AttendanceRegister register = attendance.getRegister();
+            List<Integer> ordinals = absent.stream().boxed().toList();
+            for (AttendanceSession session : sessionRepository.findByRegisterAndOrdinals(register.getId(), ordinals)) {
+                absences.add(AbsenceResponse.builder()
+                        .date(session.getSessionDate())
+                        .subject(session.getSubject())
+                        .className(register.getClassName())
+                        .section(register.getSection())
+                        .build());
+            }
+        }
+        return absences;
+    }
+
+    private AttendanceRegister lockRegister(String className, String section, String academicYear, String term) {
+        registerRepository.insertIfAbsent(className, section, academicYear, term, auditUser(), LocalDateTime.now());
+        return registerRepository.findForUpdate(className, section, academicYear, term)
+                .orElseThrow(() -> new IllegalStateException("Attendance register missing after insert"));
+    }
+
+    /**
+     * Admins and principals may mark any period; everyone else only the periods they teach
+     */
+    private void checkCanMark(Timetable slot) {
+        if (SecurityUtils.hasRole(Role.ADMIN.name()) || SecurityUtils.hasRole(Role.PRINCIPAL.name())) {
+            return;
+        }
+        Long teacherId = teacherRepository.findByUserId(SecurityUtils.getCurrentUserId())
+                .map(Teacher::getId)
+                .orElse(null);
+        if (!slot.getTeacher().getId().equals(teacherId)) {
+            throw new AccessDeniedException("Only the assigned teacher can mark this period");
+        }
+    }
+
+    private static String auditUser() {
+        String username = SecurityUtils.getCurrentUsername();
+        return username != null ? username : "system";
+    }
+
+    private static AttendanceSummaryResponse toSummary(Long studentId, String studentName, String academicYear,
+                                                       String term, int marked, int present) {
+        return AttendanceSummaryResponse.builder()
+                .studentId(studentId)
+                .studentName(studentName)
+                .academicYear(academicYear)
+                .term(term)
+                .sessionsMarked(marked)
+                .present(present)
+                .absent(marked - present)
+                .percentage(marked > 0 ? Math.round(present * 1000.0 / marked) / 10.0 : 0.0)
+                .build();
+    }
+}
@@ -10,11 +10,10 @@ import lombok.*;
  */
 @Entity
 @Table(name = "audit_logs", indexes = {
-        @Index(name = "idx_audit_user", columnList = "username"),
+        @Index(name = "idx_audit_user_created", columnList = "username, createdAt DESC"),
         @Index(name = "idx_audit_action", columnList = "action"),
-        @Index(name = "idx_audit_entity", columnList = "entityType, entityId"),
-        @Index(name = "idx_audit_created", columnList = "createdAt")
-})
+        @Index(name = "idx_audit_entity", columnList = "entityType, entityId")
+}) // plus a BRIN index on createdAt, see db/migration
 @Getter
 @Setter
 @NoArgsConstructor
@@ -2,6 +2,7 @@ package com.school.sms.audit.service;
 
 import com.school.sms.audit.entity.AuditLog;
 import com.school.sms.audit.repository.AuditLogRepository;
+import com.school.sms.common.async.ExecutorNames;
 import com.school.sms.common.util.SecurityUtils;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -32,7 +33,7 @@ public class AuditService {
      * Log an action
      * Async to not block main transaction
      */
-    @Async
+    @Async(ExecutorNames.AUDIT)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logAction(String action, String entityType, Long entityId, String details) {
         try {
@@ -64,7 +65,7 @@ public class AuditService {
     /**
      * Log a failed action
      */
-    @Async
+    @Async(ExecutorNames.AUDIT)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logFailedAction(String action, String entityType, Long entityId, String errorMessage) {
         try {
@@ -0,0 +1,29 @@
+package com.school.sms.auth.controller;
+
+import com.school.sms.auth.dto.PasswordPoolStatsResponse;
+import com.school.sms.common.dto.ApiResponse;
+import com.school.sms.security.PasswordHashingExecutor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller exposing authentication internals to admins
+ */
+@RestController
+@RequestMapping("/api/admin/auth")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AuthAdminController {
+
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    @GetMapping("/password-pool")
+    public ResponseEntity<ApiResponse<PasswordPoolStatsResponse>> getPasswordPoolStats() {
+        return ResponseEntity.ok(ApiResponse.success(
+                "Password pool statistics retrieved successfully", passwordHashingExecutor.getStats()));
+    }
+}
@@ -4,6 +4,7 @@ import com.school.sms.auth.dto.*;
 import com.school.sms.auth.service.AuthService;
 import com.school.sms.common.dto.ApiResponse;
 import com.school.sms.security.UserDetailsImpl;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,10 +30,13 @@ public class AuthController {
      * POST /api/auth/login
      */
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest request) {
-        log.info("Login request received for: {}", request.getUsernameOrEmail());
+    public ResponseEntity<ApiResponse<LoginResponse>> login(
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest) {
+        log.debug("Login request received for: {}", request.getUsernameOrEmail());
 
-        LoginResponse response = authService.login(request);
+        // Client address, resolved from X-Forwarded-For of trusted proxies (server.forward-headers-strategy)
+        LoginResponse response = authService.login(request, httpRequest.getRemoteAddr());
 
         return ResponseEntity.ok(
                 ApiResponse.success("Login successful", response));
@@ -44,7 +48,7 @@ public class AuthController {
      */
     @PostMapping("/register")
     public ResponseEntity<ApiResponse<LoginResponse>> register(@Valid @RequestBody RegisterRequest request) {
-        log.info("Registration request received for: {}", request.getUsername());
+        log.debug("Registration request received for: {}", request.getUsername());
 
         LoginResponse response = authService.register(request);
 
@@ -55,10 +59,12 @@ public class AuthController {
     /**
      * Logout endpoint
      * POST /api/auth/logout
+     * Send the refresh token to revoke it server-side
      */
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Void>> logout() {
-        authService.logout();
+    public ResponseEntity<ApiResponse<Void>> logout(
+            @RequestBody(required = false) RefreshTokenRequest request) {
+        authService.logout(request);
 
         return ResponseEntity.ok(
                 ApiResponse.success("Logout successful", null));
@@ -71,7 +77,7 @@ public class AuthController {
     @PostMapping("/forgot-password")
     public ResponseEntity<ApiResponse<Void>> forgotPassword(
             @Valid @RequestBody ForgotPasswordRequest request) {
-        log.info("Forgot password request received for: {}", request.getEmail());
+        log.debug("Forgot password request received for: {}", request.getEmail());
 
         authService.forgotPassword(request);
 
@@ -86,7 +92,7 @@ public class AuthController {
     @PostMapping("/reset-password")
     public ResponseEntity<ApiResponse<Void>> resetPassword(
             @Valid @RequestBody ResetPasswordRequest request) {
-        log.info("Reset password request received");
+        log.debug("Reset password request received");
 
         authService.resetPassword(request);
 
@@ -94,6 +100,36 @@ public class AuthController {
                 ApiResponse.success("Password reset successful", null));
     }
 
+    /**
+     * Activate account endpoint
+     * POST /api/auth/activate
+     */
+    @PostMapping("/activate")
+    public ResponseEntity<ApiResponse<Void>> activateAccount(
+            @Valid @RequestBody ActivateAccountRequest request) {
+        log.debug("Account activation request received");
+
+        authService.activateAccount(request);
+
+        return ResponseEntity.ok(
+                ApiResponse.success("Account activated successfully", null));
+    }
+
+    /**
+     * Email verification endpoint, called by the page the verification link opens
+     * POST /api/auth/verify-email
+     */
+    @PostMapping("/verify-email")
+    public ResponseEntity<ApiResponse<Void>> verifyEmail(
+            @Valid @RequestBody VerifyEmailRequest request) {
+        log.debug("Email verification request received");
+
+        authService.verifyEmail(request);
+
+        return ResponseEntity.ok(
+                ApiResponse.success("Email verified successfully", null));
+    }
+
     /**
      * Change password endpoint (requires authentication)
      * POST /api/auth/change-password
@@ -102,7 +138,7 @@ public class AuthController {
     public ResponseEntity<ApiResponse<Void>> changePassword(
             @Valid @RequestBody ChangePasswordRequest request,
             @AuthenticationPrincipal UserDetailsImpl userDetails) {
-        log.info("Change password request received for user: {}", userDetails.getUsername());
+        log.debug("Change password request received for user: {}", userDetails.getUsername());
 
         authService.changePassword(request, userDetails.getId());
 
@@ -117,7 +153,7 @@ public class AuthController {
     @PostMapping("/refresh")
     public ResponseEntity<ApiResponse<LoginResponse>> refreshToken(
             @Valid @RequestBody RefreshTokenRequest request) {
-        log.info("Refresh token request received");
+        log.debug("Refresh token request received");
 
         LoginResponse response = authService.refreshToken(request);
 
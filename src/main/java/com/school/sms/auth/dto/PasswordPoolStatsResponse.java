@@ -0,0 +1,28 @@
+package com.school.sms.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for password hashing pool metrics
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PasswordPoolStatsResponse {
+
+    private Integer poolSize;
+    private Integer activeThreads;
+    private Integer queueDepth;
+    private Integer queueCapacity;
+    private Long submitted;
+    private Long completed;
+    private Long rejected;
+    private Long timedOut;
+    private Long abandoned;
+    private Double averageQueueMillis;
+    private Double averageHashMillis;
+}
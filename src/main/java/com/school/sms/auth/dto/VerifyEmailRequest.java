@@ -0,0 +1,20 @@
+package com.school.sms.auth.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Email verification request DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VerifyEmailRequest {
+
+    @NotBlank(message = "Verification token is required")
+    private String token;
+}
@@ -0,0 +1,48 @@
+package com.school.sms.auth.entity;
+
+import com.school.sms.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Refresh Token Entity
+ * One row per issued refresh token. Only a SHA-256 hash of the token id (jti)
+ * is stored. Tokens rotated from the same login share a family id, so replaying
+ * an already-used token can revoke the whole family.
+ */
+@Entity
+@Table(name = "refresh_tokens", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_refresh_token_hash", columnNames = { "tokenHash" })
+}, indexes = {
+        @Index(name = "idx_refresh_token_family", columnList = "familyId"),
+        @Index(name = "idx_refresh_token_user", columnList = "user_id"),
+        @Index(name = "idx_refresh_token_expires", columnList = "expiresAt")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshToken extends BaseEntity {
+
+    @Column(nullable = false, updatable = false, length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false, updatable = false, length = 36)
+    private String familyId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false, updatable = false)
+    private User user;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime expiresAt;
+
+    @Column
+    private LocalDateTime usedAt; // set when rotated
+
+    @Column
+    private LocalDateTime revokedAt;
+}
@@ -19,8 +19,6 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "users", indexes = {
-        @Index(name = "idx_user_email", columnList = "email"),
-        @Index(name = "idx_user_username", columnList = "username"),
         @Index(name = "idx_user_role", columnList = "role")
 })
 @Getter
@@ -110,6 +108,13 @@ public class User extends BaseEntity {
     @Column
     private LocalDateTime emailVerificationTokenExpiry;
 
+    // Account activation fields (bulk-created accounts without a password)
+    @Column
+    private String activationToken;
+
+    @Column
+    private LocalDateTime activationTokenExpiry;
+
     /**
      * Get full name
      */
@@ -5,13 +5,16 @@ import com.school.sms.common.enums.Role;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * User Repository
@@ -34,6 +37,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmailVerificationToken(String token);
 
+    Optional<User> findByActivationToken(String token);
+
     List<User> findByRole(Role role);
 
     Page<User> findByRole(Role role, Pageable pageable);
@@ -44,6 +49,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.accountLockedUntil IS NOT NULL AND u.accountLockedUntil < :now")
     List<User> findUsersWithExpiredLocks(LocalDateTime now);
 
+    @Modifying
+    @Query("UPDATE User u SET u.lastLoginAt = :lastLoginAt, u.failedLoginAttempts = 0, u.accountLockedUntil = NULL WHERE u.id = :id")
+    int recordLogin(@Param("id") Long id, @Param("lastLoginAt") LocalDateTime lastLoginAt);
+
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
+
+    @Modifying
+    @Query("UPDATE User u SET u.failedLoginAttempts = :attempts, u.accountLockedUntil = :lockedUntil WHERE u.id = :id")
+    int lockAccount(@Param("id") Long id, @Param("attempts") int attempts, @Param("lockedUntil") LocalDateTime lockedUntil);
+
     Long countByRole(Role role);
 
     @Query("SELECT COUNT(u) FROM User u WHERE u.active = true AND u.role = :role")
@@ -55,4 +72,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
             "LOWER(u.firstName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
             "LOWER(u.lastName) LIKE LOWER(CONCAT('%', :search, '%'))")
     List<User> searchUsers(@Param("search") String search);
+
+    @Query("SELECT u.username FROM User u WHERE u.username IN :usernames")
+    Set<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
 }
@@ -3,11 +3,16 @@ package com.school.sms.auth.service;
 import com.school.sms.auth.dto.*;
 import com.school.sms.auth.entity.User;
 import com.school.sms.auth.repository.UserRepository;
+import com.school.sms.common.cache.CacheEvictor;
 import com.school.sms.common.enums.AccountStatus;
+import com.school.sms.common.exception.AppException;
 import com.school.sms.common.exception.AuthenticationException;
 import com.school.sms.common.exception.BadRequestException;
 import com.school.sms.common.exception.ResourceNotFoundException;
+import com.school.sms.common.exception.TooManyRequestsException;
+import com.school.sms.notification.service.NotificationService;
 import com.school.sms.security.JwtTokenProvider;
+import com.school.sms.security.RolePasswordEncoder;
 import com.school.sms.security.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,9 +21,9 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -33,9 +38,14 @@ import java.util.UUID;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final RolePasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
+    private final CacheEvictor cacheEvictor;
+    private final TransactionTemplate transactionTemplate;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final RefreshTokenService refreshTokenService;
+    private final NotificationService notificationService;
 
     @Value("${app.security.max-login-attempts}")
     private int maxLoginAttempts;
@@ -45,14 +55,23 @@ public class AuthService {
 
     /**
      * Login user and return JWT tokens
+     * Failed attempts are counted in memory; the lock is only persisted when the threshold trips.
+     * The per-IP allowance only turns failures into 429s: correct credentials are never refused
+     * because of the client's address, so a school behind one NAT address is not locked out.
+     * Not transactional: the lookup and the hash check run without holding a connection while
+     * waiting for the hashing pool, and only the writes afterwards open a short transaction.
      */
-    @Transactional
-    public LoginResponse login(LoginRequest request) {
+    public LoginResponse login(LoginRequest request, String clientIp) {
         // Find user
         User user = userRepository.findByUsernameOrEmail(
                 request.getUsernameOrEmail(),
                 request.getUsernameOrEmail())
-                .orElseThrow(() -> new AuthenticationException("Invalid username or password"));
+                .orElse(null);
+        if (user == null) {
+            // Unknown accounts cost no hashing, so nothing is checked before counting the failure
+            loginAttemptLimiter.recordIpFailure(clientIp);
+            throw loginFailure(clientIp);
+        }
 
         // Check if account is locked
         if (user.isAccountLocked()) {
@@ -68,6 +87,10 @@ public class AuthService {
                             ". Please contact administrator.");
         }
 
+        if (loginAttemptLimiter.accountRetryAfterSeconds(user.getId()) > 0) {
+            throw new AuthenticationException("Too many failed login attempts. Please try again later.");
+        }
+
         try {
             // Authenticate
             Authentication authentication = authenticationManager.authenticate(
@@ -76,29 +99,43 @@ public class AuthService {
                             request.getPassword()));
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
+            loginAttemptLimiter.resetAccount(user.getId());
+
+            // Re-encode while the raw password is at hand if the role's hashing policy changed;
+            // hashed here, before the write transaction opens
+            String rehashed = passwordEncoder.needsRehash(user.getPassword(), user.getRole())
+                    ? passwordEncoder.encode(request.getPassword(), user.getRole())
+                    : null;
+
+            // Update last login and clear failed attempts, then issue the refresh token
+            LocalDateTime now = LocalDateTime.now();
+            String refreshToken = transactionTemplate.execute(status -> {
+                userRepository.recordLogin(user.getId(), now);
+                if (rehashed != null) {
+                    userRepository.updatePassword(user.getId(), rehashed);
+                }
+                return refreshTokenService.issue(user);
+            });
+            user.setLastLoginAt(now);
+            if (rehashed != null) {
+                log.info("Password hash re-encoded under current policy for user: {}", user.getUsername());
+            }
 
-            // Reset failed login attempts
+            // Only clearing a persisted lock changes what the admin account lists show
             if (user.getFailedLoginAttempts() > 0) {
-                user.setFailedLoginAttempts(0);
-                user.setAccountLockedUntil(null);
+                cacheEvictor.usersChanged(user.getRole());
             }
 
-            // Update last login
-            user.setLastLoginAt(LocalDateTime.now());
-            userRepository.save(user);
-
-            // Generate tokens
             String accessToken = jwtTokenProvider.generateToken(authentication);
-            String refreshToken = jwtTokenProvider.generateRefreshToken(user);
 
-            log.info("User logged in successfully: {}", user.getUsername());
+            log.debug("User logged in successfully: {}", user.getUsername());
 
             return buildLoginResponse(user, accessToken, refreshToken);
 
         } catch (org.springframework.security.core.AuthenticationException ex) {
-            // Increment failed login attempts
-            handleFailedLogin(user);
-            throw new AuthenticationException("Invalid username or password");
+            // Count the failure in memory
+            handleFailedLogin(user, clientIp);
+            throw loginFailure(clientIp);
         }
     }
 
@@ -126,7 +163,7 @@ public class AuthService {
         User user = User.builder()
                 .username(request.getUsername())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordEncoder.encode(request.getPassword(), request.getRole()))
                 .firstName(request.getFirstName())
                 .lastName(request.getLastName())
                 .phoneNumber(request.getPhoneNumber())
@@ -144,6 +181,8 @@ public class AuthService {
         user.setEmailVerificationTokenExpiry(LocalDateTime.now().plusDays(1));
 
         userRepository.save(user);
+        cacheEvictor.usersChanged(user.getRole());
+        notificationService.sendEmailVerification(user, user.getEmailVerificationToken());
 
         log.info("User registered successfully: {}", user.getUsername());
 
@@ -156,17 +195,22 @@ public class AuthService {
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
         String accessToken = jwtTokenProvider.generateToken(authentication);
-        String refreshToken = jwtTokenProvider.generateRefreshToken(user);
+        String refreshToken = refreshTokenService.issue(user);
 
         return buildLoginResponse(user, accessToken, refreshToken);
     }
 
     /**
-     * Logout user (client-side token deletion)
+     * Logout user
+     * Revokes the refresh token family server-side; access tokens expire on their own
      */
-    public void logout() {
+    @Transactional
+    public void logout(RefreshTokenRequest request) {
+        if (request != null && request.getRefreshToken() != null) {
+            refreshTokenService.revoke(request.getRefreshToken());
+        }
         SecurityContextHolder.clearContext();
-        log.info("User logged out successfully");
+        log.debug("User logged out successfully");
     }
 
     /**
@@ -183,10 +227,9 @@ public class AuthService {
         user.setPasswordResetTokenExpiry(LocalDateTime.now().plusHours(24));
 
         userRepository.save(user);
+        notificationService.sendPasswordReset(user, resetToken);
 
-        // TODO: Send email with reset link
         log.info("Password reset token generated for user: {}", user.getUsername());
-        log.info("Reset token: {}", resetToken); // Remove in production
     }
 
     /**
@@ -209,17 +252,71 @@ public class AuthService {
         }
 
         // Update password
-        user.setPassword(passwordEncoder.encode(request.getNewPassword()));
+        user.setPassword(passwordEncoder.encode(request.getNewPassword(), user.getRole()));
         user.setPasswordResetToken(null);
         user.setPasswordResetTokenExpiry(null);
         user.setPasswordChangedAt(LocalDateTime.now());
         user.setPasswordExpired(false);
 
         userRepository.save(user);
+        refreshTokenService.revokeAllForUser(user.getId());
 
         log.info("Password reset successfully for user: {}", user.getUsername());
     }
 
+    /**
+     * Confirm the email address of a self-registered account with its single-use token
+     */
+    @Transactional
+    public void verifyEmail(VerifyEmailRequest request) {
+        User user = userRepository.findByEmailVerificationToken(request.getToken())
+                .orElseThrow(() -> new BadRequestException("Invalid or expired verification token"));
+
+        if (user.getEmailVerificationTokenExpiry() == null
+                || user.getEmailVerificationTokenExpiry().isBefore(LocalDateTime.now())) {
+            throw new BadRequestException("Verification token has expired");
+        }
+
+        user.setEmailVerified(true);
+        user.setEmailVerificationToken(null);
+        user.setEmailVerificationTokenExpiry(null);
+
+        userRepository.save(user);
+        cacheEvictor.usersChanged(user.getRole());
+
+        log.info("Email verified for user: {}", user.getUsername());
+    }
+
+    /**
+     * Activate a bulk-created account with its single-use token
+     */
+    @Transactional
+    public void activateAccount(ActivateAccountRequest request) {
+        // Validate passwords match
+        if (!request.getNewPassword().equals(request.getConfirmPassword())) {
+            throw new BadRequestException("Passwords do not match");
+        }
+
+        User user = userRepository.findByActivationToken(request.getToken())
+                .orElseThrow(() -> new BadRequestException("Invalid or expired activation token"));
+
+        if (user.getActivationTokenExpiry() == null || user.getActivationTokenExpiry().isBefore(LocalDateTime.now())) {
+            throw new BadRequestException("Activation token has expired");
+        }
+
+        user.setPassword(passwordEncoder.encode(request.getNewPassword(), user.getRole()));
+        user.setActivationToken(null);
+        user.setActivationTokenExpiry(null);
+        user.setAccountStatus(AccountStatus.ACTIVE);
+        user.setPasswordChangedAt(LocalDateTime.now());
+        user.setPasswordExpired(false);
+
+        userRepository.save(user);
+        cacheEvictor.usersChanged(user.getRole());
+
+        log.info("Account activated for user: {}", user.getUsername());
+    }
+
     /**
      * Change password for authenticated user
      */
@@ -239,57 +336,62 @@ public class AuthService {
         }
 
         // Update password
-        user.setPassword(passwordEncoder.encode(request.getNewPassword()));
+        user.setPassword(passwordEncoder.encode(request.getNewPassword(), user.getRole()));
         user.setPasswordChangedAt(LocalDateTime.now());
         user.setPasswordExpired(false);
 
         userRepository.save(user);
+        refreshTokenService.revokeAllForUser(user.getId());
 
         log.info("Password changed successfully for user: {}", user.getUsername());
     }
 
     /**
      * Refresh access token
+     * Rotates the refresh token; the user comes from the same indexed lookup
      */
-    @Transactional
+    @Transactional(noRollbackFor = AuthenticationException.class)
     public LoginResponse refreshToken(RefreshTokenRequest request) {
-        String refreshToken = request.getRefreshToken();
-
-        // Validate refresh token
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new AuthenticationException("Invalid refresh token");
-        }
-
-        // Get user from token
-        Long userId = jwtTokenProvider.getUserIdFromToken(refreshToken);
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+        User user = rotation.getUser();
 
         // Check if user can login
         if (!user.canLogin()) {
             throw new AuthenticationException("Account is not active");
         }
 
-        // Generate new tokens
+        // Generate new access token
         String newAccessToken = jwtTokenProvider.generateTokenFromUser(user);
-        String newRefreshToken = jwtTokenProvider.generateRefreshToken(user);
 
-        return buildLoginResponse(user, newAccessToken, newRefreshToken);
+        return buildLoginResponse(user, newAccessToken, rotation.getRefreshToken());
     }
 
     /**
      * Handle failed login attempts
+     * Only a tripped threshold reaches the database, as a single-row lock update
      */
-    private void handleFailedLogin(User user) {
-        int attempts = user.getFailedLoginAttempts() + 1;
-        user.setFailedLoginAttempts(attempts);
-
-        if (attempts >= maxLoginAttempts) {
-            user.setAccountLockedUntil(LocalDateTime.now().plusMinutes(lockoutDurationMinutes));
+    private void handleFailedLogin(User user, String clientIp) {
+        loginAttemptLimiter.recordIpFailure(clientIp);
+
+        if (loginAttemptLimiter.recordAccountFailure(user.getId())) {
+            transactionTemplate.executeWithoutResult(status -> userRepository.lockAccount(user.getId(),
+                    maxLoginAttempts, LocalDateTime.now().plusMinutes(lockoutDurationMinutes)));
+            loginAttemptLimiter.resetAccount(user.getId());
+            cacheEvictor.usersChanged(user.getRole());
             log.warn("Account locked due to too many failed login attempts: {}", user.getUsername());
         }
+    }
 
-        userRepository.save(user);
+    /**
+     * Failure response for a rejected login: 429 once the client IP is over its failure allowance
+     */
+    private AppException loginFailure(String clientIp) {
+        long ipRetryAfter = loginAttemptLimiter.ipRetryAfterSeconds(clientIp);
+        if (ipRetryAfter > 0) {
+            return new TooManyRequestsException(
+                    "Too many failed login attempts. Please try again later.", ipRetryAfter);
+        }
+        return new AuthenticationException("Invalid username or password");
     }
 
     /**
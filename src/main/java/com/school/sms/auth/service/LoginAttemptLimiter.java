@@ -0,0 +1,141 @@
+package com.school.sms.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * In-memory limiter for failed login attempts
+ * Keeps one token bucket per account and one per client IP in a bounded
+ * Caffeine map. Every failed attempt takes a token and tokens refill evenly over
+ * the window, so a bucket approximates a sliding window of failures without
+ * touching the database. Only an empty account bucket is persisted (as a lock).
+ * The IP bucket is sized for failure bursts well above a class mistyping passwords
+ * behind one NAT address, and it never blocks a login with correct credentials.
+ */
+@Component
+@Slf4j
+public class LoginAttemptLimiter {
+
+    private static final String ACCOUNT_PREFIX = "account:";
+    private static final String IP_PREFIX = "ip:";
+
+    @Value("${app.security.max-login-attempts}")
+    private int maxAccountFailures;
+
+    @Value("${app.security.lockout-duration-minutes}")
+    private int accountWindowMinutes;
+
+    @Value("${app.security.login-limiter.ip-max-failures:200}")
+    private int maxIpFailures;
+
+    @Value("${app.security.login-limiter.ip-window-minutes:15}")
+    private int ipWindowMinutes;
+
+    @Value("${app.security.login-limiter.max-tracked-keys:100000}")
+    private long maxTrackedKeys;
+
+    private Cache<String, TokenBucket> buckets;
+
+    @PostConstruct
+    public void init() {
+        // A bucket that has been idle for its window is full again, so it can be dropped
+        buckets = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(Duration.ofMinutes(Math.max(accountWindowMinutes, ipWindowMinutes)))
+                .build();
+    }
+
+    /**
+     * Seconds until the IP may try again, 0 when allowed
+     */
+    public long ipRetryAfterSeconds(String clientIp) {
+        return retryAfterSeconds(IP_PREFIX + clientIp);
+    }
+
+    /**
+     * Seconds until the account may try again, 0 when allowed
+     */
+    public long accountRetryAfterSeconds(Long userId) {
+        return retryAfterSeconds(ACCOUNT_PREFIX + userId);
+    }
+
+    /**
+     * Record a failure from an IP
+     */
+    public void recordIpFailure(String clientIp) {
+        bucketFor(IP_PREFIX + clientIp, maxIpFailures, ipWindowMinutes).tryConsume();
+    }
+
+    /**
+     * Record a failure against an account
+     *
+     * @return true when this failure exhausted the account's allowance
+     */
+    public boolean recordAccountFailure(Long userId) {
+        TokenBucket bucket = bucketFor(ACCOUNT_PREFIX + userId, maxAccountFailures, accountWindowMinutes);
+        bucket.tryConsume();
+        return bucket.retryAfterSeconds() > 0;
+    }
+
+    /**
+     * Forget an account's failures after a successful login or a persisted lock
+     */
+    public void resetAccount(Long userId) {
+        buckets.invalidate(ACCOUNT_PREFIX + userId);
+    }
+
+    private long retryAfterSeconds(String key) {
+        TokenBucket bucket = buckets.getIfPresent(key);
+        return bucket != null ? bucket.retryAfterSeconds() : 0;
+    }
+
+    private TokenBucket bucketFor(String key, int capacity, int windowMinutes) {
+        return buckets.get(key, k -> new TokenBucket(capacity, Duration.ofMinutes(windowMinutes)));
+    }
+
+    /**
+     * Token bucket refilled continuously at capacity tokens per window
+     */
+    private static final class TokenBucket {
+
+        private final int capacity;
+        private final double nanosPerToken;
+        private double tokens;
+        private long lastRefillNanos;
+
+        private TokenBucket(int capacity, Duration window) {
+            this.capacity = capacity;
+            this.nanosPerToken = (double) window.toNanos() / capacity;
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        synchronized void tryConsume() {
+            refill();
+            if (tokens >= 1) {
+                tokens -= 1;
+            }
+        }
+
+        synchronized long retryAfterSeconds() {
+            refill();
+            if (tokens >= 1) {
+                return 0;
+            }
+            double nanosUntilToken = (1 - tokens) * nanosPerToken;
+            return Math.max(1, (long) Math.ceil(nanosUntilToken / 1_000_000_000d));
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) / nanosPerToken);
+            lastRefillNanos = now;
+        }
+    }
+}
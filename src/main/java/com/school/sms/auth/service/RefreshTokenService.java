@@ -0,0 +1,182 @@
+package com.school.sms.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.school.sms.auth.entity.RefreshToken;
+import com.school.sms.auth.entity.User;
+import com.school.sms.auth.repository.RefreshTokenRepository;
+import com.school.sms.common.exception.AuthenticationException;
+import com.school.sms.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Service for refresh token families
+ * Every refresh rotates the token; presenting a token that was already rotated
+ * is treated as theft and revokes the whole family. Revoked family ids are kept
+ * in memory so replays of revoked tokens are rejected without a database hit.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Value("${app.security.refresh-tokens.revocation-cache-size:100000}")
+    private long revocationCacheSize;
+
+    private Cache<String, Boolean> revokedFamilies;
+
+    @PostConstruct
+    public void init() {
+        // A revoked family only matters until its longest-lived token expires
+        revokedFamilies = Caffeine.newBuilder()
+                .maximumSize(revocationCacheSize)
+                .expireAfterWrite(Duration.ofMillis(jwtTokenProvider.getRefreshExpirationTime()))
+                .build();
+    }
+
+    /**
+     * Issue the first refresh token of a new family (login, registration)
+     */
+    @Transactional
+    public String issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchange a refresh token for a new one in the same family
+     */
+    @Transactional(noRollbackFor = AuthenticationException.class)
+    public Rotation rotate(String refreshToken) {
+        Claims claims = parse(refreshToken);
+        String familyId = claims.get(JwtTokenProvider.FAMILY_CLAIM, String.class);
+        if (familyId == null || claims.getId() == null) {
+            throw new AuthenticationException("Invalid refresh token");
+        }
+        if (revokedFamilies.getIfPresent(familyId) != null) {
+            throw new AuthenticationException("Refresh token has been revoked");
+        }
+
+        RefreshToken stored = refreshTokenRepository.findByTokenHashWithUser(hash(claims.getId()))
+                .orElseThrow(() -> new AuthenticationException("Invalid refresh token"));
+
+        if (stored.getRevokedAt() != null) {
+            revokedFamilies.put(familyId, Boolean.TRUE);
+            throw new AuthenticationException("Refresh token has been revoked");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (stored.getExpiresAt().isBefore(now)) {
+            throw new AuthenticationException("Refresh token has expired");
+        }
+
+        // Conditional update so two concurrent refreshes cannot both win
+        if (stored.getUsedAt() != null || refreshTokenRepository.markUsed(stored.getId(), now) == 0) {
+            revokeFamily(familyId);
+            log.warn("Refresh token reuse detected for user {}; token family revoked", stored.getUser().getUsername());
+            throw new AuthenticationException("Refresh token reuse detected. Please log in again.");
+        }
+
+        User user = stored.getUser();
+        return new Rotation(user, issue(user, familyId));
+    }
+
+    /**
+     * Revoke the family of the given refresh token (logout)
+     */
+    @Transactional
+    public void revoke(String refreshToken) {
+        String familyId;
+        try {
+            familyId = parse(refreshToken).get(JwtTokenProvider.FAMILY_CLAIM, String.class);
+        } catch (AuthenticationException ex) {
+            return; // nothing to revoke
+        }
+        if (familyId != null) {
+            revokeFamily(familyId);
+        }
+    }
+
+    /**
+     * Revoke every active family of a user (password change or reset)
+     */
+    @Transactional
+    public void revokeAllForUser(Long userId) {
+        for (String familyId : refreshTokenRepository.findActiveFamilyIds(userId, LocalDateTime.now())) {
+            revokeFamily(familyId);
+        }
+    }
+
+    /**
+     * Purge expired tokens
+     */
+    @Scheduled(cron = "${app.security.refresh-tokens.purge-cron:0 30 3 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired refresh tokens", deleted);
+        }
+    }
+
+    private String issue(User user, String familyId) {
+        String tokenId = UUID.randomUUID().toString();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(tokenId))
+                .familyId(familyId)
+                .user(user)
+                .expiresAt(LocalDateTime.now().plus(Duration.ofMillis(jwtTokenProvider.getRefreshExpirationTime())))
+                .build());
+        return jwtTokenProvider.generateRefreshToken(user, tokenId, familyId);
+    }
+
+    private void revokeFamily(String familyId) {
+        refreshTokenRepository.revokeFamily(familyId, LocalDateTime.now());
+        revokedFamilies.put(familyId, Boolean.TRUE);
+    }
+
+    private Claims parse(String refreshToken) {
+        if (!jwtTokenProvider.validateToken(refreshToken)) {
+            throw new AuthenticationException("Invalid refresh token");
+        }
+        return jwtTokenProvider.getClaims(refreshToken);
+    }
+
+    private static String hash(String tokenId) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(tokenId.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    /**
+     * Result of a rotation: the token's owner and the replacement token
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Rotation {
+        private final User user;
+        private final String refreshToken;
+    }
+}
@@ -0,0 +1,126 @@
+package com.school.sms.common.async;
+
+import com.school.sms.common.dto.ExecutorStatsResponse;
+import com.school.sms.common.util.LogSampler;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Named ThreadPoolTaskExecutor with a fixed queue capacity, an explicit rejection
+ * policy and counted rejections
+ * Saturation is logged (sampled) and exported as async.executor.* meters tagged
+ * with the executor name, next to queue depth and active threads.
+ */
+@Slf4j
+public class BoundedTaskExecutor extends ThreadPoolTaskExecutor implements MeterBinder {
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final RejectionPolicy rejectionPolicy;
+
+    @Getter
+    private final boolean virtualThreads;
+
+    private final int queueCapacity;
+    private final LongAdder rejected = new LongAdder();
+    private final LogSampler logSampler = new LogSampler(Duration.ofSeconds(30));
+
+    public BoundedTaskExecutor(String name, int queueCapacity, RejectionPolicy rejectionPolicy,
+                               boolean virtualThreads) {
+        this.name = name;
+        this.queueCapacity = queueCapacity;
+        this.rejectionPolicy = rejectionPolicy;
+        this.virtualThreads = virtualThreads;
+        setBeanName(name);
+        setThreadNamePrefix(name + "-");
+        setQueueCapacity(queueCapacity);
+        setRejectedExecutionHandler(this::reject);
+        if (virtualThreads) {
+            // Same bounds, but blocked tasks (JDBC, SMTP) no longer hold a platform thread
+            setThreadFactory(Thread.ofVirtual().name(name + "-", 0).factory());
+        }
+    }
+
+    private void reject(Runnable task, ThreadPoolExecutor executor) {
+        rejected.increment();
+        if (logSampler.tryAcquire()) {
+            log.warn("Executor '{}' saturated ({} active, {} queued), applying {} ({} earlier rejections not logged)",
+                    name, executor.getActiveCount(), executor.getQueue().size(), rejectionPolicy,
+                    logSampler.drainSuppressed());
+        }
+
+        switch (rejectionPolicy) {
+            case CALLER_RUNS -> {
+                if (!executor.isShutdown()) {
+                    task.run();
+                }
+            }
+            case DISCARD -> {
+                // dropped
+            }
+            case DISCARD_OLDEST -> {
+                if (!executor.isShutdown()) {
+                    executor.getQueue().poll();
+                    executor.execute(task);
+                }
+            }
+            default -> throw new RejectedExecutionException("Executor '" + name + "' is saturated");
+        }
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Tags tags = Tags.of("name", name);
+        Gauge.builder("async.executor.active", this, e -> e.getThreadPoolExecutor().getActiveCount())
+                .tags(tags).register(registry);
+        Gauge.builder("async.executor.pool.size", this, e -> e.getThreadPoolExecutor().getPoolSize())
+                .tags(tags).register(registry);
+        Gauge.builder("async.executor.queued", this, e -> e.getThreadPoolExecutor().getQueue().size())
+                .tags(tags).register(registry);
+        Gauge.builder("async.executor.queue.remaining", this,
+                        e -> e.getThreadPoolExecutor().getQueue().remainingCapacity())
+                .tags(tags).register(registry);
+        FunctionCounter.builder("async.executor.completed", this,
+                        e -> e.getThreadPoolExecutor().getCompletedTaskCount())
+                .tags(tags).register(registry);
+        FunctionCounter.builder("async.executor.rejected", rejected, LongAdder::sum)
+                .tags(tags.and("policy", rejectionPolicy.name())).register(registry);
+    }
+
+    /**
+     * Current pool state and cumulative counters
+     */
+    public ExecutorStatsResponse getStats() {
+        ThreadPoolExecutor executor = getThreadPoolExecutor();
+        return ExecutorStatsResponse.builder()
+                .name(name)
+                .rejectionPolicy(rejectionPolicy.name())
+                .virtualThreads(virtualThreads)
+                .corePoolSize(executor.getCorePoolSize())
+                .maxPoolSize(executor.getMaximumPoolSize())
+                .poolSize(executor.getPoolSize())
+                .activeThreads(executor.getActiveCount())
+                .queueDepth(executor.getQueue().size())
+                .queueCapacity(queueCapacity)
+                .completed(executor.getCompletedTaskCount())
+                .rejected(rejected.sum())
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.school.sms.common.async;
+
+/**
+ * Bean names of the bounded @Async executors configured in AsyncConfig
+ * Use with @Async(ExecutorNames.AUDIT); un-named @Async runs on DEFAULT
+ */
+public final class ExecutorNames {
+
+    public static final String AUDIT = "auditExecutor";
+    public static final String NOTIFICATIONS = "notificationExecutor";
+    public static final String EXPORTS = "exportExecutor";
+    public static final String REPORTS = "reportExecutor";
+    public static final String LIVE_UPDATES = "liveUpdateExecutor";
+    public static final String DEFAULT = "taskExecutor";
+
+    private ExecutorNames() {
+        throw new IllegalStateException("Utility class");
+    }
+}
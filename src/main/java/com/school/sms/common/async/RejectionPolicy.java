@@ -0,0 +1,19 @@
+package com.school.sms.common.async;
+
+/**
+ * What a bounded executor does with a task once its threads and queue are full
+ */
+public enum RejectionPolicy {
+
+    /** Fail the submission; surfaces to HTTP callers as 503 */
+    ABORT,
+
+    /** Run the task on the submitting thread, slowing the producer down */
+    CALLER_RUNS,
+
+    /** Drop the new task */
+    DISCARD,
+
+    /** Drop the oldest queued task and enqueue the new one */
+    DISCARD_OLDEST
+}
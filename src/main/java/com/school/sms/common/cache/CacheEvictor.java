@@ -0,0 +1,178 @@
+package com.school.sms.common.cache;
+
+import com.school.sms.common.enums.Role;
+import com.school.sms.common.event.EntityChangeEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Evicts individual cache entries affected by a write, on every node
+ * Each write raises an EntityChangeEvent which is applied locally and broadcast
+ * on the InvalidationBus. Inside a transaction both happen after commit, so
+ * readers cannot re-populate an entry with data that is about to change.
+ * Change listeners see every applied event, local or remote.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheEvictor {
+
+    private final CacheManager cacheManager;
+    private final InvalidationBus invalidationBus;
+
+    private final List<Consumer<EntityChangeEvent>> changeListeners = new CopyOnWriteArrayList<>();
+
+    @PostConstruct
+    public void subscribe() {
+        invalidationBus.subscribe(this::apply);
+        invalidationBus.onResync(this::clearAll);
+    }
+
+    /**
+     * Evict a teacher and the timetable of that teacher
+     */
+    public void evictTeacher(Long teacherId) {
+        publish(EntityChangeEvent.builder()
+                .type(EntityChangeEvent.Type.TEACHER)
+                .teacherId(teacherId)
+                .build());
+    }
+
+    /**
+     * Evict every timetable view containing a slot
+     */
+    public void evictTimetableSlot(String className, String section, Long teacherId, DayOfWeek dayOfWeek) {
+        publish(EntityChangeEvent.builder()
+                .type(EntityChangeEvent.Type.TIMETABLE_SLOT)
+                .className(className)
+                .section(section)
+                .teacherId(teacherId)
+                .dayOfWeek(dayOfWeek)
+                .build());
+    }
+
+    public void evictClassRoster(String className, String section) {
+        publish(EntityChangeEvent.builder()
+                .type(EntityChangeEvent.Type.CLASS_ROSTER)
+                .className(className)
+                .section(section)
+                .build());
+    }
+
+    /**
+     * Only for changes shown in the admin account lists (profile, status, lock); nothing cached
+     * depends on it, but each one is pushed to every open admin dashboard, so sign-ins and token
+     * updates must not call it
+     */
+    public void usersChanged(Role role) {
+        publish(EntityChangeEvent.builder()
+                .type(EntityChangeEvent.Type.USERS_BY_ROLE)
+                .role(role)
+                .build());
+    }
+
+    /**
+     * Announce a result publication; nothing cached depends on it, so it only reaches change listeners
+     */
+    public void resultsPublished(String className, String section, String academicYear, String term) {
+        publish(EntityChangeEvent.builder()
+                .type(EntityChangeEvent.Type.RESULTS_PUBLISHED)
+                .className(className)
+                .section(section)
+                .academicYear(academicYear)
+                .term(term)
+                .build());
+    }
+
+    /**
+     * Register a listener called after each event has been applied on this node
+     */
+    public void onChange(Consumer<EntityChangeEvent> listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Apply an event to the local caches
+     */
+    public void apply(EntityChangeEvent event) {
+        switch (event.getType()) {
+            case TEACHER -> {
+                evict(CacheNames.TEACHERS, event.getTeacherId());
+                evict(CacheNames.TIMETABLES_BY_TEACHER, event.getTeacherId());
+            }
+            case TIMETABLE_SLOT -> {
+                evict(CacheNames.TIMETABLES_BY_CLASS, CacheNames.classKey(event.getClassName(), event.getSection()));
+                if (event.getSection() != null && !event.getSection().isEmpty()) {
+                    evict(CacheNames.TIMETABLES_BY_CLASS, CacheNames.classKey(event.getClassName(), null));
+                }
+                evict(CacheNames.TIMETABLES_BY_TEACHER, event.getTeacherId());
+                evict(CacheNames.TIMETABLES_BY_DAY, event.getDayOfWeek());
+            }
+            case CLASS_ROSTER ->
+                    evict(CacheNames.CLASS_ROSTERS, CacheNames.classKey(event.getClassName(), event.getSection()));
+            case USERS_BY_ROLE, RESULTS_PUBLISHED -> {
+            }
+        }
+
+        for (Consumer<EntityChangeEvent> listener : changeListeners) {
+            try {
+                listener.accept(event);
+            } catch (Exception ex) {
+                log.error("Change listener failed for {}", event, ex);
+            }
+        }
+    }
+
+    /**
+     * Apply locally and broadcast, deferred to after commit when a transaction is active
+     */
+    private void publish(EntityChangeEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(event);
+                    invalidationBus.broadcast(event);
+                }
+            });
+        } else {
+            apply(event);
+            invalidationBus.broadcast(event);
+        }
+    }
+
+    private void evict(String cacheName, Object key) {
+        if (key == null) {
+            return;
+        }
+
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+            log.trace("Evicted {} from cache {}", key, cacheName);
+        }
+    }
+
+    /**
+     * Drop every entry; only used when remote events may have been missed
+     */
+    private void clearAll() {
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+}
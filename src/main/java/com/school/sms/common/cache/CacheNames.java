@@ -0,0 +1,29 @@
+package com.school.sms.common.cache;
+
+/**
+ * Cache names and key builders shared by @Cacheable reads and CacheEvictor
+ * Keeping both sides on the same key format is what makes eviction precise
+ */
+public final class CacheNames {
+
+    public static final String TEACHERS = "teachers";
+    public static final String CLASS_ROSTERS = "classRosters";
+    public static final String TIMETABLES_BY_CLASS = "timetablesByClass";
+    public static final String TIMETABLES_BY_TEACHER = "timetablesByTeacher";
+    public static final String TIMETABLES_BY_DAY = "timetablesByDay";
+
+    public static final String[] ALL = {
+            TEACHERS, CLASS_ROSTERS, TIMETABLES_BY_CLASS, TIMETABLES_BY_TEACHER, TIMETABLES_BY_DAY
+    };
+
+    private CacheNames() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Key for class/section scoped caches; a missing section means the whole class
+     */
+    public static String classKey(String className, String section) {
+        return className + ":" + (section != null ? section : "");
+    }
+}
@@ -0,0 +1,85 @@
+package com.school.sms.common.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.school.sms.common.event.EntityChangeEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Cluster-wide bus for entity change events
+ * Events are serialized to JSON and sent over the configured InvalidationTransport;
+ * events that originated on this node are ignored on receipt since they were
+ * already applied locally.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InvalidationBus {
+
+    private final InvalidationTransport transport;
+    private final ObjectMapper objectMapper;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Consumer<EntityChangeEvent>> listeners = new CopyOnWriteArrayList<>();
+    private final List<Runnable> resyncListeners = new CopyOnWriteArrayList<>();
+
+    @PostConstruct
+    public void start() {
+        transport.start(this::handleMessage, this::handleResync);
+    }
+
+    /**
+     * Send an event to every other node
+     */
+    public void broadcast(EntityChangeEvent event) {
+        event.setOriginNode(nodeId);
+        try {
+            transport.publish(objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException ex) {
+            log.error("Failed to serialize entity change event: {}", event, ex);
+        }
+    }
+
+    /**
+     * Register a listener for events raised on other nodes
+     */
+    public void subscribe(Consumer<EntityChangeEvent> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Register a listener called when remote events may have been missed
+     */
+    public void onResync(Runnable listener) {
+        resyncListeners.add(listener);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private void handleMessage(String payload) {
+        try {
+            EntityChangeEvent event = objectMapper.readValue(payload, EntityChangeEvent.class);
+            if (nodeId.equals(event.getOriginNode())) {
+                return;
+            }
+            listeners.forEach(listener -> listener.accept(event));
+        } catch (Exception ex) {
+            log.error("Failed to handle entity change event: {}", payload, ex);
+        }
+    }
+
+    private void handleResync() {
+        log.warn("Cache invalidation bus reconnected, events may have been missed");
+        resyncListeners.forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,23 @@
+package com.school.sms.common.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Transport used by the InvalidationBus to reach the other application nodes
+ * Implementations are selected with app.cache.invalidation.transport
+ */
+public interface InvalidationTransport {
+
+    /**
+     * Start receiving messages
+     *
+     * @param onMessage called with every payload received from the cluster
+     * @param onResync  called when messages may have been missed, e.g. after a reconnect
+     */
+    void start(Consumer<String> onMessage, Runnable onResync);
+
+    /**
+     * Send a payload to every node, including this one
+     */
+    void publish(String payload);
+}
@@ -0,0 +1,24 @@
+package com.school.sms.common.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * Single-node transport: nothing to broadcast, caches are only evicted locally
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.cache.invalidation", name = "transport", havingValue = "none")
+public class LocalInvalidationTransport implements InvalidationTransport {
+
+    @Override
+    public void start(Consumer<String> onMessage, Runnable onResync) {
+        // No remote nodes to listen to
+    }
+
+    @Override
+    public void publish(String payload) {
+        // No remote nodes to notify
+    }
+}
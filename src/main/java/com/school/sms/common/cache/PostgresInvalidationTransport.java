@@ -0,0 +1,145 @@
+package com.school.sms.common.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * Postgres LISTEN/NOTIFY transport (default)
+ * A single background thread owns one dedicated autocommit connection: it sends
+ * queued payloads with pg_notify and polls for notifications from other nodes.
+ * Sending from that connection rather than the request's transactional one
+ * guarantees the NOTIFY is committed on its own.
+ * The connection is opened straight from the driver with the spring.datasource
+ * settings, so it never takes a slot from the Hikari pool or the bulkhead.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.cache.invalidation", name = "transport", havingValue = "postgres",
+        matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class PostgresInvalidationTransport implements InvalidationTransport {
+
+    private static final int MAX_PAYLOAD_BYTES = 7999; // Postgres NOTIFY payload limit
+    private static final long MAX_RECONNECT_DELAY_MS = 30_000;
+
+    private final DataSourceProperties dataSourceProperties;
+
+    @Value("${app.cache.invalidation.channel:sms_cache_invalidation}")
+    private String channel;
+
+    @Value("${app.cache.invalidation.poll-interval-ms:200}")
+    private int pollIntervalMs;
+
+    @Value("${app.cache.invalidation.queue-capacity:10000}")
+    private int queueCapacity;
+
+    private BlockingQueue<String> outbound;
+    private volatile boolean running;
+    private Thread worker;
+
+    @Override
+    public void start(Consumer<String> onMessage, Runnable onResync) {
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalStateException("Invalid cache invalidation channel name: " + channel);
+        }
+
+        outbound = new LinkedBlockingQueue<>(queueCapacity);
+        running = true;
+        worker = new Thread(() -> run(onMessage, onResync), "cache-invalidation");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("Cache invalidation bus listening on Postgres channel '{}'", channel);
+    }
+
+    @Override
+    public void publish(String payload) {
+        if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            log.warn("Cache invalidation payload exceeds NOTIFY limit, dropped: {}", payload);
+            return;
+        }
+        if (outbound == null || !outbound.offer(payload)) {
+            log.warn("Cache invalidation queue unavailable or full, dropped: {}", payload);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private void run(Consumer<String> onMessage, Runnable onResync) {
+        long reconnectDelay = 1_000;
+        boolean connectedBefore = false;
+
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+
+                // Messages sent while we were disconnected are lost
+                if (connectedBefore) {
+                    onResync.run();
+                }
+                connectedBefore = true;
+                reconnectDelay = 1_000;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (PreparedStatement notify = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+                    while (running) {
+                        String payload;
+                        while ((payload = outbound.poll()) != null) {
+                            notify.setString(1, channel);
+                            notify.setString(2, payload);
+                            notify.execute();
+                        }
+
+                        PGNotification[] notifications = pgConnection.getNotifications(pollIntervalMs);
+                        if (notifications != null) {
+                            for (PGNotification notification : notifications) {
+                                onMessage.accept(notification.getParameter());
+                            }
+                        }
+                    }
+                }
+            } catch (SQLException ex) {
+                if (!running) {
+                    break;
+                }
+                log.error("Cache invalidation connection failed, reconnecting in {} ms: {}",
+                        reconnectDelay, ex.getMessage());
+                try {
+                    Thread.sleep(reconnectDelay);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                reconnectDelay = Math.min(reconnectDelay * 2, MAX_RECONNECT_DELAY_MS);
+            } catch (RuntimeException ex) {
+                log.error("Cache invalidation listener error", ex);
+            }
+        }
+    }
+}
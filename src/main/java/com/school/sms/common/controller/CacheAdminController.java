@@ -0,0 +1,52 @@
+package com.school.sms.common.controller;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.school.sms.common.dto.ApiResponse;
+import com.school.sms.common.dto.CacheStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * REST Controller exposing cache statistics to admins
+ */
+@RestController
+@RequestMapping("/api/admin/cache")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class CacheAdminController {
+
+    private final CacheManager cacheManager;
+
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<List<CacheStatsResponse>>> getCacheStats() {
+        List<CacheStatsResponse> stats = new ArrayList<>();
+
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof CaffeineCache caffeineCache) {
+                com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+                CacheStats cacheStats = nativeCache.stats();
+                stats.add(CacheStatsResponse.builder()
+                        .name(name)
+                        .size(nativeCache.estimatedSize())
+                        .hitCount(cacheStats.hitCount())
+                        .missCount(cacheStats.missCount())
+                        .hitRate(cacheStats.hitRate())
+                        .evictionCount(cacheStats.evictionCount())
+                        .build());
+            }
+        }
+
+        return ResponseEntity.ok(ApiResponse.success("Cache statistics retrieved successfully", stats));
+    }
+}
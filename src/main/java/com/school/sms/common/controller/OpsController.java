@@ -0,0 +1,50 @@
+package com.school.sms.common.controller;
+
+import com.school.sms.common.async.BoundedTaskExecutor;
+import com.school.sms.common.dto.ApiResponse;
+import com.school.sms.common.dto.DataSourceStatsResponse;
+import com.school.sms.common.dto.ExecutorStatsResponse;
+import com.school.sms.common.exception.BadRequestException;
+import com.school.sms.common.metrics.ConnectionPoolMetrics;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * REST Controller exposing operational state to admins
+ */
+@RestController
+@RequestMapping("/api/admin/ops")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class OpsController {
+
+    private final DataSource dataSource;
+    private final ConnectionPoolMetrics connectionPoolMetrics;
+    private final List<BoundedTaskExecutor> executors;
+
+    @GetMapping("/datasource")
+    public ResponseEntity<ApiResponse<DataSourceStatsResponse>> getDataSourceStats() throws SQLException {
+        if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+            throw new BadRequestException("Connection pool metrics are only available for Hikari");
+        }
+        DataSourceStatsResponse stats = connectionPoolMetrics.getStats(dataSource.unwrap(HikariDataSource.class));
+        return ResponseEntity.ok(ApiResponse.success("Connection pool statistics retrieved successfully", stats));
+    }
+
+    @GetMapping("/executors")
+    public ResponseEntity<ApiResponse<List<ExecutorStatsResponse>>> getExecutorStats() {
+        List<ExecutorStatsResponse> stats = executors.stream()
+                .map(BoundedTaskExecutor::getStats)
+                .toList();
+        return ResponseEntity.ok(ApiResponse.success("Executor statistics retrieved successfully", stats));
+    }
+}
@@ -0,0 +1,32 @@
+package com.school.sms.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * DTO for connection pool state, timings and driver statement-cache settings
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DataSourceStatsResponse {
+
+    private String poolName;
+    private Integer activeConnections;
+    private Integer idleConnections;
+    private Integer pendingThreads;
+    private Integer totalConnections;
+    private Integer maximumPoolSize;
+    private Integer minimumIdle;
+    private Long connectionTimeoutMillis;
+    private Long connectionTimeouts;
+    private HistogramSnapshot acquireTime;
+    private HistogramSnapshot usageTime;
+    private HistogramSnapshot creationTime;
+    private Map<String, String> driverProperties;
+}
@@ -0,0 +1,16 @@
+package com.school.sms.common.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a single entity's identity, version and last modification time
+ * The version is the sum of the versions of every row the response is built from
+ */
+public interface EntityVersion {
+
+    Long getId();
+
+    Long getVersion();
+
+    LocalDateTime getLastModified();
+}
@@ -0,0 +1,28 @@
+package com.school.sms.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a bounded @Async executor's state and counters
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExecutorStatsResponse {
+
+    private String name;
+    private String rejectionPolicy;
+    private Boolean virtualThreads;
+    private Integer corePoolSize;
+    private Integer maxPoolSize;
+    private Integer poolSize;
+    private Integer activeThreads;
+    private Integer queueDepth;
+    private Integer queueCapacity;
+    private Long completed;
+    private Long rejected;
+}
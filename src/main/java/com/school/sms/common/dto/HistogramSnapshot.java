@@ -0,0 +1,26 @@
+package com.school.sms.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * DTO for a latency histogram; buckets are cumulative counts keyed by upper bound in ms
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistogramSnapshot {
+
+    private Long count;
+    private Double meanMillis;
+    private Double maxMillis;
+    private Double p50Millis;
+    private Double p95Millis;
+    private Double p99Millis;
+    private Map<String, Long> buckets;
+}
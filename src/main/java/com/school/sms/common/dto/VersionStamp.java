@@ -0,0 +1,14 @@
+package com.school.sms.common.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a result set's last modification time and row count
+ * Used to build validators for conditional GET requests without loading entities
+ */
+public interface VersionStamp {
+
+    LocalDateTime getLastModified();
+
+    Long getCount();
+}
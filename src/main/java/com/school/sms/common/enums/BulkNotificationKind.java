@@ -0,0 +1,9 @@
+package com.school.sms.common.enums;
+
+/**
+ * What a bulk parent notification announces
+ */
+public enum BulkNotificationKind {
+    RESULT_PUBLICATION,
+    ANNOUNCEMENT
+}
@@ -0,0 +1,11 @@
+package com.school.sms.common.enums;
+
+/**
+ * Progress of a bulk notification fan-out (recipient resolution and enqueueing)
+ */
+public enum BulkNotificationStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,43 @@
+package com.school.sms.common.enums;
+
+import com.school.sms.common.event.EntityChangeEvent;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Dashboard live-update topics and the roles subscribed to each
+ */
+public enum LiveTopic {
+    TIMETABLE,
+    RESULTS,
+    ROSTERS,
+    USERS;
+
+    /**
+     * Topic an entity change is published on
+     */
+    public static LiveTopic of(EntityChangeEvent.Type type) {
+        return switch (type) {
+            case TIMETABLE_SLOT -> TIMETABLE;
+            case RESULTS_PUBLISHED -> RESULTS;
+            case CLASS_ROSTER -> ROSTERS;
+            case TEACHER, USERS_BY_ROLE -> USERS;
+        };
+    }
+
+    /**
+     * Topics a role receives; account changes are only shown to administrators
+     */
+    public static Set<LiveTopic> forRole(Role role) {
+        return switch (role) {
+            case ADMIN, PRINCIPAL -> EnumSet.allOf(LiveTopic.class);
+            case TEACHER, ACADEMIC_TEACHER, DISCIPLINE_TEACHER -> EnumSet.of(TIMETABLE, RESULTS, ROSTERS);
+            case STUDENT, PARENT -> EnumSet.of(TIMETABLE, RESULTS);
+        };
+    }
+
+    public String eventName() {
+        return name().toLowerCase();
+    }
+}
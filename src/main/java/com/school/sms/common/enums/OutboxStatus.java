@@ -0,0 +1,11 @@
+package com.school.sms.common.enums;
+
+/**
+ * Delivery state of an outbox message
+ */
+public enum OutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,31 @@
+package com.school.sms.common.enums;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Entity types served by the delta-sync API, keyed by their path segment
+ * The name is the entity_type written to change_log by the V7 triggers.
+ */
+public enum SyncEntityType {
+    STUDENT("students"),
+    TEACHER("teachers"),
+    TIMETABLE("timetables"),
+    RESULT("results");
+
+    private final String path;
+
+    SyncEntityType(String path) {
+        this.path = path;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public static Optional<SyncEntityType> fromPath(String path) {
+        return Arrays.stream(values())
+                .filter(type -> type.path.equalsIgnoreCase(path))
+                .findFirst();
+    }
+}
@@ -0,0 +1,47 @@
+package com.school.sms.common.event;
+
+import com.school.sms.common.enums.Role;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+
+/**
+ * Entity change event raised by service write methods
+ * Carries just enough of the changed entity to work out which cached views it touches,
+ * and which live dashboard topics to notify
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EntityChangeEvent {
+
+    public enum Type {
+        TEACHER,
+        TIMETABLE_SLOT,
+        CLASS_ROSTER,
+        USERS_BY_ROLE,
+        RESULTS_PUBLISHED
+    }
+
+    private Type type;
+
+    private String originNode; // Node that made the change
+
+    private Long teacherId;
+
+    private String className;
+
+    private String section;
+
+    private DayOfWeek dayOfWeek;
+
+    private Role role;
+
+    private String academicYear;
+
+    private String term;
+}
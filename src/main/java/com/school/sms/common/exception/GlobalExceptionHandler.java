@@ -1,9 +1,12 @@
 package com.school.sms.common.exception;
 
 import com.school.sms.common.dto.ApiResponse;
+import com.school.sms.common.sql.DatabaseBusyException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -15,6 +18,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 
+import java.sql.SQLTransientConnectionException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -66,6 +70,51 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handle ServiceUnavailableException (load shedding)
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResponse<Object>> handleServiceUnavailableException(
+            ServiceUnavailableException ex,
+            WebRequest request) {
+        log.warn("ServiceUnavailableException: {}", ex.getMessage());
+
+        ApiResponse<Object> response = ApiResponse.error(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
+    /**
+     * Handle TaskRejectedException (an ABORT-policy @Async executor is saturated)
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ApiResponse<Object>> handleTaskRejectedException(
+            TaskRejectedException ex,
+            WebRequest request) {
+        log.warn("TaskRejectedException: {}", ex.getMessage());
+
+        ApiResponse<Object> response = ApiResponse.error("Service is busy, please retry shortly");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(response);
+    }
+
+    /**
+     * Handle TooManyRequestsException (rate limiting)
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse<Object>> handleTooManyRequestsException(
+            TooManyRequestsException ex,
+            WebRequest request) {
+        log.warn("TooManyRequestsException: {}", ex.getMessage());
+
+        ApiResponse<Object> response = ApiResponse.error(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
     /**
      * Handle validation errors
      */
@@ -152,14 +201,39 @@ public class GlobalExceptionHandler {
 
     /**
      * Handle all other exceptions
+     * Connection acquisition timeouts (pool or bulkhead exhausted) arrive wrapped by
+     * Spring/Hibernate and are answered as load shedding rather than server errors
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Object>> handleGlobalException(
             Exception ex,
             WebRequest request) {
+        SQLTransientConnectionException connectionTimeout = findCause(ex, SQLTransientConnectionException.class);
+        if (connectionTimeout != null) {
+            log.warn("Database connection unavailable: {}", connectionTimeout.getMessage());
+            int retryAfterSeconds = connectionTimeout instanceof DatabaseBusyException busy
+                    ? busy.getRetryAfterSeconds()
+                    : 1;
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                    .body(ApiResponse.error("Service is busy, please retry shortly"));
+        }
+
         log.error("Unexpected error: ", ex);
 
         ApiResponse<Object> response = ApiResponse.error("An unexpected error occurred");
         return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
     }
+
+    private static <T extends Throwable> T findCause(Throwable ex, Class<T> type) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return type.cast(cause);
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return null;
+    }
 }
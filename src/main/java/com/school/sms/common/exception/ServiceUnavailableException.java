@@ -0,0 +1,19 @@
+package com.school.sms.common.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception for requests shed because a bounded resource is saturated
+ * Carries the number of seconds the client should wait before retrying
+ */
+@Getter
+public class ServiceUnavailableException extends AppException {
+
+    private final int retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, int retryAfterSeconds) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
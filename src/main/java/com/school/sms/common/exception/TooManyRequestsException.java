@@ -0,0 +1,19 @@
+package com.school.sms.common.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception for clients that exceeded a rate limit
+ * Carries the number of seconds the client should wait before retrying
+ */
+@Getter
+public class TooManyRequestsException extends AppException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(HttpStatus.TOO_MANY_REQUESTS, message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,126 @@
+package com.school.sms.common.metrics;
+
+import com.school.sms.common.dto.DataSourceStatsResponse;
+import com.school.sms.common.util.LogSampler;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hikari metrics tracker recording connection acquire, usage and creation times
+ * Slow acquisitions and acquisition timeouts are logged (sampled) because they
+ * are the first sign of an undersized pool or long-held connections. Every event
+ * is also forwarded to Hikari's Micrometer tracker, so the hikaricp_* meters
+ * still reach Prometheus.
+ */
+@Component
+@Slf4j
+public class ConnectionPoolMetrics implements MetricsTrackerFactory {
+
+    private static final String[] DRIVER_SETTINGS = {
+            "prepareThreshold", "preparedStatementCacheQueries", "preparedStatementCacheSizeMiB",
+            "reWriteBatchedInserts", "defaultRowFetchSize" };
+
+    @Value("${app.datasource.slow-acquire-ms:100}")
+    private long slowAcquireMs;
+
+    private final LatencyHistogram acquireTime = new LatencyHistogram();
+    private final LatencyHistogram usageTime = new LatencyHistogram();
+    private final LatencyHistogram creationTime = new LatencyHistogram();
+    private final LongAdder timeouts = new LongAdder();
+    private final LogSampler slowAcquireLogSampler = new LogSampler(Duration.ofSeconds(10));
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public ConnectionPoolMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        long slowAcquireNanos = TimeUnit.MILLISECONDS.toNanos(slowAcquireMs);
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        IMetricsTracker micrometer = registry != null
+                ? new MicrometerMetricsTrackerFactory(registry).create(poolName, poolStats)
+                : new IMetricsTracker() { };
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+                creationTime.recordMillis(connectionCreatedMillis);
+                micrometer.recordConnectionCreatedMillis(connectionCreatedMillis);
+            }
+
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquireTime.recordNanos(elapsedAcquiredNanos);
+                micrometer.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+                if (elapsedAcquiredNanos > slowAcquireNanos && slowAcquireLogSampler.tryAcquire()) {
+                    log.warn("Slow connection acquisition from {}: {} ms (active={}, idle={}, pending={}; {} similar suppressed)",
+                            poolName, TimeUnit.NANOSECONDS.toMillis(elapsedAcquiredNanos),
+                            poolStats.getActiveConnections(), poolStats.getIdleConnections(),
+                            poolStats.getPendingThreads(), slowAcquireLogSampler.drainSuppressed());
+                }
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                usageTime.recordMillis(elapsedBorrowedMillis);
+                micrometer.recordConnectionUsageMillis(elapsedBorrowedMillis);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.increment();
+                micrometer.recordConnectionTimeout();
+                log.warn("Connection acquisition timed out on pool {}", poolName);
+            }
+
+            @Override
+            public void close() {
+                micrometer.close();
+            }
+        };
+    }
+
+    /**
+     * Live pool state plus recorded timings
+     */
+    public DataSourceStatsResponse getStats(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+
+        Map<String, String> driverProperties = new TreeMap<>();
+        for (String setting : DRIVER_SETTINGS) {
+            String value = dataSource.getDataSourceProperties().getProperty(setting);
+            driverProperties.put(setting, value != null ? value : "(driver default)");
+        }
+
+        return DataSourceStatsResponse.builder()
+                .poolName(dataSource.getPoolName())
+                .activeConnections(pool != null ? pool.getActiveConnections() : 0)
+                .idleConnections(pool != null ? pool.getIdleConnections() : 0)
+                .pendingThreads(pool != null ? pool.getThreadsAwaitingConnection() : 0)
+                .totalConnections(pool != null ? pool.getTotalConnections() : 0)
+                .maximumPoolSize(dataSource.getMaximumPoolSize())
+                .minimumIdle(dataSource.getMinimumIdle())
+                .connectionTimeoutMillis(dataSource.getConnectionTimeout())
+                .connectionTimeouts(timeouts.sum())
+                .acquireTime(acquireTime.snapshot())
+                .usageTime(usageTime.snapshot())
+                .creationTime(creationTime.snapshot())
+                .driverProperties(driverProperties)
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+package com.school.sms.common.metrics;
+
+import com.school.sms.common.dto.HistogramSnapshot;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with fixed millisecond buckets
+ * Recording is a couple of LongAdder increments; percentiles are estimated as
+ * the upper bound of the bucket they fall into.
+ */
+public class LatencyHistogram {
+
+    private static final double[] BUCKET_BOUNDS_MILLIS = {
+            0.5, 1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000 };
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MILLIS.length + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void recordNanos(long nanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        buckets[bucketIndex(micros / 1000.0)].increment();
+        count.increment();
+        totalMicros.add(micros);
+        maxMicros.accumulate(micros);
+    }
+
+    public void recordMillis(long millis) {
+        recordNanos(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    public HistogramSnapshot snapshot() {
+        long[] counts = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        double maxMillis = maxMicros.get() / 1000.0;
+
+        Map<String, Long> cumulative = new LinkedHashMap<>();
+        long running = 0;
+        for (int i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+            running += counts[i];
+            cumulative.put("le_" + BUCKET_BOUNDS_MILLIS[i], running);
+        }
+        cumulative.put("le_inf", total);
+
+        return HistogramSnapshot.builder()
+                .count(total)
+                .meanMillis(total > 0 ? totalMicros.sum() / 1000.0 / total : 0.0)
+                .maxMillis(maxMillis)
+                .p50Millis(percentile(counts, total, 0.50, maxMillis))
+                .p95Millis(percentile(counts, total, 0.95, maxMillis))
+                .p99Millis(percentile(counts, total, 0.99, maxMillis))
+                .buckets(cumulative)
+                .build();
+    }
+
+    private static int bucketIndex(double millis) {
+        for (int i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+            if (millis <= BUCKET_BOUNDS_MILLIS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_BOUNDS_MILLIS.length;
+    }
+
+    private static double percentile(long[] counts, long total, double quantile, double maxMillis) {
+        if (total == 0) {
+            return 0.0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long running = 0;
+        for (int i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+            running += counts[i];
+            if (running >= rank) {
+                return Math.min(BUCKET_BOUNDS_MILLIS[i], maxMillis);
+            }
+        }
+        return maxMillis;
+    }
+}
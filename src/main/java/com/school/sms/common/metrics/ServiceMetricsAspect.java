@@ -0,0 +1,55 @@
+package com.school.sms.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics Aspect
+ * Times every public service method as service.method{class, method, exception}
+ * The success timer is resolved once per method and cached, so the per-call cost
+ * is a map lookup, two nanoTime calls and a histogram record.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private static final String METRIC_NAME = "service.method";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<JoinPoint.StaticPart, Timer> successTimers = new ConcurrentHashMap<>();
+
+    @Around("within(com.school.sms..service..*) && execution(public * *(..))")
+    public Object timeServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            successTimers.computeIfAbsent(joinPoint.getStaticPart(), part -> timer(part, "none"))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable ex) {
+            timer(joinPoint.getStaticPart(), ex.getClass().getSimpleName())
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+    }
+
+    private Timer timer(JoinPoint.StaticPart part, String exception) {
+        return Timer.builder(METRIC_NAME)
+                .tag("class", part.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", part.getSignature().getName())
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,103 @@
+package com.school.sms.common.metrics;
+
+import com.school.sms.common.util.LogSampler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Reports virtual threads pinned to their carrier (virtual-thread mode only)
+ * Streams the JFR jdk.VirtualThreadPinned event in-process: each pin longer than
+ * the threshold is timed under jvm.threads.virtual.pinned (tagged jdbc=true when the
+ * stack is inside the driver or the pool), and a sampled warning logs the stack,
+ * which is usually a synchronized block or a native call around blocking I/O.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@RequiredArgsConstructor
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final List<String> JDBC_PACKAGES = List.of("org.postgresql.", "com.zaxxer.hikari.", "java.sql.");
+    private static final int LOGGED_FRAMES = 15;
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final LogSampler logSampler = new LogSampler(Duration.ofSeconds(10));
+
+    @Value("${app.threads.pinning-threshold-ms:20}")
+    private long thresholdMillis;
+
+    private RecordingStream recordingStream;
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(thresholdMillis))
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold {} ms)", thresholdMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        boolean inJdbc = stackTrace != null && stackTrace.getFrames().stream()
+                .anyMatch(VirtualThreadPinningMonitor::isJdbcFrame);
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            Timer.builder("jvm.threads.virtual.pinned")
+                    .description("Time virtual threads spent pinned to a carrier thread")
+                    .tag("jdbc", String.valueOf(inJdbc))
+                    .register(registry)
+                    .record(event.getDuration());
+        }
+
+        if (logSampler.tryAcquire()) {
+            long suppressed = logSampler.drainSuppressed();
+            log.warn("Virtual thread pinned for {} ms{} ({} similar events suppressed){}",
+                    event.getDuration().toMillis(), inJdbc ? " inside JDBC" : "", suppressed, format(stackTrace));
+        }
+    }
+
+    private static boolean isJdbcFrame(RecordedFrame frame) {
+        String type = frame.getMethod().getType().getName();
+        return JDBC_PACKAGES.stream().anyMatch(type::startsWith);
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        StringBuilder text = new StringBuilder();
+        stackTrace.getFrames().stream().limit(LOGGED_FRAMES).forEach(frame -> text.append("\n    at ")
+                .append(frame.getMethod().getType().getName()).append('.')
+                .append(frame.getMethod().getName())
+                .append(':').append(frame.getLineNumber()));
+        return text.toString();
+    }
+}
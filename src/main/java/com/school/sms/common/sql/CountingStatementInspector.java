@@ -0,0 +1,16 @@
+package com.school.sms.common.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate StatementInspector that counts every statement Hibernate prepares
+ * Registered through hibernate.session_factory.statement_inspector
+ */
+public class CountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementCounter.statementPrepared();
+        return sql;
+    }
+}
@@ -0,0 +1,22 @@
+package com.school.sms.common.sql;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * Raised when no connection permit frees up within the bulkhead's wait time
+ * A transient connection failure like Hikari's own timeout, so callers see the
+ * same exception family; the web layer turns either into 503 + Retry-After.
+ */
+public class DatabaseBusyException extends SQLTransientConnectionException {
+
+    private final int retryAfterSeconds;
+
+    public DatabaseBusyException(String message, int retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
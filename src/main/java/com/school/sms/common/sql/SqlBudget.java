@@ -0,0 +1,19 @@
+package com.school.sms.common.sql;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of JDBC statements a request to this endpoint may execute
+ * Placed on a controller method or class; overrides app.sql-budget.default-max-statements
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface SqlBudget {
+
+    int maxStatements();
+}
@@ -0,0 +1,69 @@
+package com.school.sms.common.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * SQL Budget Filter
+ * Opens the per-request statement counters before the security chain (so the
+ * JWT user lookup is counted too), then records sql.statements per endpoint and
+ * warns when the endpoint's budget was exceeded
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private final SqlBudgetPolicy sqlBudgetPolicy;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !sqlBudgetPolicy.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        SqlStatementCounter.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementCounter.Counts counts = SqlStatementCounter.end();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (counts != null && pattern != null) {
+                String endpoint = request.getMethod() + " " + pattern;
+
+                DistributionSummary.builder("sql.statements")
+                        .description("JDBC statements executed per request")
+                        .tag("method", request.getMethod())
+                        .tag("uri", pattern.toString())
+                        .register(meterRegistry)
+                        .record(counts.getStatements());
+
+                Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+                int budget = sqlBudgetPolicy.budgetFor(
+                        handler instanceof HandlerMethod handlerMethod ? handlerMethod.getMethod() : null);
+                if (counts.getStatements() > budget) {
+                    sqlBudgetPolicy.reportExceeded(endpoint, counts, budget);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.school.sms.common.sql;
+
+import com.school.sms.common.util.LogSampler;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQL budget policy
+ * Resolves the statement budget of an endpoint and reports requests that exceed
+ * it. Also hooks Hibernate's load and collection-initialization events into the
+ * per-request counters.
+ */
+@Component
+@Slf4j
+public class SqlBudgetPolicy {
+
+    @Value("${app.sql-budget.enabled:true}")
+    @Getter
+    private boolean enabled;
+
+    @Value("${app.sql-budget.default-max-statements:20}")
+    private int defaultMaxStatements;
+
+    @Value("${app.sql-budget.expose-headers:false}")
+    @Getter
+    private boolean exposeHeaders;
+
+    @Value("${app.sql-budget.fail-on-exceed:false}")
+    @Getter
+    private boolean failOnExceed;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final Map<String, LogSampler> warnSamplers = new ConcurrentHashMap<>();
+
+    public SqlBudgetPolicy(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostConstruct
+    public void registerListeners() {
+        if (!enabled) {
+            return;
+        }
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_LOAD,
+                (PostLoadEventListener) event -> SqlStatementCounter.entityLoaded());
+        registry.appendListeners(EventType.INIT_COLLECTION,
+                (InitializeCollectionEventListener) event -> SqlStatementCounter.collectionInitialized());
+    }
+
+    /**
+     * Budget of a controller method: method annotation, then class annotation, then the default
+     */
+    public int budgetFor(Method handlerMethod) {
+        if (handlerMethod != null) {
+            SqlBudget budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod, SqlBudget.class);
+            if (budget == null) {
+                budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getDeclaringClass(), SqlBudget.class);
+            }
+            if (budget != null) {
+                return budget.maxStatements();
+            }
+        }
+        return defaultMaxStatements;
+    }
+
+    /**
+     * Warn (sampled per endpoint) about a request over its budget
+     */
+    public void reportExceeded(String endpoint, SqlStatementCounter.Counts counts, int budget) {
+        LogSampler sampler = warnSamplers.computeIfAbsent(endpoint, key -> new LogSampler(Duration.ofMinutes(1)));
+        if (sampler.tryAcquire()) {
+            log.warn("SQL budget exceeded for {}: {} statements (budget {}), {} entities loaded, "
+                            + "{} collections initialized; likely N+1 ({} similar suppressed)",
+                    endpoint, counts.getStatements(), budget, counts.getEntitiesLoaded(),
+                    counts.getCollectionsInitialized(), sampler.drainSuppressed());
+        }
+    }
+}
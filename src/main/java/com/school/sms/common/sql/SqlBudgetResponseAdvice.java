@@ -0,0 +1,60 @@
+package com.school.sms.common.sql;
+
+import com.school.sms.common.exception.AppException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the per-request SQL counts as response headers before the body is written
+ * All queries of a request have run by then (open-in-view is off). With
+ * app.sql-budget.fail-on-exceed (integration tests) an over-budget request fails
+ * with a 500 instead of returning its body.
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class SqlBudgetResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String ENTITIES_HEADER = "X-SQL-Entities-Loaded";
+    public static final String COLLECTIONS_HEADER = "X-SQL-Collections-Initialized";
+    public static final String BUDGET_HEADER = "X-SQL-Budget";
+
+    private final SqlBudgetPolicy sqlBudgetPolicy;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return sqlBudgetPolicy.isExposeHeaders() || sqlBudgetPolicy.isFailOnExceed();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlStatementCounter.Counts counts = SqlStatementCounter.current();
+        if (counts == null) {
+            return body;
+        }
+
+        int budget = sqlBudgetPolicy.budgetFor(returnType.getMethod());
+        if (sqlBudgetPolicy.isExposeHeaders()) {
+            response.getHeaders().set(STATEMENTS_HEADER, String.valueOf(counts.getStatements()));
+            response.getHeaders().set(ENTITIES_HEADER, String.valueOf(counts.getEntitiesLoaded()));
+            response.getHeaders().set(COLLECTIONS_HEADER, String.valueOf(counts.getCollectionsInitialized()));
+            response.getHeaders().set(BUDGET_HEADER, String.valueOf(budget));
+        }
+        if (sqlBudgetPolicy.isFailOnExceed() && counts.getStatements() > budget
+                && returnType.getContainingClass().isAnnotationPresent(RestController.class)) {
+            throw new AppException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "SQL budget exceeded: " + counts.getStatements() + " statements (budget " + budget + ")");
+        }
+        return body;
+    }
+}
@@ -0,0 +1,65 @@
+package com.school.sms.common.sql;
+
+import lombok.Getter;
+
+/**
+ * Per-request counters for JDBC statements, entity loads and collection initializations
+ * Counting only happens on threads where begin() was called (request threads),
+ * so background work is not attributed to any request.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void begin() {
+        CURRENT.set(new Counts());
+    }
+
+    /**
+     * Counts of the current request, or null outside a counted request
+     */
+    public static Counts current() {
+        return CURRENT.get();
+    }
+
+    public static Counts end() {
+        Counts counts = CURRENT.get();
+        CURRENT.remove();
+        return counts;
+    }
+
+    static void statementPrepared() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.statements++;
+        }
+    }
+
+    static void entityLoaded() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.entitiesLoaded++;
+        }
+    }
+
+    static void collectionInitialized() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.collectionsInitialized++;
+        }
+    }
+
+    /**
+     * Mutable counters, confined to one request thread
+     */
+    @Getter
+    public static final class Counts {
+        private int statements;
+        private int entitiesLoaded;
+        private int collectionsInitialized;
+    }
+}
@@ -0,0 +1,42 @@
+package com.school.sms.common.util;
+
+import com.school.sms.common.dto.EntityVersion;
+import com.school.sms.common.dto.VersionStamp;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Utility class for HTTP conditional request validators
+ * ETags are weak since the JSON envelope is regenerated on every response
+ */
+public class EtagUtils {
+
+    private EtagUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Build an ETag for a single entity from its type, id and version
+     */
+    public static String entityEtag(String type, EntityVersion version) {
+        return "W/\"" + type + "-" + version.getId() + "-" + version.getVersion() + "\"";
+    }
+
+    /**
+     * Build an ETag for a collection from its scope, max(updatedAt) and row count
+     */
+    public static String collectionEtag(String scope, VersionStamp stamp) {
+        long lastModified = toEpochMilli(stamp.getLastModified());
+        long count = stamp.getCount() != null ? stamp.getCount() : 0;
+        return "W/\"" + Integer.toHexString(scope.hashCode()) + "-"
+                + Long.toHexString(lastModified) + "-" + Long.toHexString(count) + "\"";
+    }
+
+    /**
+     * Convert a timestamp to epoch milliseconds for Last-Modified, -1 when absent
+     */
+    public static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+}
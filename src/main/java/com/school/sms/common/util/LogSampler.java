@@ -0,0 +1,42 @@
+package com.school.sms.common.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets one log statement through per interval and counts the rest
+ * For hot-path messages that an attacker or a misbehaving client can trigger on
+ * every request (invalid tokens, filter failures), so a flood costs a counter
+ * increment instead of a formatted, written log line.
+ */
+public final class LogSampler {
+
+    private final long intervalNanos;
+    private final AtomicLong nextAllowedNanos;
+    private final AtomicLong suppressed = new AtomicLong();
+
+    public LogSampler(Duration interval) {
+        this.intervalNanos = interval.toNanos();
+        this.nextAllowedNanos = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Whether the caller should log now
+     */
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+        long next = nextAllowedNanos.get();
+        if (now - next >= 0 && nextAllowedNanos.compareAndSet(next, now + intervalNanos)) {
+            return true;
+        }
+        suppressed.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Number of messages suppressed since the last call
+     */
+    public long drainSuppressed() {
+        return suppressed.getAndSet(0);
+    }
+}
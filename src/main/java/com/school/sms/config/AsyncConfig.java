@@ -0,0 +1,147 @@
+package com.school.sms.config;
+
+import com.school.sms.common.async.BoundedTaskExecutor;
+import com.school.sms.common.async.ExecutorNames;
+import com.school.sms.common.async.RejectionPolicy;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Executors for @Async methods
+ * One bounded pool per workload (audit, notifications, exports, reports, live updates) plus the
+ * default for un-named @Async, each with its own queue capacity, rejection policy
+ * and shutdown drain timeout under app.async. In virtual-thread mode the pools keep
+ * their bounds but run tasks on virtual threads.
+ */
+@Configuration
+@EnableConfigurationProperties(AsyncConfig.AsyncProperties.class)
+@Slf4j
+public class AsyncConfig implements AsyncConfigurer {
+
+    // Executors are destroyed before the beans they depend on, so on shutdown the pools
+    // drain their queued audit/outbox writes before the connection pool closes
+    private static final String DATA_SOURCE = "dataSource";
+
+    private final AsyncProperties properties;
+    private final boolean virtualThreads;
+
+    public AsyncConfig(AsyncProperties properties, Environment environment) {
+        this.properties = properties;
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+    }
+
+    @Bean(name = ExecutorNames.AUDIT)
+    @DependsOn(DATA_SOURCE)
+    public BoundedTaskExecutor auditExecutor() {
+        return build(ExecutorNames.AUDIT, properties.getAudit());
+    }
+
+    @Bean(name = ExecutorNames.NOTIFICATIONS)
+    @DependsOn(DATA_SOURCE)
+    public BoundedTaskExecutor notificationExecutor() {
+        return build(ExecutorNames.NOTIFICATIONS, properties.getNotifications());
+    }
+
+    @Bean(name = ExecutorNames.EXPORTS)
+    @DependsOn(DATA_SOURCE)
+    public BoundedTaskExecutor exportExecutor() {
+        return build(ExecutorNames.EXPORTS, properties.getExports());
+    }
+
+    @Bean(name = ExecutorNames.REPORTS)
+    @DependsOn(DATA_SOURCE)
+    public BoundedTaskExecutor reportExecutor() {
+        return build(ExecutorNames.REPORTS, properties.getReports());
+    }
+
+    @Bean(name = ExecutorNames.LIVE_UPDATES)
+    @DependsOn(DATA_SOURCE)
+    public BoundedTaskExecutor liveUpdateExecutor() {
+        return build(ExecutorNames.LIVE_UPDATES, properties.getLiveUpdates());
+    }
+
+    /**
+     * Also registered as applicationTaskExecutor, the name Spring MVC async support looks up
+     */
+    @Bean(name = { ExecutorNames.DEFAULT, "applicationTaskExecutor" })
+    @DependsOn(DATA_SOURCE)
+    public BoundedTaskExecutor taskExecutor() {
+        return build(ExecutorNames.DEFAULT, properties.getDefaults());
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return taskExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) -> log.error("Async method {}.{} failed",
+                method.getDeclaringClass().getSimpleName(), method.getName(), ex);
+    }
+
+    private BoundedTaskExecutor build(String name, Pool pool) {
+        BoundedTaskExecutor executor = new BoundedTaskExecutor(
+                name, pool.getQueueCapacity(), pool.getRejectionPolicy(), virtualThreads);
+        executor.setCorePoolSize(pool.getCoreSize());
+        executor.setMaxPoolSize(Math.max(pool.getCoreSize(), pool.getMaxSize()));
+        executor.setKeepAliveSeconds(60);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(pool.getDrainTimeoutSeconds());
+        log.info("Executor '{}' configured: core={}, max={}, queue={}, rejection={}, virtual={}",
+                name, pool.getCoreSize(), pool.getMaxSize(), pool.getQueueCapacity(),
+                pool.getRejectionPolicy(), virtualThreads);
+        return executor;
+    }
+
+    /**
+     * Per-workload pool settings; threads above core are only started once the queue is full
+     */
+    @Data
+    @ConfigurationProperties(prefix = "app.async")
+    public static class AsyncProperties {
+
+        // Short inserts; callers absorb overload rather than audit records being lost
+        private Pool audit = new Pool(2, 4, 2000, RejectionPolicy.CALLER_RUNS, 10);
+
+        private Pool notifications = new Pool(2, 4, 500, RejectionPolicy.ABORT, 30);
+
+        private Pool exports = new Pool(1, 2, 20, RejectionPolicy.ABORT, 60);
+
+        private Pool reports = new Pool(1, 2, 20, RejectionPolicy.ABORT, 60);
+
+        // SSE fan-out; one thread keeps batches in order, a full queue falls back to the scheduler thread
+        private Pool liveUpdates = new Pool(1, 1, 50, RejectionPolicy.CALLER_RUNS, 5);
+
+        private Pool defaults = new Pool(2, 4, 100, RejectionPolicy.CALLER_RUNS, 30);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pool {
+
+        private int coreSize;
+
+        private int maxSize;
+
+        private int queueCapacity;
+
+        private RejectionPolicy rejectionPolicy;
+
+        private int drainTimeoutSeconds;
+    }
+}
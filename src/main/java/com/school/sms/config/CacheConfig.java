@@ -0,0 +1,55 @@
+package com.school.sms.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.school.sms.common.cache.CacheNames;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache configuration
+ * Every cache is a bounded Caffeine cache (size + TTL, W-TinyLFU eviction)
+ * with statistics recording; specs are configured per cache under app.cache
+ */
+@Configuration
+@EnableConfigurationProperties(CacheConfig.CacheProperties.class)
+@Slf4j
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+
+        // Register known caches up front; static mode stops unknown names from creating new regions
+        for (String name : CacheNames.ALL) {
+            String spec = properties.getSpecs().getOrDefault(name, properties.getDefaultSpec());
+            cacheManager.registerCustomCache(name, Caffeine.from(spec).build());
+            log.info("Cache '{}' configured with spec: {}", name, spec);
+        }
+        cacheManager.setCacheNames(List.of());
+
+        return cacheManager;
+    }
+
+    /**
+     * Caffeine specs, e.g. maximumSize=1000,expireAfterWrite=10m,recordStats
+     */
+    @Data
+    @ConfigurationProperties(prefix = "app.cache")
+    public static class CacheProperties {
+
+        private String defaultSpec = "maximumSize=1000,expireAfterWrite=10m,recordStats";
+
+        private Map<String, String> specs = new HashMap<>();
+    }
+}
@@ -0,0 +1,59 @@
+package com.school.sms.config;
+
+import com.school.sms.common.metrics.ConnectionPoolMetrics;
+import com.school.sms.common.sql.BulkheadDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource configuration
+ * Pool size and PgJDBC statement-cache settings come from spring.datasource.hikari;
+ * this attaches the connection timing tracker to the Hikari pool and, in virtual-thread
+ * mode (spring.threads.virtual.enabled), puts a pool-sized bulkhead in front of it
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionPoolMetricsPostProcessor(ObjectProvider<ConnectionPoolMetrics> metrics,
+            Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    if (dataSource.getMetricsTrackerFactory() == null && dataSource.getMetricRegistry() == null) {
+                        dataSource.setMetricsTrackerFactory(metrics.getObject());
+                    }
+                    if (Threading.VIRTUAL.isActive(environment)
+                            && environment.getProperty("app.datasource.bulkhead.enabled", Boolean.class, true)) {
+                        int permits = environment.getProperty("app.datasource.bulkhead.permits", Integer.class, 0);
+                        return new BulkheadDataSource(dataSource,
+                                permits > 0 ? permits : dataSource.getMaximumPoolSize(),
+                                environment.getProperty("app.datasource.bulkhead.acquire-timeout-ms", Long.class, 2000L),
+                                environment.getProperty("app.datasource.bulkhead.retry-after-seconds", Integer.class, 1));
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public MeterBinder dataSourceBulkheadMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof BulkheadDataSource bulkhead) {
+                bulkhead.bindTo(registry);
+            }
+        };
+    }
+}
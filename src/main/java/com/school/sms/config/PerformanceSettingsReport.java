@@ -0,0 +1,83 @@
+package com.school.sms.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Logs the performance-relevant settings once the application is ready
+ * Under the prod profile, settings that only make sense in development are
+ * reported as warnings.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PerformanceSettingsReport {
+
+    private static final List<String> SETTINGS = List.of(
+            "spring.thymeleaf.cache",
+            "spring.jpa.open-in-view",
+            "spring.jpa.hibernate.ddl-auto",
+            "spring.flyway.enabled",
+            "spring.jpa.properties.hibernate.format_sql",
+            "spring.jpa.properties.hibernate.use_sql_comments",
+            "spring.jpa.properties.hibernate.generate_statistics",
+            "spring.jpa.properties.hibernate.default_batch_fetch_size",
+            "spring.jpa.properties.hibernate.jdbc.fetch_size",
+            "spring.jpa.properties.hibernate.jdbc.batch_size",
+            "spring.jpa.properties.hibernate.query.plan_cache_max_size",
+            "spring.jpa.properties.hibernate.query.plan_parameter_metadata_max_size",
+            "spring.jpa.properties.hibernate.query.in_clause_parameter_padding",
+            "spring.jpa.properties.hibernate.log_slow_query",
+            "spring.threads.virtual.enabled",
+            "spring.datasource.hikari.maximum-pool-size",
+            "spring.datasource.hikari.minimum-idle",
+            "spring.datasource.hikari.data-source-properties.prepareThreshold",
+            "spring.datasource.hikari.data-source-properties.preparedStatementCacheQueries",
+            "spring.cache.type",
+            "app.sql-budget.enabled",
+            "app.sql-budget.expose-headers",
+            "logging.level.org.hibernate.SQL",
+            "logging.level.com.school.sms");
+
+    // Values that should never reach production
+    private static final Map<String, String> DEV_ONLY_VALUES = Map.of(
+            "spring.thymeleaf.cache", "false",
+            "spring.jpa.hibernate.ddl-auto", "update",
+            "spring.jpa.properties.hibernate.format_sql", "true",
+            "spring.jpa.properties.hibernate.use_sql_comments", "true",
+            "spring.jpa.properties.hibernate.generate_statistics", "true",
+            "logging.level.org.hibernate.SQL", "debug");
+
+    private final Environment environment;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        String[] profiles = environment.getActiveProfiles().length > 0
+                ? environment.getActiveProfiles()
+                : environment.getDefaultProfiles();
+
+        StringBuilder report = new StringBuilder("Performance settings (profiles: ")
+                .append(Arrays.toString(profiles)).append(')');
+        for (String key : SETTINGS) {
+            report.append("\n  ").append(key).append(" = ").append(environment.getProperty(key, "(default)"));
+        }
+        log.info(report.toString());
+
+        if (environment.acceptsProfiles(Profiles.of("prod"))) {
+            DEV_ONLY_VALUES.forEach((key, devValue) -> {
+                if (devValue.equalsIgnoreCase(environment.getProperty(key, ""))) {
+                    log.warn("Development setting active under prod profile: {} = {}", key, devValue);
+                }
+            });
+        }
+    }
+}
@@ -2,8 +2,15 @@ package com.school.sms.config;
 
 import com.school.sms.security.JwtAuthenticationEntryPoint;
 import com.school.sms.security.JwtAuthenticationFilter;
+import com.school.sms.common.enums.Role;
+import com.school.sms.security.PasswordHashingExecutor;
+import com.school.sms.security.RolePasswordEncoder;
 import com.school.sms.security.UserDetailsServiceImpl;
+import jakarta.servlet.DispatcherType;
+import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -15,7 +22,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -24,7 +30,9 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Spring Security Configuration
@@ -33,20 +41,35 @@ import java.util.List;
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true, securedEnabled = true)
+@EnableConfigurationProperties(SecurityConfig.PasswordHashingProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
         private final UserDetailsServiceImpl userDetailsService;
         private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
         private final JwtAuthenticationFilter jwtAuthenticationFilter;
+        private final PasswordHashingExecutor passwordHashingExecutor;
+        private final PasswordHashingProperties passwordHashingProperties;
+
+        /**
+         * Role-aware password encoder
+         * BCrypt work factor per role, id-prefixed hashes, hashed on the bounded PasswordHashingExecutor
+         */
+        @Bean
+        public RolePasswordEncoder rolePasswordEncoder() {
+                return new RolePasswordEncoder(
+                                passwordHashingProperties.getDefaultStrength(),
+                                passwordHashingProperties.getStrengthByRole(),
+                                passwordHashingExecutor);
+        }
 
         /**
          * Password encoder bean
-         * Uses BCrypt with strength 12
+         * Verifies any id-prefixed or legacy BCrypt hash
          */
         @Bean
         public PasswordEncoder passwordEncoder() {
-                return new BCryptPasswordEncoder(12);
+                return rolePasswordEncoder().getVerifyingEncoder();
         }
 
         /**
@@ -91,6 +114,10 @@ public class SecurityConfig {
 
                                 // Authorization rules
                                 .authorizeHttpRequests(auth -> auth
+                                                // Async dispatch that completes a live-update (SSE) stream;
+                                                // the request was authorized when the stream was opened
+                                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                                                 // Public endpoints
                                                 .requestMatchers(
                                                                 "/api/auth/**",
@@ -140,6 +167,16 @@ public class SecurityConfig {
                                                 .hasAnyRole("ADMIN", "PRINCIPAL", "TEACHER", "ACADEMIC_TEACHER",
                                                                 "DISCIPLINE_TEACHER")
 
+                                                // Attendance API endpoints - Admin, Principal, and Teachers
+                                                .requestMatchers("/api/attendance/**")
+                                                .hasAnyRole("ADMIN", "PRINCIPAL", "TEACHER", "ACADEMIC_TEACHER",
+                                                                "DISCIPLINE_TEACHER")
+
+                                                // Delta sync API endpoints - Admin, Principal, and Teachers
+                                                .requestMatchers("/api/sync/**")
+                                                .hasAnyRole("ADMIN", "PRINCIPAL", "TEACHER", "ACADEMIC_TEACHER",
+                                                                "DISCIPLINE_TEACHER")
+
                                                 // Student API endpoints
                                                 .requestMatchers("/api/student/**")
                                                 .hasAnyRole("ADMIN", "PRINCIPAL", "TEACHER", "ACADEMIC_TEACHER",
@@ -149,6 +186,12 @@ public class SecurityConfig {
                                                 .requestMatchers("/api/parent/**")
                                                 .hasAnyRole("ADMIN", "PARENT")
 
+                                                // Actuator (management port, loopback only) - probes and scraping
+                                                .requestMatchers("/actuator/health", "/actuator/info",
+                                                                "/actuator/prometheus")
+                                                .permitAll()
+                                                .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                                                 // All other requests require authentication
                                                 .anyRequest().authenticated())
 
@@ -183,6 +226,7 @@ public class SecurityConfig {
                                 "X-Requested-With",
                                 "Accept",
                                 "Origin",
+                                "Last-Event-ID",
                                 "Access-Control-Request-Method",
                                 "Access-Control-Request-Headers"));
 
@@ -203,4 +247,16 @@ public class SecurityConfig {
 
                 return source;
         }
+
+        /**
+         * BCrypt work factors, e.g. default-strength: 12, strength-by-role: { STUDENT: 10 }
+         */
+        @Data
+        @ConfigurationProperties(prefix = "app.security.password-hashing")
+        public static class PasswordHashingProperties {
+
+                private int defaultStrength = 12;
+
+                private Map<Role, Integer> strengthByRole = new EnumMap<>(Role.class);
+        }
 }
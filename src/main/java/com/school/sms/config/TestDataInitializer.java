@@ -13,30 +13,45 @@ import com.school.sms.teacher.entity.Teacher;
 import com.school.sms.teacher.repository.TeacherRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.CommandLineRunner;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 
 /**
  * Data Initializer - Creates test students and teachers
  * 30 students per class (classes 1-7) = 210 total students
- * 14 teachers (2 per class)
+ * 14 teachers (2 per class), plus the teacher_demo / student_demo accounts
+ * Runs only under the dev (default) or seed profile, in the background once the
+ * application is ready. Idempotent: one query finds which fixture accounts already
+ * exist and only the missing ones are inserted, one transaction per class.
  */
-@Configuration
+@Component
+@Profile("dev | seed")
 @RequiredArgsConstructor
 @Slf4j
 public class TestDataInitializer {
 
+    // Precomputed BCrypt (cost 10) hashes of the documented fixture passwords; hashing at
+    // startup cost a full BCrypt round per account. Logins upgrade them to the role's strength.
+    static final String STUDENT_PASSWORD_HASH = "{bcrypt10}$2a$10$Rv905i5NWN0gQL.9mWBLl.56Q4wssP9M3SYz3dHkB1UR04xC5FCLC"; // Student@123
+    static final String TEACHER_PASSWORD_HASH = "{bcrypt10}$2a$10$24tbQPA23lc3KKsqhmdOBet1ZCWVkG11vZGzdDXvsU0i4YL4EaXqq"; // Teacher@123
+
     private final UserRepository userRepository;
     private final StudentRepository studentRepository;
     private final TeacherRepository teacherRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
 
     private static final String[] FIRST_NAMES_MALE = {
             "James", "John", "Michael", "David", "Daniel", "Matthew", "Andrew", "Joseph",
@@ -82,141 +97,113 @@ public class TestDataInitializer {
             "B.Ed", "M.Ed", "B.Sc", "M.Sc", "B.A", "M.A", "Ph.D"
     };
 
-    private final Random random = new Random(42); // Fixed seed for reproducibility
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedTestData() {
+        long started = System.currentTimeMillis();
+        Random random = new Random(42); // Fixed seed for reproducibility
 
-    @Bean
-    public CommandLineRunner initTestData() {
-        return args -> {
-            // Check if test students already exist
-            long currentCount = studentRepository.count();
-            if (currentCount >= 200) {
-                log.info("Test students already exist ({} students found). Skipping initialization.", currentCount);
-                return;
-            }
+        Map<String, Student> students = buildStudents(random);
+        Map<String, Teacher> teachers = buildTeachers(random);
+        List<User> demoUsers = buildDemoUsers();
 
-            log.info("Starting test data initialization...");
-            log.info("Current student count: {}. Creating 210 test students (30 per class for classes 1-7)...",
-                    currentCount);
-
-            int totalCreated = 0;
-            List<User> usersToSave = new ArrayList<>();
-            List<Student> studentsToSave = new ArrayList<>();
-
-            for (int classNum = 1; classNum <= 7; classNum++) {
-                for (int studentNum = 1; studentNum <= 30; studentNum++) {
-                    try {
-                        boolean isMale = random.nextBoolean();
-                        Gender gender = isMale ? Gender.MALE : Gender.FEMALE;
-
-                        String firstName = isMale
-                                ? FIRST_NAMES_MALE[random.nextInt(FIRST_NAMES_MALE.length)]
-                                : FIRST_NAMES_FEMALE[random.nextInt(FIRST_NAMES_FEMALE.length)];
-                        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
-
-                        String section = SECTIONS[studentNum <= 15 ? 0 : 1]; // First 15 in A, rest in B
-                        String username = String.format("student_c%d_%02d", classNum, studentNum);
-                        String email = String.format("student.c%d.%02d@school.edu", classNum, studentNum);
-                        String admissionNumber = String.format("ADM2026%d%03d", classNum, studentNum);
-                        String rollNumber = String.format("C%d%s%02d", classNum, section,
-                                studentNum <= 15 ? studentNum : studentNum - 15);
-
-                        // Skip if user already exists
-                        if (userRepository.existsByUsername(username)) {
-                            continue;
-                        }
-
-                        // Create User
-                        User user = User.builder()
-                                .username(username)
-                                .email(email)
-                                .password(passwordEncoder.encode("Student@123"))
-                                .firstName(firstName)
-                                .lastName(lastName)
-                                .role(Role.STUDENT)
-                                .gender(gender)
-                                .accountStatus(AccountStatus.ACTIVE)
-                                .emailVerified(true)
-                                .passwordExpired(false)
-                                .build();
-
-                        user = userRepository.save(user);
-
-                        // Calculate age appropriate date of birth (Class 1 = 6 years, Class 7 = 12
-                        // years)
-                        int age = 5 + classNum;
-                        LocalDate dob = LocalDate.now().minusYears(age).minusMonths(random.nextInt(12))
-                                .minusDays(random.nextInt(28));
-
-                        // Create Student
-                        Student student = Student.builder()
-                                .user(user)
-                                .admissionNumber(admissionNumber)
-                                .rollNumber(rollNumber)
-                                .dateOfBirth(dob)
-                                .gender(gender)
-                                .bloodGroup(BLOOD_GROUPS[random.nextInt(BLOOD_GROUPS.length)])
-                                .currentClass("Class " + classNum)
-                                .section(section)
-                                .admissionDate(LocalDate.of(2026, 1, 15))
-                                .status(StudentStatus.ACTIVE)
-                                .nationality("American")
-                                .address(String.format("%d Main Street, Apt %d", 100 + random.nextInt(900),
-                                        random.nextInt(50) + 1))
-                                .city("Springfield")
-                                .state("Illinois")
-                                .postalCode(String.format("%05d", 60000 + random.nextInt(999)))
-                                .country("USA")
-                                .fatherName(FIRST_NAMES_MALE[random.nextInt(FIRST_NAMES_MALE.length)] + " " + lastName)
-                                .fatherPhone(String.format("55512%04d", random.nextInt(10000)))
-                                .fatherEmail(String.format("parent.%s@email.com", username))
-                                .motherName(
-                                        FIRST_NAMES_FEMALE[random.nextInt(FIRST_NAMES_FEMALE.length)] + " " + lastName)
-                                .motherPhone(String.format("55513%04d", random.nextInt(10000)))
-                                .build();
-
-                        studentRepository.save(student);
-                        totalCreated++;
-
-                        if (totalCreated % 30 == 0) {
-                            log.info("Created {} students so far (Class {} complete)", totalCreated, classNum);
-                        }
-
-                    } catch (Exception e) {
-                        log.error("Error creating student for Class {} #{}: {}", classNum, studentNum, e.getMessage());
-                    }
-                }
-            }
+        List<String> usernames = new ArrayList<>(students.keySet());
+        usernames.addAll(teachers.keySet());
+        demoUsers.forEach(user -> usernames.add(user.getUsername()));
+
+        // Single existence check for every fixture account
+        Set<String> existing = userRepository.findExistingUsernames(usernames);
+        if (existing.size() == usernames.size()) {
+            log.info("Test data already present ({} fixture accounts). Skipping initialization.", existing.size());
+            return;
+        }
+        log.info("Seeding test data in the background ({} of {} fixture accounts missing)...",
+                usernames.size() - existing.size(), usernames.size());
+
+        List<User> missingDemoUsers = demoUsers.stream()
+                .filter(user -> !existing.contains(user.getUsername()))
+                .toList();
+        if (!missingDemoUsers.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> userRepository.saveAll(missingDemoUsers));
+        }
 
-            log.info("===================================================");
-            log.info("Test data initialization complete!");
-            log.info("Total students created: {}", totalCreated);
-            log.info("Classes: 1-7, Students per class: 30");
-            log.info("Sections: A (students 1-15), B (students 16-30)");
-            log.info("===================================================");
-            log.info("Login credentials for any student:");
-            log.info("  Username pattern: student_c[CLASS]_[NUMBER]");
-            log.info("  Example: student_c1_01 (Class 1, Student 1)");
-            log.info("  Password: Student@123");
-            log.info("===================================================");
-
-            // Create test teachers
-            createTestTeachers();
-        };
+        int studentsCreated = 0;
+        for (int classNum = 1; classNum <= 7; classNum++) {
+            String classPrefix = String.format("student_c%d_", classNum);
+            List<Student> batch = students.entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith(classPrefix) && !existing.contains(entry.getKey()))
+                    .map(Map.Entry::getValue)
+                    .toList();
+            studentsCreated += saveStudents(classNum, batch);
+        }
+
+        List<Teacher> missingTeachers = teachers.entrySet().stream()
+                .filter(entry -> !existing.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .toList();
+        int teachersCreated = saveTeachers(missingTeachers);
+
+        log.info("===================================================");
+        log.info("Test data initialization complete in {} ms", System.currentTimeMillis() - started);
+        log.info("Students created: {}, teachers created: {}, demo accounts created: {}",
+                studentsCreated, teachersCreated, missingDemoUsers.size());
+        log.info("Classes: 1-7, Students per class: 30");
+        log.info("Sections: A (students 1-15), B (students 16-30)");
+        log.info("===================================================");
+        log.info("Login credentials for any student:");
+        log.info("  Username pattern: student_c[CLASS]_[NUMBER]");
+        log.info("  Example: student_c1_01 (Class 1, Student 1)");
+        log.info("  Password: Student@123");
+        log.info("Login credentials for any teacher:");
+        log.info("  Username pattern: teacher_[NUMBER]");
+        log.info("  Example: teacher_01, teacher_02, ... teacher_14");
+        log.info("  Password: Teacher@123");
+        log.info("Demo accounts: teacher_demo / Teacher@123, student_demo / Student@123");
+        log.info("===================================================");
     }
 
-    private void createTestTeachers() {
-        long teacherCount = teacherRepository.count();
-        if (teacherCount >= 14) {
-            log.info("Test teachers already exist ({} teachers found). Skipping teacher initialization.", teacherCount);
-            return;
+    private int saveStudents(int classNum, List<Student> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.saveAll(batch.stream().map(Student::getUser).toList());
+                studentRepository.saveAll(batch);
+            });
+            log.debug("Created {} students for Class {}", batch.size(), classNum);
+            return batch.size();
+        } catch (Exception e) {
+            log.error("Error creating students for Class {}: {}", classNum, e.getMessage());
+            return 0;
         }
+    }
 
-        log.info("Creating 14 test teachers (2 per class for classes 1-7)...");
+    private int saveTeachers(List<Teacher> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.saveAll(batch.stream().map(Teacher::getUser).toList());
+                teacherRepository.saveAll(batch);
+            });
+            return batch.size();
+        } catch (Exception e) {
+            log.error("Error creating test teachers: {}", e.getMessage());
+            return 0;
+        }
+    }
 
-        int teachersCreated = 0;
+    /**
+     * All fixture students keyed by username, generated in a fixed order so the
+     * same seed always yields the same data
+     */
+    private Map<String, Student> buildStudents(Random random) {
+        Map<String, Student> students = new LinkedHashMap<>();
 
-        for (int i = 1; i <= 14; i++) {
-            try {
+        for (int classNum = 1; classNum <= 7; classNum++) {
+            for (int studentNum = 1; studentNum <= 30; studentNum++) {
                 boolean isMale = random.nextBoolean();
                 Gender gender = isMale ? Gender.MALE : Gender.FEMALE;
 
@@ -225,86 +212,168 @@ public class TestDataInitializer {
                         : FIRST_NAMES_FEMALE[random.nextInt(FIRST_NAMES_FEMALE.length)];
                 String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
 
-                String username = String.format("teacher_%02d", i);
-                String email = String.format("teacher.%02d@school.edu", i);
-                String employeeId = String.format("EMP%04d", 1000 + i);
-
-                // Skip if user already exists
-                if (userRepository.existsByUsername(username)) {
-                    log.info("Teacher {} already exists, skipping...", username);
-                    continue;
-                }
+                String section = SECTIONS[studentNum <= 15 ? 0 : 1]; // First 15 in A, rest in B
+                String username = String.format("student_c%d_%02d", classNum, studentNum);
+                String email = String.format("student.c%d.%02d@school.edu", classNum, studentNum);
+                String admissionNumber = String.format("ADM2026%d%03d", classNum, studentNum);
+                String rollNumber = String.format("C%d%s%02d", classNum, section,
+                        studentNum <= 15 ? studentNum : studentNum - 15);
 
-                // Create User with TEACHER role (not ACADEMIC_TEACHER or PRINCIPAL)
                 User user = User.builder()
                         .username(username)
                         .email(email)
-                        .password(passwordEncoder.encode("Teacher@123"))
+                        .password(STUDENT_PASSWORD_HASH)
                         .firstName(firstName)
                         .lastName(lastName)
-                        .role(Role.TEACHER) // Regular teacher role only
+                        .role(Role.STUDENT)
                         .gender(gender)
                         .accountStatus(AccountStatus.ACTIVE)
                         .emailVerified(true)
                         .passwordExpired(false)
                         .build();
 
-                user = userRepository.save(user);
-
-                // Calculate date of birth (teachers are 25-50 years old)
-                int age = 25 + random.nextInt(26);
+                // Calculate age appropriate date of birth (Class 1 = 6 years, Class 7 = 12
+                // years)
+                int age = 5 + classNum;
                 LocalDate dob = LocalDate.now().minusYears(age).minusMonths(random.nextInt(12))
                         .minusDays(random.nextInt(28));
 
-                // Assign 2-3 subjects to each teacher
-                int numSubjects = 2 + random.nextInt(2);
-                StringBuilder subjectsBuilder = new StringBuilder();
-                for (int j = 0; j < numSubjects; j++) {
-                    if (j > 0)
-                        subjectsBuilder.append(", ");
-                    subjectsBuilder.append(SUBJECTS[(i + j) % SUBJECTS.length]);
-                }
-
-                // Create Teacher
-                Teacher teacher = Teacher.builder()
+                Student student = Student.builder()
                         .user(user)
-                        .employeeId(employeeId)
-                        .firstName(firstName)
-                        .lastName(lastName)
-                        .email(email)
-                        .phone(String.format("55514%04d", random.nextInt(10000)))
+                        .admissionNumber(admissionNumber)
+                        .rollNumber(rollNumber)
                         .dateOfBirth(dob)
-                        .gender(isMale ? Teacher.Gender.MALE : Teacher.Gender.FEMALE)
-                        .address(String.format("%d Oak Avenue, Suite %d", 200 + random.nextInt(800),
-                                random.nextInt(20) + 1))
-                        .qualification(QUALIFICATIONS[random.nextInt(QUALIFICATIONS.length)])
-                        .specialization(subjectsBuilder.toString())
-                        .experienceYears(random.nextInt(20) + 1)
-                        .joiningDate(
-                                LocalDate.of(2020 + random.nextInt(6), 1 + random.nextInt(12), 1 + random.nextInt(28)))
-                        .salary(35000.0 + random.nextInt(25000))
-                        .employmentStatus(Teacher.EmploymentStatus.ACTIVE)
-                        .subjects(subjectsBuilder.toString())
+                        .gender(gender)
+                        .bloodGroup(BLOOD_GROUPS[random.nextInt(BLOOD_GROUPS.length)])
+                        .currentClass("Class " + classNum)
+                        .section(section)
+                        .admissionDate(LocalDate.of(2026, 1, 15))
+                        .status(StudentStatus.ACTIVE)
+                        .nationality("American")
+                        .address(String.format("%d Main Street, Apt %d", 100 + random.nextInt(900),
+                                random.nextInt(50) + 1))
+                        .city("Springfield")
+                        .state("Illinois")
+                        .postalCode(String.format("%05d", 60000 + random.nextInt(999)))
+                        .country("USA")
+                        .fatherName(FIRST_NAMES_MALE[random.nextInt(FIRST_NAMES_MALE.length)] + " " + lastName)
+                        .fatherPhone(String.format("55512%04d", random.nextInt(10000)))
+                        .fatherEmail(String.format("parent.%s@email.com", username))
+                        .motherName(
+                                FIRST_NAMES_FEMALE[random.nextInt(FIRST_NAMES_FEMALE.length)] + " " + lastName)
+                        .motherPhone(String.format("55513%04d", random.nextInt(10000)))
                         .build();
 
-                teacherRepository.save(teacher);
-                teachersCreated++;
+                students.put(username, student);
+            }
+        }
+        return students;
+    }
 
-                log.info("Created teacher {}: {} {} ({})", i, firstName, lastName, subjectsBuilder);
+    private Map<String, Teacher> buildTeachers(Random random) {
+        Map<String, Teacher> teachers = new LinkedHashMap<>();
 
-            } catch (Exception e) {
-                log.error("Error creating teacher #{}: {}", i, e.getMessage());
+        for (int i = 1; i <= 14; i++) {
+            boolean isMale = random.nextBoolean();
+            Gender gender = isMale ? Gender.MALE : Gender.FEMALE;
+
+            String firstName = isMale
+                    ? FIRST_NAMES_MALE[random.nextInt(FIRST_NAMES_MALE.length)]
+                    : FIRST_NAMES_FEMALE[random.nextInt(FIRST_NAMES_FEMALE.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+
+            String username = String.format("teacher_%02d", i);
+            String email = String.format("teacher.%02d@school.edu", i);
+            String employeeId = String.format("EMP%04d", 1000 + i);
+
+            // Create User with TEACHER role (not ACADEMIC_TEACHER or PRINCIPAL)
+            User user = User.builder()
+                    .username(username)
+                    .email(email)
+                    .password(TEACHER_PASSWORD_HASH)
+                    .firstName(firstName)
+                    .lastName(lastName)
+                    .role(Role.TEACHER) // Regular teacher role only
+                    .gender(gender)
+                    .accountStatus(AccountStatus.ACTIVE)
+                    .emailVerified(true)
+                    .passwordExpired(false)
+                    .build();
+
+            // Calculate date of birth (teachers are 25-50 years old)
+            int age = 25 + random.nextInt(26);
+            LocalDate dob = LocalDate.now().minusYears(age).minusMonths(random.nextInt(12))
+                    .minusDays(random.nextInt(28));
+
+            // Assign 2-3 subjects to each teacher
+            int numSubjects = 2 + random.nextInt(2);
+            StringBuilder subjectsBuilder = new StringBuilder();
+            for (int j = 0; j < numSubjects; j++) {
+                if (j > 0)
+                    subjectsBuilder.append(", ");
+                subjectsBuilder.append(SUBJECTS[(i + j) % SUBJECTS.length]);
             }
+
+            Teacher teacher = Teacher.builder()
+                    .user(user)
+                    .employeeId(employeeId)
+                    .firstName(firstName)
+                    .lastName(lastName)
+                    .email(email)
+                    .phone(String.format("55514%04d", random.nextInt(10000)))
+                    .dateOfBirth(dob)
+                    .gender(isMale ? Teacher.Gender.MALE : Teacher.Gender.FEMALE)
+                    .address(String.format("%d Oak Avenue, Suite %d", 200 + random.nextInt(800),
+                            random.nextInt(20) + 1))
+                    .qualification(QUALIFICATIONS[random.nextInt(QUALIFICATIONS.length)])
+                    .specialization(subjectsBuilder.toString())
+                    .experienceYears(random.nextInt(20) + 1)
+                    .joiningDate(
+                            LocalDate.of(2020 + random.nextInt(6), 1 + random.nextInt(12), 1 + random.nextInt(28)))
+                    .salary(35000.0 + random.nextInt(25000))
+                    .employmentStatus(Teacher.EmploymentStatus.ACTIVE)
+                    .subjects(subjectsBuilder.toString())
+                    .build();
+
+            teachers.put(username, teacher);
         }
+        return teachers;
+    }
 
-        log.info("===================================================");
-        log.info("Teacher initialization complete!");
-        log.info("Total teachers created: {}", teachersCreated);
-        log.info("===================================================");
-        log.info("Login credentials for any teacher:");
-        log.info("  Username pattern: teacher_[NUMBER]");
-        log.info("  Example: teacher_01, teacher_02, ... teacher_14");
-        log.info("  Password: Teacher@123");
-        log.info("===================================================");
+    /**
+     * Demo accounts without a profile row, for quick manual testing
+     */
+    private List<User> buildDemoUsers() {
+        return List.of(
+                User.builder()
+                        .username("teacher_demo")
+                        .email("teacher@school.com")
+                        .password(TEACHER_PASSWORD_HASH)
+                        .firstName("John")
+                        .lastName("Smith")
+                        .phoneNumber("1234567890")
+                        .role(Role.TEACHER)
+                        .gender(Gender.MALE)
+                        .accountStatus(AccountStatus.ACTIVE)
+                        .emailVerified(true)
+                        .failedLoginAttempts(0)
+                        .passwordExpired(false)
+                        .passwordChangedAt(LocalDateTime.now())
+                        .build(),
+                User.builder()
+                        .username("student_demo")
+                        .email("student@school.com")
+                        .password(STUDENT_PASSWORD_HASH)
+                        .firstName("Jane")
+                        .lastName("Doe")
+                        .phoneNumber("0987654321")
+                        .role(Role.STUDENT)
+                        .gender(Gender.FEMALE)
+                        .accountStatus(AccountStatus.ACTIVE)
+                        .emailVerified(true)
+                        .failedLoginAttempts(0)
+                        .passwordExpired(false)
+                        .passwordChangedAt(LocalDateTime.now())
+                        .build());
     }
 }
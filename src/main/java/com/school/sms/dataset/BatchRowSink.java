@@ -0,0 +1,67 @@
+package com.school.sms.dataset;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+
+/**
+ * Writes rows with batched INSERTs, committing every batch
+ * Fallback for setups where COPY is not available (e.g. behind some poolers);
+ * reWriteBatchedInserts on the data source turns each batch into multi-row INSERTs.
+ */
+class BatchRowSink implements RowSink {
+
+    private final Connection connection;
+    private final PreparedStatement statement;
+    private final int batchSize;
+    private int pending;
+    private long rowCount;
+
+    BatchRowSink(Connection connection, int batchSize, String table, String... columns) throws SQLException {
+        this.connection = connection;
+        this.batchSize = batchSize;
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columns.length, "?")) + ")";
+        this.statement = connection.prepareStatement(sql);
+    }
+
+    @Override
+    public void row(Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            statement.setObject(i + 1, value instanceof Enum<?> e ? e.name() : value);
+        }
+        statement.addBatch();
+        rowCount++;
+
+        if (++pending >= batchSize) {
+            flush();
+        }
+    }
+
+    @Override
+    public long rowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            flush();
+        } finally {
+            statement.close();
+        }
+    }
+
+    private void flush() throws SQLException {
+        if (pending == 0) {
+            return;
+        }
+        statement.executeBatch();
+        if (!connection.getAutoCommit()) {
+            connection.commit();
+        }
+        pending = 0;
+    }
+}
@@ -0,0 +1,420 @@
+package com.school.sms.dataset;
+
+import com.school.sms.common.enums.AccountStatus;
+import com.school.sms.common.enums.BloodGroup;
+import com.school.sms.common.enums.Gender;
+import com.school.sms.common.enums.Role;
+import com.school.sms.common.enums.StudentStatus;
+import com.school.sms.security.RolePasswordEncoder;
+import com.school.sms.teacher.entity.Teacher;
+import com.school.sms.timetable.entity.StudentResult;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+/**
+ * Synthetic multi-school dataset for load testing (profile "dataset")
+ * Generates users, students, teachers, results and audit rows at production scale
+ * with COPY (or batched INSERTs), bypassing JPA. Usernames follow
+ * ds_student_NNNNNN / ds_teacher_NNNNN and share one password, which is hashed once.
+ * Schools are encoded in the section name (S03-A) since the schema has no school table.
+ * <pre>
+ * mvn spring-boot:run -Dspring-boot.run.profiles=dataset \
+ *     -Dspring-boot.run.arguments="--app.dataset.students=50000 --app.dataset.results-per-student=100"
+ * </pre>
+ */
+@Configuration
+@Profile("dataset")
+@EnableConfigurationProperties(DatasetGenerator.DatasetProperties.class)
+@RequiredArgsConstructor
+@Slf4j
+public class DatasetGenerator {
+
+    public static final String STUDENT_USERNAME_FORMAT = "ds_student_%06d";
+    public static final String TEACHER_USERNAME_FORMAT = "ds_teacher_%05d";
+
+    private static final String[] FIRST_NAMES = {
+            "James", "John", "Michael", "David", "Daniel", "Matthew", "Andrew", "Joseph", "William", "Thomas",
+            "Emma", "Olivia", "Sophia", "Isabella", "Mia", "Charlotte", "Amelia", "Harper", "Evelyn", "Grace" };
+
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez",
+            "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore" };
+
+    private static final String[] SUBJECTS = {
+            "Mathematics", "English", "Science", "Social Studies", "Art", "Music", "Physical Education",
+            "Computer Science", "History", "Geography" };
+
+    private static final String[] EXAM_TYPES = { "Quiz", "Assignment", "Midterm", "Final" };
+
+    private static final String[] TERMS = { "Term 1", "Term 2", "Term 3" };
+
+    private static final String[] QUALIFICATIONS = { "B.Ed", "M.Ed", "B.Sc", "M.Sc", "B.A", "M.A", "Ph.D" };
+
+    private static final String[] AUDIT_ACTIONS = {
+            "LOGIN", "LOGIN", "LOGIN", "VIEW", "VIEW", "UPDATE", "CREATE", "LOGOUT", "DELETE" };
+
+    private static final String[] AUDIT_ENTITIES = { "User", "Student", "Teacher", "StudentResult", "Timetable" };
+
+    private static final int CLASSES_PER_SCHOOL = 7;
+    private static final int STUDENTS_PER_SECTION = 30;
+
+    private static final String[] BASE_COLUMNS = { "id", "created_at", "updated_at", "version", "active" };
+
+    private final DataSource dataSource;
+    private final RolePasswordEncoder passwordEncoder;
+    private final DatasetProperties properties;
+    private final ApplicationContext applicationContext;
+
+    @Bean
+    public CommandLineRunner generateDataset() {
+        return args -> {
+            try {
+                generate();
+            } finally {
+                if (properties.isExitWhenDone()) {
+                    System.exit(SpringApplication.exit(applicationContext, () -> 0));
+                }
+            }
+        };
+    }
+
+    private void generate() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            if (alreadyGenerated(connection)) {
+                log.info("Dataset already present ({} exists). Skipping generation.",
+                        String.format(STUDENT_USERNAME_FORMAT, 1));
+                return;
+            }
+
+            log.info("Generating dataset: {} schools, {} students, {} teachers, {} results, {} audit rows ({} mode)",
+                    properties.getSchools(), properties.getStudents(), properties.getTeachers(),
+                    (long) properties.getStudents() * properties.getResultsPerStudent(),
+                    properties.getAuditRows(), properties.getMode());
+
+            // One hash per role instead of one per user
+            String studentHash = passwordEncoder.encode(properties.getPassword(), Role.STUDENT);
+            String teacherHash = passwordEncoder.encode(properties.getPassword(), Role.TEACHER);
+
+            long started = System.nanoTime();
+            connection.setAutoCommit(false);
+            execute(connection, "SET synchronous_commit TO off");
+            try {
+                long userBase = maxId(connection, "users");
+                long studentBase = maxId(connection, "students");
+                long teacherBase = maxId(connection, "teachers");
+
+                timed("users", () -> loadUsers(connection, userBase, studentHash, teacherHash));
+                timed("students", () -> loadStudents(connection, studentBase, userBase));
+                timed("teachers", () -> loadTeachers(connection, teacherBase, userBase + properties.getStudents()));
+                timed("student_results", () -> loadResults(connection, maxId(connection, "student_results"),
+                        studentBase));
+                timed("audit_logs", () -> loadAuditLogs(connection, maxId(connection, "audit_logs")));
+
+                for (String table : new String[] { "users", "students", "teachers", "student_results", "audit_logs" }) {
+                    resetIdentity(connection, table);
+                    execute(connection, "ANALYZE " + table);
+                }
+                connection.commit();
+            } catch (SQLException | RuntimeException ex) {
+                connection.rollback();
+                throw ex;
+            } finally {
+                execute(connection, "RESET synchronous_commit");
+                connection.commit();
+                connection.setAutoCommit(true);
+            }
+            log.info("Dataset generated in {} s", (System.nanoTime() - started) / 1_000_000_000);
+        }
+    }
+
+    private long loadUsers(Connection connection, long userBase, String studentHash, String teacherHash)
+            throws SQLException {
+        Random random = new Random(properties.getSeed());
+        LocalDateTime now = LocalDateTime.now();
+        try (RowSink sink = openSink(connection, "users", "username", "email", "password", "first_name",
+                "last_name", "phone_number", "role", "gender", "account_status", "email_verified",
+                "failed_login_attempts", "password_expired", "password_changed_at")) {
+            for (int i = 1; i <= properties.getStudents(); i++) {
+                String username = String.format(STUDENT_USERNAME_FORMAT, i);
+                sink.row(userBase + i, now, now, 0L, true,
+                        username, username + "@students.school.edu", studentHash,
+                        pick(random, FIRST_NAMES), pick(random, LAST_NAMES), phone(random),
+                        Role.STUDENT, random.nextBoolean() ? Gender.MALE : Gender.FEMALE, AccountStatus.ACTIVE,
+                        true, 0, false, now);
+            }
+            for (int i = 1; i <= properties.getTeachers(); i++) {
+                String username = String.format(TEACHER_USERNAME_FORMAT, i);
+                sink.row(userBase + properties.getStudents() + i, now, now, 0L, true,
+                        username, username + "@staff.school.edu", teacherHash,
+                        pick(random, FIRST_NAMES), pick(random, LAST_NAMES), phone(random),
+                        Role.TEACHER, random.nextBoolean() ? Gender.MALE : Gender.FEMALE, AccountStatus.ACTIVE,
+                        true, 0, false, now);
+            }
+            return sink.rowCount();
+        }
+    }
+
+    private long loadStudents(Connection connection, long studentBase, long userBase) throws SQLException {
+        Random random = new Random(properties.getSeed() + 1);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = LocalDate.now();
+        int perSchool = perSchool(properties.getStudents());
+
+        try (RowSink sink = openSink(connection, "students", "user_id", "admission_number", "roll_number",
+                "date_of_birth", "gender", "blood_group", "current_class", "section", "admission_date", "status",
+                "nationality", "address", "city", "state", "postal_code", "country", "father_name",
+                "father_phone", "father_email", "mother_name", "mother_phone")) {
+            for (int i = 1; i <= properties.getStudents(); i++) {
+                int school = (i - 1) / perSchool + 1;
+                int rank = (i - 1) % perSchool;
+                int classNum = rank % CLASSES_PER_SCHOOL + 1;
+                int slot = rank / CLASSES_PER_SCHOOL;
+                String sectionLetter = sectionLetter(slot / STUDENTS_PER_SECTION);
+                String lastName = pick(random, LAST_NAMES);
+
+                sink.row(studentBase + i, now, now, 0L, true,
+                        userBase + i,
+                        String.format("DS%06d", i),
+                        String.format("S%02dC%d%s%02d", school, classNum, sectionLetter,
+                                slot % STUDENTS_PER_SECTION + 1),
+                        today.minusYears(5L + classNum).minusDays(random.nextInt(365)),
+                        random.nextBoolean() ? Gender.MALE : Gender.FEMALE,
+                        pick(random, BloodGroup.values()),
+                        "Class " + classNum,
+                        section(school, sectionLetter),
+                        today.minusYears(random.nextInt(classNum)).withDayOfYear(15),
+                        StudentStatus.ACTIVE,
+                        "American",
+                        String.format("%d Main Street, Apt %d", 100 + random.nextInt(900), random.nextInt(50) + 1),
+                        "Springfield", "Illinois", String.format("%05d", 60000 + random.nextInt(999)), "USA",
+                        pick(random, FIRST_NAMES) + " " + lastName, phone(random),
+                        String.format("parent.ds%06d@email.com", i),
+                        pick(random, FIRST_NAMES) + " " + lastName, phone(random));
+            }
+            return sink.rowCount();
+        }
+    }
+
+    private long loadTeachers(Connection connection, long teacherBase, long userBase) throws SQLException {
+        Random random = new Random(properties.getSeed() + 2);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = LocalDate.now();
+
+        try (RowSink sink = openSink(connection, "teachers", "user_id", "employee_id", "first_name", "last_name",
+                "email", "phone", "gender", "qualification", "experience_years", "joining_date",
+                "employment_status", "subjects")) {
+            for (int i = 1; i <= properties.getTeachers(); i++) {
+                int experience = 1 + random.nextInt(25);
+                sink.row(teacherBase + i, now, now, 0L, true,
+                        userBase + i,
+                        String.format("DST%05d", i),
+                        pick(random, FIRST_NAMES), pick(random, LAST_NAMES),
+                        String.format(TEACHER_USERNAME_FORMAT, i) + "@staff.school.edu",
+                        phone(random),
+                        random.nextBoolean() ? Teacher.Gender.MALE : Teacher.Gender.FEMALE,
+                        pick(random, QUALIFICATIONS),
+                        experience,
+                        today.minusYears(experience),
+                        Teacher.EmploymentStatus.ACTIVE,
+                        pick(random, SUBJECTS) + "," + pick(random, SUBJECTS));
+            }
+            return sink.rowCount();
+        }
+    }
+
+    private long loadResults(Connection connection, long resultBase, long studentBase) throws SQLException {
+        Random random = new Random(properties.getSeed() + 3);
+        LocalDateTime now = LocalDateTime.now();
+        int perStudent = properties.getResultsPerStudent();
+        int perTerm = SUBJECTS.length * EXAM_TYPES.length;
+        int perYear = perTerm * TERMS.length;
+        int currentYear = LocalDate.now().getYear();
+
+        try (RowSink sink = openSink(connection, "student_results", "student_id", "subject", "exam_type",
+                "academic_year", "term", "marks_obtained", "total_marks", "grade", "is_published")) {
+            long id = resultBase;
+            for (int i = 1; i <= properties.getStudents(); i++) {
+                int ability = 35 + random.nextInt(50);
+                for (int k = 0; k < perStudent; k++) {
+                    int yearsBack = k / perYear;
+                    int term = (k % perYear) / perTerm;
+                    double marks = Math.max(0, Math.min(100, ability + random.nextGaussian() * 12));
+                    marks = Math.round(marks * 2) / 2.0;
+
+                    sink.row(++id, now, now, 0L, true,
+                            studentBase + i,
+                            SUBJECTS[k % SUBJECTS.length],
+                            EXAM_TYPES[(k / SUBJECTS.length) % EXAM_TYPES.length],
+                            (currentYear - 1 - yearsBack) + "-" + (currentYear - yearsBack),
+                            TERMS[term],
+                            marks,
+                            100.0,
+                            StudentResult.gradeFor(marks),
+                            // The latest term of the current year is still being marked
+                            yearsBack > 0 || term < TERMS.length - 1);
+                }
+                if (i % 10_000 == 0) {
+                    log.info("  student_results: {} students done ({} rows)", i, sink.rowCount());
+                }
+            }
+            return sink.rowCount();
+        }
+    }
+
+    private long loadAuditLogs(Connection connection, long auditBase) throws SQLException {
+        Random random = new Random(properties.getSeed() + 4);
+        LocalDateTime now = LocalDateTime.now();
+        long windowSeconds = properties.getAuditDays() * 86_400L;
+
+        try (RowSink sink = openSink(connection, "audit_logs", "username", "action", "entity_type", "entity_id",
+                "details", "ip_address", "user_agent", "success", "created_by")) {
+            for (long i = 1; i <= properties.getAuditRows(); i++) {
+                boolean teacher = random.nextInt(5) == 0;
+                String username = teacher
+                        ? String.format(TEACHER_USERNAME_FORMAT, 1 + random.nextInt(Math.max(1, properties.getTeachers())))
+                        : String.format(STUDENT_USERNAME_FORMAT, 1 + random.nextInt(Math.max(1, properties.getStudents())));
+                LocalDateTime at = now.minusSeconds((long) (random.nextDouble() * windowSeconds));
+
+                sink.row(auditBase + i, at, at, 0L, true,
+                        username,
+                        pick(random, AUDIT_ACTIONS),
+                        pick(random, AUDIT_ENTITIES),
+                        1L + random.nextInt(Math.max(1, properties.getStudents())),
+                        null,
+                        String.format("10.%d.%d.%d", random.nextInt(256), random.nextInt(256), 1 + random.nextInt(254)),
+                        "Mozilla/5.0 (load-test dataset)",
+                        random.nextInt(100) < 97,
+                        username);
+            }
+            return sink.rowCount();
+        }
+    }
+
+    private RowSink openSink(Connection connection, String table, String... columns) throws SQLException {
+        String[] allColumns = new String[BASE_COLUMNS.length + columns.length];
+        System.arraycopy(BASE_COLUMNS, 0, allColumns, 0, BASE_COLUMNS.length);
+        System.arraycopy(columns, 0, allColumns, BASE_COLUMNS.length, columns.length);
+
+        return properties.getMode() == LoadMode.COPY
+                ? new CopyRowSink(connection, table, allColumns)
+                : new BatchRowSink(connection, properties.getBatchSize(), table, allColumns);
+    }
+
+    private void timed(String table, TableLoad load) throws SQLException {
+        long started = System.nanoTime();
+        long rows = load.run();
+        long elapsedMillis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        log.info("Loaded {} rows into {} in {} ms ({} rows/s)", rows, table, elapsedMillis,
+                rows * 1000 / elapsedMillis);
+    }
+
+    private boolean alreadyGenerated(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT 1 FROM users WHERE username = ?")) {
+            statement.setString(1, String.format(STUDENT_USERNAME_FORMAT, 1));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    private static long maxId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    /**
+     * Explicit ids were written, so move the identity sequence past them
+     */
+    private static void resetIdentity(Connection connection, String table) throws SQLException {
+        execute(connection, "SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), "
+                + "(SELECT COALESCE(MAX(id), 1) FROM " + table + "))");
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private int perSchool(int students) {
+        return Math.max(1, (students + properties.getSchools() - 1) / properties.getSchools());
+    }
+
+    public static String section(int school, String sectionLetter) {
+        return String.format("S%02d-%s", school, sectionLetter);
+    }
+
+    private static String sectionLetter(int index) {
+        String letter = String.valueOf((char) ('A' + index % 26));
+        return index < 26 ? letter : letter + index / 26;
+    }
+
+    private static String phone(Random random) {
+        return String.format("555%07d", random.nextInt(10_000_000));
+    }
+
+    private static <T> T pick(Random random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    @FunctionalInterface
+    private interface TableLoad {
+        long run() throws SQLException;
+    }
+
+    public enum LoadMode {
+        COPY, BATCH
+    }
+
+    /**
+     * Dataset size and load settings
+     */
+    @Data
+    @ConfigurationProperties(prefix = "app.dataset")
+    public static class DatasetProperties {
+
+        private int schools = 20;
+
+        private int students = 50_000;
+
+        private int teachers = 2_000;
+
+        private int resultsPerStudent = 100;
+
+        private long auditRows = 500_000;
+
+        private int auditDays = 180;
+
+        private LoadMode mode = LoadMode.COPY;
+
+        private int batchSize = 5_000;
+
+        private String password = "LoadTest@123";
+
+        private long seed = 42;
+
+        private boolean exitWhenDone = true;
+    }
+}
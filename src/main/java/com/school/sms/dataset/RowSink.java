@@ -0,0 +1,20 @@
+package com.school.sms.dataset;
+
+import java.sql.SQLException;
+
+/**
+ * Destination for generated rows of one table
+ * Values are written in the column order the sink was opened with.
+ */
+interface RowSink extends AutoCloseable {
+
+    void row(Object... values) throws SQLException;
+
+    long rowCount();
+
+    /**
+     * Flushes buffered rows and finishes the load
+     */
+    @Override
+    void close() throws SQLException;
+}
@@ -0,0 +1,33 @@
+package com.school.sms.live.controller;
+
+import com.school.sms.live.service.LiveUpdateService;
+import com.school.sms.security.UserDetailsImpl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST Controller for dashboard live updates
+ * One Server-Sent Events stream per dashboard; events are named after the topic
+ * (timetable, results, rosters, users) and carry the coalesced changes as JSON.
+ * A "resync" event means changes were missed and the dashboard should reload.
+ */
+@RestController
+@RequestMapping("/api/live")
+@RequiredArgsConstructor
+public class LiveUpdateController {
+
+    private final LiveUpdateService liveUpdateService;
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return liveUpdateService.subscribe(userDetails.getId(), userDetails.getUser().getRole(), lastEventId);
+    }
+}
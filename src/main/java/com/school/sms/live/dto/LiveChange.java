@@ -0,0 +1,45 @@
+package com.school.sms.live.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.school.sms.common.enums.Role;
+import com.school.sms.common.event.EntityChangeEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+
+/**
+ * One change pushed to dashboards: which view changed, not the new data
+ * Equal changes inside a coalesce window are sent once.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LiveChange {
+
+    private EntityChangeEvent.Type type;
+    private String className;
+    private String section;
+    private Long teacherId;
+    private DayOfWeek dayOfWeek;
+    private Role role;
+    private String academicYear;
+    private String term;
+
+    public static LiveChange from(EntityChangeEvent event) {
+        return LiveChange.builder()
+                .type(event.getType())
+                .className(event.getClassName())
+                .section(event.getSection())
+                .teacherId(event.getTeacherId())
+                .dayOfWeek(event.getDayOfWeek())
+                .role(event.getRole())
+                .academicYear(event.getAcademicYear())
+                .term(event.getTerm())
+                .build();
+    }
+}
@@ -0,0 +1,230 @@
+package com.school.sms.live.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.school.sms.common.async.ExecutorNames;
+import com.school.sms.common.cache.CacheEvictor;
+import com.school.sms.common.cache.InvalidationBus;
+import com.school.sms.common.enums.LiveTopic;
+import com.school.sms.common.enums.Role;
+import com.school.sms.common.event.EntityChangeEvent;
+import com.school.sms.common.exception.ServiceUnavailableException;
+import com.school.sms.live.dto.LiveChange;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes entity changes to open dashboards over Server-Sent Events
+ * Every change applied on this node (local writes after commit, and remote ones
+ * from the invalidation bus) is queued under its topic. Once per coalesce window
+ * the queued changes are de-duplicated, serialized once per topic and sent to each
+ * subscriber of that topic. Open streams hold no request thread, only a socket.
+ * Subscribers that reconnect after missing a batch are told to resync.
+ */
+@Service
+@Slf4j
+public class LiveUpdateService implements MeterBinder {
+
+    private final CacheEvictor cacheEvictor;
+    private final InvalidationBus invalidationBus;
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+
+    @Value("${app.live.max-connections:2000}")
+    private int maxConnections;
+
+    @Value("${app.live.emitter-timeout-minutes:30}")
+    private long emitterTimeoutMinutes;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Map<LiveTopic, Set<LiveChange>> pending = new EnumMap<>(LiveTopic.class);
+
+    // Batch ids are "<boot>-<sequence>", so an id from another node or an earlier run forces a resync
+    private final String bootId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong changesSent = new AtomicLong();
+    private final AtomicLong droppedSubscribers = new AtomicLong();
+
+    public LiveUpdateService(CacheEvictor cacheEvictor,
+                             InvalidationBus invalidationBus,
+                             ObjectMapper objectMapper,
+                             @Qualifier(ExecutorNames.LIVE_UPDATES) Executor executor) {
+        this.cacheEvictor = cacheEvictor;
+        this.invalidationBus = invalidationBus;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+    }
+
+    @PostConstruct
+    public void subscribeToChanges() {
+        cacheEvictor.onChange(this::queue);
+        invalidationBus.onResync(this::resyncAll);
+    }
+
+    /**
+     * Open a stream for a user; the topics follow from the role
+     *
+     * @param lastEventId id of the last batch the client received, sent by EventSource on reconnect
+     */
+    public SseEmitter subscribe(Long userId, Role role, String lastEventId) {
+        if (subscribers.size() >= maxConnections) {
+            throw new ServiceUnavailableException("Too many live connections, please retry shortly", 30);
+        }
+
+        SseEmitter emitter = new SseEmitter(Duration.ofMinutes(emitterTimeoutMinutes).toMillis());
+        Subscriber subscriber = new Subscriber(userId, LiveTopic.forRole(role), emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ex -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        String currentId = batchId(sequence.get());
+        boolean missedBatches = lastEventId != null && !lastEventId.equals(currentId);
+        send(subscriber, SseEmitter.event()
+                .id(currentId)
+                .name(missedBatches ? "resync" : "ready")
+                .data(subscriber.getTopics().stream().map(LiveTopic::eventName).toList()));
+
+        log.debug("Live stream opened for user {} ({} open)", userId, subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * Send the changes queued during the last window
+     */
+    @Scheduled(fixedDelayString = "${app.live.coalesce-window-ms:1000}")
+    public void flush() {
+        Map<LiveTopic, Set<LiveChange>> batch;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = new EnumMap<>(pending);
+            pending.clear();
+        }
+
+        Map<LiveTopic, String> payloads = new EnumMap<>(LiveTopic.class);
+        batch.forEach((topic, changes) -> {
+            try {
+                payloads.put(topic, objectMapper.writeValueAsString(changes));
+            } catch (JsonProcessingException ex) {
+                log.error("Failed to serialize live changes for {}", topic, ex);
+            }
+        });
+        String id = batchId(sequence.incrementAndGet());
+
+        executor.execute(() -> {
+            for (Subscriber subscriber : subscribers) {
+                payloads.forEach((topic, payload) -> {
+                    if (subscriber.getTopics().contains(topic)) {
+                        send(subscriber, SseEmitter.event()
+                                .id(id)
+                                .name(topic.eventName())
+                                .data(payload, MediaType.APPLICATION_JSON));
+                    }
+                });
+            }
+            changesSent.addAndGet(batch.values().stream().mapToLong(Set::size).sum());
+        });
+    }
+
+    /**
+     * Comment line on every stream so proxies and load balancers keep idle connections open
+     */
+    @Scheduled(fixedRateString = "${app.live.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        executor.execute(() -> subscribers.forEach(subscriber ->
+                send(subscriber, SseEmitter.event().comment("heartbeat"))));
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        subscribers.forEach(subscriber -> subscriber.getEmitter().complete());
+        subscribers.clear();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("live.connections", subscribers, Set::size)
+                .description("Open dashboard live-update streams")
+                .register(registry);
+        FunctionCounter.builder("live.changes.sent", changesSent, AtomicLong::get)
+                .description("Coalesced changes fanned out to live-update subscribers")
+                .register(registry);
+        FunctionCounter.builder("live.subscribers.dropped", droppedSubscribers, AtomicLong::get)
+                .description("Live-update streams closed after a failed send")
+                .register(registry);
+    }
+
+    private void queue(EntityChangeEvent event) {
+        LiveTopic topic = LiveTopic.of(event.getType());
+        // Account changes only reach admin dashboards; drop them while none is open
+        if (subscribers.stream().noneMatch(subscriber -> subscriber.getTopics().contains(topic))) {
+            return;
+        }
+        synchronized (pending) {
+            pending.computeIfAbsent(topic, t -> new LinkedHashSet<>()).add(LiveChange.from(event));
+        }
+    }
+
+    /**
+     * Remote changes may have been missed; every dashboard reloads what it shows
+     */
+    private void resyncAll() {
+        String id = batchId(sequence.incrementAndGet());
+        executor.execute(() -> subscribers.forEach(subscriber ->
+                send(subscriber, SseEmitter.event().id(id).name("resync").data(""))));
+    }
+
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.getEmitter().send(event);
+        } catch (IOException | IllegalStateException ex) {
+            // Client went away; the container reports the error and onError removes it as well
+            if (subscribers.remove(subscriber)) {
+                droppedSubscribers.incrementAndGet();
+                log.debug("Live stream of user {} closed: {}", subscriber.getUserId(), ex.getMessage());
+            }
+            subscriber.getEmitter().completeWithError(ex);
+        }
+    }
+
+    private String batchId(long seq) {
+        return bootId + "-" + seq;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Subscriber {
+        private final Long userId;
+        private final Set<LiveTopic> topics;
+        private final SseEmitter emitter;
+    }
+}
@@ -0,0 +1,53 @@
+package com.school.sms.notification.controller;
+
+import com.school.sms.common.dto.ApiResponse;
+import com.school.sms.notification.dto.AnnouncementRequest;
+import com.school.sms.notification.dto.BulkNotificationResponse;
+import com.school.sms.notification.service.BulkNotificationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for bulk parent notifications
+ */
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+@PreAuthorize("hasAnyRole('ADMIN', 'PRINCIPAL', 'ACADEMIC_TEACHER')")
+public class NotificationController {
+
+    private final BulkNotificationService bulkNotificationService;
+
+    /**
+     * Accepted for background fan-out; poll /bulk/{id} for progress
+     */
+    @PostMapping("/announcements")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PRINCIPAL')")
+    public ResponseEntity<ApiResponse<BulkNotificationResponse>> sendAnnouncement(
+            @Valid @RequestBody AnnouncementRequest request) {
+        BulkNotificationResponse response = bulkNotificationService.scheduleAnnouncement(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Announcement queued successfully", response));
+    }
+
+    @GetMapping("/bulk/{id}")
+    public ResponseEntity<ApiResponse<BulkNotificationResponse>> getBulkNotification(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success(
+                "Bulk notification retrieved successfully", bulkNotificationService.getBulkNotification(id)));
+    }
+
+    @GetMapping("/bulk")
+    public ResponseEntity<ApiResponse<List<BulkNotificationResponse>>> getRecentBulkNotifications(
+            @RequestParam(defaultValue = "20") int limit) {
+        List<BulkNotificationResponse> notifications =
+                bulkNotificationService.getRecentBulkNotifications(Math.max(1, Math.min(limit, 100)));
+        return ResponseEntity.ok(ApiResponse.success(
+                "Bulk notifications retrieved successfully (" + notifications.size() + " found)", notifications));
+    }
+}
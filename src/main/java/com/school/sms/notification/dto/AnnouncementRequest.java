@@ -0,0 +1,30 @@
+package com.school.sms.notification.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for an announcement emailed to parents of a class, or of every class when no class is given
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnnouncementRequest {
+
+    private String className;
+
+    private String section;
+
+    @NotBlank(message = "Subject is required")
+    @Size(max = 200, message = "Subject must not exceed 200 characters")
+    private String subject;
+
+    @NotBlank(message = "Message is required")
+    @Size(max = 10000, message = "Message must not exceed 10000 characters")
+    private String message;
+}
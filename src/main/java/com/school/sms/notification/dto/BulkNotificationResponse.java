@@ -0,0 +1,41 @@
+package com.school.sms.notification.dto;
+
+import com.school.sms.common.enums.BulkNotificationKind;
+import com.school.sms.common.enums.BulkNotificationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for bulk notification progress: fan-out counters plus outbox delivery counts
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkNotificationResponse {
+
+    private Long id;
+    private BulkNotificationKind kind;
+    private BulkNotificationStatus status;
+    private String className;
+    private String section;
+    private String examType;
+    private String academicYear;
+    private String term;
+    private String subject;
+    private Integer students;
+    private Integer recipients;
+    private Integer duplicatesSkipped;
+    private Integer enqueued;
+    private Long pending;
+    private Long sent;
+    private Long failed;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private String lastError;
+}
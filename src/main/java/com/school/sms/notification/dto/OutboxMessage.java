@@ -0,0 +1,21 @@
+package com.school.sms.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One email to write into the outbox
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxMessage {
+
+    private String idempotencyKey;
+    private String recipient;
+    private String subject;
+    private String body;
+}
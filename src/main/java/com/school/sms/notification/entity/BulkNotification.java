@@ -0,0 +1,75 @@
+package com.school.sms.notification.entity;
+
+import com.school.sms.common.entity.BaseEntity;
+import com.school.sms.common.enums.BulkNotificationKind;
+import com.school.sms.common.enums.BulkNotificationStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Bulk Notification Entity
+ * A fan-out job emailing the parents of one class (or of every class). The
+ * counters track recipient resolution and enqueueing; delivery progress is read
+ * from the outbox rows linked to the job.
+ */
+@Entity
+@Table(name = "bulk_notifications")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkNotification extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 30)
+    private BulkNotificationKind kind;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private BulkNotificationStatus status;
+
+    @Column(updatable = false, length = 50)
+    private String className; // null = every class
+
+    @Column(updatable = false, length = 20)
+    private String section; // null = every section
+
+    @Column(updatable = false, length = 50)
+    private String examType;
+
+    @Column(updatable = false, length = 20)
+    private String academicYear;
+
+    @Column(updatable = false, length = 20)
+    private String term;
+
+    @Column(nullable = false, updatable = false)
+    private String subject;
+
+    @Column(updatable = false, columnDefinition = "TEXT")
+    private String message;
+
+    @Column(nullable = false)
+    private Integer students;
+
+    @Column(nullable = false)
+    private Integer recipients;
+
+    @Column(nullable = false)
+    private Integer duplicatesSkipped; // addresses shared by siblings, mailed once
+
+    @Column(nullable = false)
+    private Integer enqueued;
+
+    @Column
+    private LocalDateTime startedAt;
+
+    @Column
+    private LocalDateTime completedAt;
+
+    @Column(length = 1000)
+    private String lastError;
+}
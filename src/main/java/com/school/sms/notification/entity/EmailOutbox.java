@@ -0,0 +1,64 @@
+package com.school.sms.notification.entity;
+
+import com.school.sms.common.entity.BaseEntity;
+import com.school.sms.common.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Email Outbox Entity
+ * One row per email to deliver, written in the transaction that caused it. The
+ * idempotency key makes enqueueing the same logical email twice a no-op and is
+ * also used for the Message-ID, so a redelivery after a crash can be recognised
+ * as a duplicate downstream.
+ */
+@Entity
+@Table(name = "email_outbox", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_email_outbox_idempotency_key", columnNames = { "idempotencyKey" })
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmailOutbox extends BaseEntity {
+
+    @Column(nullable = false, updatable = false, length = 200)
+    private String idempotencyKey;
+
+    @Column(nullable = false, updatable = false)
+    private String recipient;
+
+    @Column(nullable = false, updatable = false)
+    private String subject;
+
+    @Column(nullable = false, updatable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column
+    private LocalDateTime leaseUntil; // claimed by a dispatcher until then
+
+    @Column
+    private LocalDateTime sentAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private Integer priority; // 0 = transactional, dispatched ahead of bulk (1)
+
+    @Column(updatable = false)
+    private Long bulkNotificationId;
+}
@@ -0,0 +1,50 @@
+package com.school.sms.notification.repository;
+
+import com.school.sms.notification.entity.BulkNotification;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Bulk Notification Repository
+ * Data access layer for BulkNotification entity
+ */
+@Repository
+public interface BulkNotificationRepository extends JpaRepository<BulkNotification, Long> {
+
+    Page<BulkNotification> findAllByOrderByIdDesc(Pageable pageable);
+
+    /**
+     * Take a job for running: queued, or running with a runner that stopped reporting progress
+     * 0 rows means another node (or thread) owns it.
+     */
+    @Modifying
+    @Query("UPDATE BulkNotification b SET " +
+            "b.status = com.school.sms.common.enums.BulkNotificationStatus.RUNNING, " +
+            "b.startedAt = :now, b.updatedAt = :now " +
+            "WHERE b.id = :id AND (b.status = com.school.sms.common.enums.BulkNotificationStatus.QUEUED " +
+            "OR (b.status = com.school.sms.common.enums.BulkNotificationStatus.RUNNING " +
+            "AND b.updatedAt < :staleBefore))")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Query("SELECT b.id FROM BulkNotification b WHERE " +
+            "(b.status = com.school.sms.common.enums.BulkNotificationStatus.QUEUED AND b.updatedAt < :queuedBefore) " +
+            "OR (b.status = com.school.sms.common.enums.BulkNotificationStatus.RUNNING " +
+            "AND b.updatedAt < :staleBefore) ORDER BY b.id")
+    List<Long> findIdsToResume(@Param("queuedBefore") LocalDateTime queuedBefore,
+                               @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * Record enqueueing progress; doubles as the runner's heartbeat
+     */
+    @Modifying
+    @Query("UPDATE BulkNotification b SET b.enqueued = :enqueued, b.updatedAt = :now WHERE b.id = :id")
+    int updateProgress(@Param("id") Long id, @Param("enqueued") int enqueued, @Param("now") LocalDateTime now);
+}
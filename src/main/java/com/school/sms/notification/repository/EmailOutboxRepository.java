@@ -0,0 +1,59 @@
+package com.school.sms.notification.repository;
+
+import com.school.sms.common.enums.OutboxStatus;
+import com.school.sms.notification.entity.EmailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Email Outbox Repository
+ * Data access layer for EmailOutbox entity
+ */
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    /**
+     * Enqueue unless a message with the same idempotency key exists; 0 rows means duplicate
+     */
+    @Modifying
+    @Query(value = "INSERT INTO email_outbox (created_at, updated_at, created_by, updated_by, version, active, " +
+            "idempotency_key, recipient, subject, body, status, attempts, next_attempt_at) " +
+            "VALUES (:now, :now, :createdBy, :createdBy, 0, true, " +
+            ":idempotencyKey, :recipient, :subject, :body, 'PENDING', 0, :now) " +
+            "ON CONFLICT (idempotency_key) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("idempotencyKey") String idempotencyKey,
+                       @Param("recipient") String recipient,
+                       @Param("subject") String subject,
+                       @Param("body") String body,
+                       @Param("createdBy") String createdBy,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * Due messages plus SENDING ones whose dispatcher lease expired (crashed node), transactional
+     * before bulk. Locked rows are skipped, so several nodes can poll without claiming the same message.
+     */
+    @Query(value = "SELECT * FROM email_outbox " +
+            "WHERE (status = 'PENDING' AND next_attempt_at <= :now) " +
+            "OR (status = 'SENDING' AND lease_until < :now) " +
+            "ORDER BY priority, next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<EmailOutbox> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    long countByStatus(OutboxStatus status);
+
+    /**
+     * Delivery progress of a bulk notification as (status, count) rows
+     */
+    @Query("SELECT e.status, COUNT(e) FROM EmailOutbox e WHERE e.bulkNotificationId = :bulkNotificationId " +
+            "GROUP BY e.status")
+    List<Object[]> countByStatusForBulkNotification(@Param("bulkNotificationId") Long bulkNotificationId);
+
+    @Modifying
+    @Query("DELETE FROM EmailOutbox e WHERE e.status = :status AND e.sentAt < :cutoff")
+    int deleteSentBefore(@Param("status") OutboxStatus status, @Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,357 @@
+package com.school.sms.notification.service;
+
+import com.school.sms.common.async.ExecutorNames;
+import com.school.sms.common.enums.BulkNotificationKind;
+import com.school.sms.common.enums.BulkNotificationStatus;
+import com.school.sms.common.enums.OutboxStatus;
+import com.school.sms.common.enums.StudentStatus;
+import com.school.sms.common.exception.ResourceNotFoundException;
+import com.school.sms.notification.dto.AnnouncementRequest;
+import com.school.sms.notification.dto.BulkNotificationResponse;
+import com.school.sms.notification.dto.OutboxMessage;
+import com.school.sms.notification.entity.BulkNotification;
+import com.school.sms.notification.repository.BulkNotificationRepository;
+import com.school.sms.notification.repository.EmailOutboxRepository;
+import com.school.sms.student.dto.GuardianContactView;
+import com.school.sms.student.repository.StudentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+/**
+ * Bulk parent notification fan-out
+ * A job row is written in the caller's transaction and run on the notification
+ * executor after commit. Recipients are resolved with one projection query per
+ * class, addresses shared by siblings are merged into one email, and the emails
+ * are written to the outbox in chunks, one transaction each, at bulk priority.
+ * The dispatcher's rate limit then spreads delivery out. A job whose runner dies
+ * is resumed by the sweep; per-recipient idempotency keys make re-enqueueing safe.
+ */
+@Service
+@Slf4j
+public class BulkNotificationService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final BulkNotificationRepository bulkNotificationRepository;
+    private final EmailOutboxRepository outboxRepository;
+    private final EmailOutboxService emailOutboxService;
+    private final StudentRepository studentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+
+    @Value("${app.name:School Management System}")
+    private String appName;
+
+    @Value("${app.notifications.link-base-url:http://localhost:3000}")
+    private String linkBaseUrl;
+
+    @Value("${app.notifications.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.notifications.bulk.stale-after-minutes:5}")
+    private long staleAfterMinutes;
+
+    public BulkNotificationService(BulkNotificationRepository bulkNotificationRepository,
+                                   EmailOutboxRepository outboxRepository,
+                                   EmailOutboxService emailOutboxService,
+                                   StudentRepository studentRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   @Qualifier(ExecutorNames.NOTIFICATIONS) Executor executor) {
+        this.bulkNotificationRepository = bulkNotificationRepository;
+        this.outboxRepository = outboxRepository;
+        this.emailOutboxService = emailOutboxService;
+        this.studentRepository = studentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+    }
+
+    /**
+     * Notify the parents of students whose results were just published
+     * Must run in the publishing transaction, so the job exists exactly when the publication commits.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Long scheduleResultNotification(String className, String section, String examType,
+                                           String academicYear, String term) {
+        BulkNotification job = BulkNotification.builder()
+                .kind(BulkNotificationKind.RESULT_PUBLICATION)
+                .className(className)
+                .section(section)
+                .examType(examType)
+                .academicYear(academicYear)
+                .term(term)
+                .subject(appName + ": " + examType + " results published (" + term + " " + academicYear + ")")
+                .build();
+        return schedule(job).getId();
+    }
+
+    /**
+     * Email an announcement to the parents of a class, or of every class
+     */
+    @Transactional
+    public BulkNotificationResponse scheduleAnnouncement(AnnouncementRequest request) {
+        BulkNotification job = BulkNotification.builder()
+                .kind(BulkNotificationKind.ANNOUNCEMENT)
+                .className(StringUtils.hasText(request.getClassName()) ? request.getClassName() : null)
+                .section(StringUtils.hasText(request.getSection()) ? request.getSection() : null)
+                .subject(request.getSubject())
+                .message(request.getMessage())
+                .build();
+        return mapToResponse(schedule(job), null);
+    }
+
+    /**
+     * Job state with delivery counts from the outbox
+     */
+    @Transactional(readOnly = true)
+    public BulkNotificationResponse getBulkNotification(Long id) {
+        BulkNotification job = bulkNotificationRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Bulk notification", "id", id));
+
+        Map<OutboxStatus, Long> delivery = new EnumMap<>(OutboxStatus.class);
+        for (Object[] row : outboxRepository.countByStatusForBulkNotification(id)) {
+            delivery.put((OutboxStatus) row[0], (Long) row[1]);
+        }
+        return mapToResponse(job, delivery);
+    }
+
+    /**
+     * Most recent jobs, without delivery counts
+     */
+    @Transactional(readOnly = true)
+    public List<BulkNotificationResponse> getRecentBulkNotifications(int limit) {
+        return bulkNotificationRepository.findAllByOrderByIdDesc(PageRequest.of(0, limit)).stream()
+                .map(job -> mapToResponse(job, null))
+                .toList();
+    }
+
+    /**
+     * Restart jobs whose start was rejected or whose runner stopped reporting progress
+     */
+    @Scheduled(fixedDelayString = "${app.notifications.bulk.resume-interval-ms:60000}")
+    public void resumeStalled() {
+        LocalDateTime now = LocalDateTime.now();
+        for (Long id : bulkNotificationRepository.findIdsToResume(
+                now.minusMinutes(1), now.minusMinutes(staleAfterMinutes))) {
+            log.info("Resuming bulk notification {}", id);
+            start(id);
+        }
+    }
+
+    private BulkNotification schedule(BulkNotification job) {
+        job.setStatus(BulkNotificationStatus.QUEUED);
+        job.setStudents(0);
+        job.setRecipients(0);
+        job.setDuplicatesSkipped(0);
+        job.setEnqueued(0);
+        BulkNotification saved = bulkNotificationRepository.save(job);
+
+        Long id = saved.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                start(id);
+            }
+        });
+        log.info("Bulk notification {} ({}) queued for class: {}, section: {}",
+                id, saved.getKind(), saved.getClassName(), saved.getSection());
+        return saved;
+    }
+
+    private void start(Long id) {
+        try {
+            executor.execute(() -> run(id));
+        } catch (TaskRejectedException ex) {
+            log.warn("Notification executor saturated, bulk notification {} left for the resume sweep", id);
+        }
+    }
+
+    private void run(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status ->
+                bulkNotificationRepository.claim(id, now, now.minusMinutes(staleAfterMinutes)));
+        if (claimed == null || claimed == 0) {
+            return; // already running elsewhere or finished
+        }
+
+        try {
+            fanOut(id);
+        } catch (RuntimeException ex) {
+            log.error("Bulk notification {} failed", id, ex);
+            transactionTemplate.executeWithoutResult(status -> bulkNotificationRepository.findById(id)
+                    .ifPresent(job -> {
+                        job.setStatus(BulkNotificationStatus.FAILED);
+                        job.setLastError(truncate(ex.toString()));
+                    }));
+        }
+    }
+
+    private void fanOut(Long id) {
+        BulkNotification job = bulkNotificationRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Bulk notification", "id", id));
+        long startedAt = System.nanoTime();
+
+        Audience audience = resolveAudience(job);
+        List<Recipient> recipients = new ArrayList<>(audience.recipients.values());
+        transactionTemplate.executeWithoutResult(status -> bulkNotificationRepository.findById(id)
+                .ifPresent(stored -> {
+                    stored.setStudents(audience.students);
+                    stored.setRecipients(recipients.size());
+                    stored.setDuplicatesSkipped(audience.addresses - recipients.size());
+                }));
+
+        for (int from = 0; from < recipients.size(); from += chunkSize) {
+            List<Recipient> chunk = recipients.subList(from, Math.min(from + chunkSize, recipients.size()));
+            int enqueued = from + chunk.size();
+            List<OutboxMessage> messages = chunk.stream().map(recipient -> toMessage(job, recipient)).toList();
+            transactionTemplate.executeWithoutResult(status -> {
+                emailOutboxService.enqueueBulk(id, messages);
+                bulkNotificationRepository.updateProgress(id, enqueued, LocalDateTime.now());
+            });
+        }
+
+        transactionTemplate.executeWithoutResult(status -> bulkNotificationRepository.findById(id)
+                .ifPresent(stored -> {
+                    stored.setStatus(BulkNotificationStatus.COMPLETED);
+                    stored.setEnqueued(recipients.size());
+                    stored.setCompletedAt(LocalDateTime.now());
+                }));
+        log.info("Bulk notification {} enqueued {} emails for {} students ({} shared addresses merged) in {} ms",
+                id, recipients.size(), audience.students, audience.addresses - recipients.size(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * One projection query per class; addresses are merged case-insensitively across the whole audience
+     */
+    private Audience resolveAudience(BulkNotification job) {
+        List<String> classes = job.getClassName() != null
+                ? List.of(job.getClassName())
+                : studentRepository.findDistinctClassesByStatus(StudentStatus.ACTIVE);
+
+        Audience audience = new Audience();
+        for (String className : classes) {
+            List<GuardianContactView> contacts = job.getKind() == BulkNotificationKind.RESULT_PUBLICATION
+                    ? studentRepository.findGuardianContactsWithPublishedResults(className, job.getSection(),
+                            job.getExamType(), job.getAcademicYear(), job.getTerm())
+                    : studentRepository.findGuardianContactsByClass(className, job.getSection(),
+                            StudentStatus.ACTIVE);
+            for (GuardianContactView contact : contacts) {
+                audience.students++;
+                audience.add(contact.getFatherEmail(), contact.getFirstName());
+                audience.add(contact.getMotherEmail(), contact.getFirstName());
+                audience.add(contact.getGuardianEmail(), contact.getFirstName());
+            }
+        }
+        return audience;
+    }
+
+    private OutboxMessage toMessage(BulkNotification job, Recipient recipient) {
+        String children = String.join(", ", recipient.children);
+        String body = job.getKind() == BulkNotificationKind.RESULT_PUBLICATION
+                ? """
+                Hello,
+
+                %s results for %s %s have been published for %s.
+                You can view them in the parent portal: %s/parent/results
+                """.formatted(job.getExamType(), job.getTerm(), job.getAcademicYear(), children, linkBaseUrl)
+                : """
+                Hello,
+
+                %s
+
+                %s
+                """.formatted(job.getMessage(), appName);
+
+        return OutboxMessage.builder()
+                .idempotencyKey("bulk:" + job.getId() + ":" + UUID.nameUUIDFromBytes(
+                        recipient.key.getBytes(StandardCharsets.UTF_8)))
+                .recipient(recipient.email)
+                .subject(job.getSubject())
+                .body(body)
+                .build();
+    }
+
+    private BulkNotificationResponse mapToResponse(BulkNotification job, Map<OutboxStatus, Long> delivery) {
+        BulkNotificationResponse.BulkNotificationResponseBuilder response = BulkNotificationResponse.builder()
+                .id(job.getId())
+                .kind(job.getKind())
+                .status(job.getStatus())
+                .className(job.getClassName())
+                .section(job.getSection())
+                .examType(job.getExamType())
+                .academicYear(job.getAcademicYear())
+                .term(job.getTerm())
+                .subject(job.getSubject())
+                .students(job.getStudents())
+                .recipients(job.getRecipients())
+                .duplicatesSkipped(job.getDuplicatesSkipped())
+                .enqueued(job.getEnqueued())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .lastError(job.getLastError());
+        if (delivery != null) {
+            response.pending(delivery.getOrDefault(OutboxStatus.PENDING, 0L)
+                            + delivery.getOrDefault(OutboxStatus.SENDING, 0L))
+                    .sent(delivery.getOrDefault(OutboxStatus.SENT, 0L))
+                    .failed(delivery.getOrDefault(OutboxStatus.FAILED, 0L));
+        }
+        return response.build();
+    }
+
+    private static String truncate(String value) {
+        return value.length() > MAX_ERROR_LENGTH ? value.substring(0, MAX_ERROR_LENGTH) : value;
+    }
+
+    private static final class Audience {
+
+        private final Map<String, Recipient> recipients = new LinkedHashMap<>();
+        private int students;
+        private int addresses;
+
+        private void add(String email, String childName) {
+            if (!StringUtils.hasText(email)) {
+                return;
+            }
+            addresses++;
+            String key = email.trim().toLowerCase(Locale.ROOT);
+            recipients.computeIfAbsent(key, k -> new Recipient(k, email.trim())).children.add(childName);
+        }
+    }
+
+    private static final class Recipient {
+
+        private final String key;
+        private final String email;
+        private final Set<String> children = new LinkedHashSet<>();
+
+        private Recipient(String key, String email) {
+            this.key = key;
+            this.email = email;
+        }
+    }
+}
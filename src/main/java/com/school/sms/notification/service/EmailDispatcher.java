@@ -0,0 +1,336 @@
+package com.school.sms.notification.service;
+
+import com.school.sms.common.async.ExecutorNames;
+import com.school.sms.common.enums.OutboxStatus;
+import com.school.sms.notification.entity.EmailOutbox;
+import com.school.sms.notification.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Delivers the email outbox in the background
+ * Due rows are claimed in batches (FOR UPDATE SKIP LOCKED, then a lease), sent over
+ * a single SMTP connection per batch and marked sent, rescheduled with exponential
+ * backoff, or failed once attempts run out or the address is rejected. Runs on the
+ * notification executor, woken after each enqueueing commit and by a periodic poll,
+ * so no request thread ever waits on SMTP. Transactional emails are claimed ahead
+ * of bulk ones and the overall send rate is capped, so a large fan-out drains
+ * steadily without delaying password resets.
+ */
+@Service
+@Slf4j
+public class EmailDispatcher implements MeterBinder {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EmailOutboxRepository outboxRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+
+    @Value("${app.notifications.email.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.notifications.email.from:no-reply@school.local}")
+    private String from;
+
+    @Value("${app.notifications.email.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.notifications.email.max-per-second:50}")
+    private double maxPerSecond; // 0 = unlimited
+
+    @Value("${app.notifications.email.lease-seconds:120}")
+    private long leaseSeconds;
+
+    @Value("${app.notifications.email.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.notifications.email.initial-backoff-seconds:30}")
+    private long initialBackoffSeconds;
+
+    @Value("${app.notifications.email.max-backoff-minutes:60}")
+    private long maxBackoffMinutes;
+
+    @Value("${app.notifications.email.retention-days:14}")
+    private int retentionDays;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean wakeRequested = new AtomicBoolean();
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    public EmailDispatcher(EmailOutboxRepository outboxRepository,
+                           JavaMailSender mailSender,
+                           TransactionTemplate transactionTemplate,
+                           @Qualifier(ExecutorNames.NOTIFICATIONS) Executor executor) {
+        this.outboxRepository = outboxRepository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+    }
+
+    /**
+     * Safety net for missed wake-ups, retries coming due and leases left by a crashed node
+     */
+    @Scheduled(fixedDelayString = "${app.notifications.email.poll-interval-ms:5000}")
+    public void poll() {
+        wake();
+    }
+
+    /**
+     * Start draining the outbox unless a drain is already running
+     */
+    public void wake() {
+        if (!enabled) {
+            return;
+        }
+        wakeRequested.set(true);
+        if (!draining.compareAndSet(false, true)) {
+            return; // the running drain picks the new rows up
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (TaskRejectedException ex) {
+            draining.set(false);
+            log.warn("Notification executor saturated, email dispatch deferred to the next poll");
+        }
+    }
+
+    private void drain() {
+        try {
+            while (wakeRequested.getAndSet(false)) {
+                while (dispatchBatch() == batchSize && !Thread.currentThread().isInterrupted()) {
+                    // full batch, more may be due
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.error("Email dispatch failed", ex);
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    private int dispatchBatch() {
+        long startedAt = System.nanoTime();
+        List<EmailOutbox> batch = transactionTemplate.execute(status -> claim());
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+        batches.increment();
+        Map<Long, Exception> failures = send(batch);
+        transactionTemplate.executeWithoutResult(status -> record(batch, failures));
+        throttle(batch.size(), startedAt);
+        return batch.size();
+    }
+
+    /**
+     * Stretch the batch to batch size / max-per-second, keeping under provider send limits
+     */
+    private void throttle(int count, long startedAt) {
+        if (maxPerSecond <= 0) {
+            return;
+        }
+        long remainingNanos = (long) (count / maxPerSecond * 1_000_000_000L) - (System.nanoTime() - startedAt);
+        if (remainingNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(remainingNanos);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private List<EmailOutbox> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutbox> due = outboxRepository.lockDue(now, batchSize);
+        for (EmailOutbox message : due) {
+            message.setStatus(OutboxStatus.SENDING);
+            message.setLeaseUntil(now.plusSeconds(leaseSeconds));
+            message.setAttempts(message.getAttempts() + 1);
+        }
+        return due;
+    }
+
+    /**
+     * Send the batch over one connection
+     *
+     * @return failure per outbox id; ids not present were accepted by the server
+     */
+    private Map<Long, Exception> send(List<EmailOutbox> batch) {
+        Map<Long, Exception> failures = new HashMap<>();
+        Map<MimeMessage, Long> messages = new LinkedHashMap<>();
+        for (EmailOutbox outbox : batch) {
+            try {
+                messages.put(toMimeMessage(outbox), outbox.getId());
+            } catch (MessagingException | MailException ex) {
+                failures.put(outbox.getId(), ex);
+            }
+        }
+        if (messages.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            mailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException ex) {
+            ex.getFailedMessages().forEach((message, cause) -> {
+                Long id = messages.get(message);
+                if (id != null) {
+                    failures.put(id, cause);
+                }
+            });
+            if (ex.getFailedMessages().isEmpty()) {
+                messages.values().forEach(id -> failures.putIfAbsent(id, ex));
+            }
+        } catch (MailException ex) {
+            // Connection or authentication failure: nothing in the batch went out
+            messages.values().forEach(id -> failures.putIfAbsent(id, ex));
+        }
+        return failures;
+    }
+
+    private MimeMessage toMimeMessage(EmailOutbox outbox) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+        helper.setFrom(from);
+        helper.setTo(outbox.getRecipient());
+        helper.setSubject(outbox.getSubject());
+        helper.setText(outbox.getBody());
+        // Stable per logical email, so a resend after a lost acknowledgement is a recognisable duplicate
+        message.setHeader("Message-ID", "<" + sha256(outbox.getIdempotencyKey()) + "@" + domainOf(from) + ">");
+        return message;
+    }
+
+    private void record(List<EmailOutbox> batch, Map<Long, Exception> failures) {
+        Map<Long, Integer> claimedAttempts = new HashMap<>();
+        batch.forEach(message -> claimedAttempts.put(message.getId(), message.getAttempts()));
+
+        LocalDateTime now = LocalDateTime.now();
+        for (EmailOutbox message : outboxRepository.findAllById(claimedAttempts.keySet())) {
+            // Lease expired and another dispatcher re-claimed it: that one owns the outcome
+            if (message.getStatus() != OutboxStatus.SENDING
+                    || !message.getAttempts().equals(claimedAttempts.get(message.getId()))) {
+                continue;
+            }
+            message.setLeaseUntil(null);
+
+            Exception failure = failures.get(message.getId());
+            if (failure == null) {
+                message.setStatus(OutboxStatus.SENT);
+                message.setSentAt(now);
+                message.setLastError(null);
+                sent.increment();
+            } else if (isPermanent(failure) || message.getAttempts() >= maxAttempts) {
+                message.setStatus(OutboxStatus.FAILED);
+                message.setLastError(truncate(failure.toString()));
+                failed.increment();
+                log.warn("Giving up on email {} to {} after {} attempts: {}",
+                        message.getId(), message.getRecipient(), message.getAttempts(), failure.getMessage());
+            } else {
+                message.setStatus(OutboxStatus.PENDING);
+                message.setNextAttemptAt(now.plus(backoff(message.getAttempts())));
+                message.setLastError(truncate(failure.toString()));
+                retried.increment();
+            }
+        }
+    }
+
+    /**
+     * initial * 2^(attempt-1), capped, with +-20% jitter so a failed batch does not retry in lockstep
+     */
+    private Duration backoff(int attempt) {
+        long seconds = Math.min(initialBackoffSeconds << Math.min(attempt - 1, 20), maxBackoffMinutes * 60);
+        return Duration.ofMillis((long) (seconds * 1000 * ThreadLocalRandom.current().nextDouble(0.8, 1.2)));
+    }
+
+    private static boolean isPermanent(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof AddressException) {
+                return true;
+            }
+            if (cause instanceof SendFailedException sendFailed
+                    && sendFailed.getInvalidAddresses() != null && sendFailed.getInvalidAddresses().length > 0) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Delete delivered messages past the retention period
+     */
+    @Scheduled(cron = "${app.notifications.email.purge-cron:0 45 3 * * *}")
+    @Transactional
+    public void purgeSent() {
+        int deleted = outboxRepository.deleteSentBefore(OutboxStatus.SENT, LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("Purged {} delivered outbox emails", deleted);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("notifications.email.sent", sent, LongAdder::sum).register(registry);
+        FunctionCounter.builder("notifications.email.retried", retried, LongAdder::sum).register(registry);
+        FunctionCounter.builder("notifications.email.failed", failed, LongAdder::sum).register(registry);
+        FunctionCounter.builder("notifications.email.batches", batches, LongAdder::sum).register(registry);
+    }
+
+    private static String truncate(String value) {
+        return value.length() > MAX_ERROR_LENGTH ? value.substring(0, MAX_ERROR_LENGTH) : value;
+    }
+
+    private static String domainOf(String address) {
+        int at = address.lastIndexOf('@');
+        return at >= 0 ? address.substring(at + 1) : "localhost";
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
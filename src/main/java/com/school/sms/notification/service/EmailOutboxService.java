@@ -0,0 +1,104 @@
+package com.school.sms.notification.service;
+
+import com.school.sms.common.util.SecurityUtils;
+import com.school.sms.notification.dto.OutboxMessage;
+import com.school.sms.notification.repository.EmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Email Outbox Service
+ * Writes emails into the outbox inside the caller's transaction, so a message
+ * exists exactly when the business change commits. Delivery is EmailDispatcher's job.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxService {
+
+    public static final int PRIORITY_TRANSACTIONAL = 0;
+    public static final int PRIORITY_BULK = 1;
+
+    // Marks a transaction that already has a dispatcher wake-up registered
+    private static final Object WAKE_KEY = new Object();
+
+    private static final String INSERT_BULK_SQL = "INSERT INTO email_outbox (created_at, updated_at, " +
+            "created_by, updated_by, version, active, idempotency_key, recipient, subject, body, status, " +
+            "attempts, next_attempt_at, priority, bulk_notification_id) " +
+            "VALUES (?, ?, 'system', 'system', 0, true, ?, ?, ?, ?, 'PENDING', 0, ?, ?, ?) " +
+            "ON CONFLICT (idempotency_key) DO NOTHING";
+
+    private final EmailOutboxRepository outboxRepository;
+    private final EmailDispatcher emailDispatcher;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Queue an email; the same idempotency key is only ever queued once
+     *
+     * @return false when a message with this key already exists
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean enqueue(String idempotencyKey, String recipient, String subject, String body) {
+        String username = SecurityUtils.getCurrentUsername();
+        int inserted = outboxRepository.insertIfAbsent(idempotencyKey, recipient, subject, body,
+                username != null ? username : "system", LocalDateTime.now());
+        if (inserted == 0) {
+            log.debug("Email already queued: {}", idempotencyKey);
+            return false;
+        }
+        wakeDispatcherAfterCommit();
+        return true;
+    }
+
+    /**
+     * Queue a chunk of a bulk notification as one JDBC batch at bulk priority
+     * Keys already present are skipped, so a resumed fan-out can re-enqueue a chunk safely.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueBulk(Long bulkNotificationId, List<OutboxMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_BULK_SQL, messages, messages.size(), (ps, message) -> {
+            ps.setTimestamp(1, now);
+            ps.setTimestamp(2, now);
+            ps.setString(3, message.getIdempotencyKey());
+            ps.setString(4, message.getRecipient());
+            ps.setString(5, message.getSubject());
+            ps.setString(6, message.getBody());
+            ps.setTimestamp(7, now);
+            ps.setInt(8, PRIORITY_BULK);
+            ps.setLong(9, bulkNotificationId);
+        });
+        wakeDispatcherAfterCommit();
+    }
+
+    private void wakeDispatcherAfterCommit() {
+        if (TransactionSynchronizationManager.hasResource(WAKE_KEY)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WAKE_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                emailDispatcher.wake();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WAKE_KEY);
+            }
+        });
+    }
+}
@@ -0,0 +1,76 @@
+package com.school.sms.notification.service;
+
+import com.school.sms.auth.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Notification Service
+ * Composes account emails and queues them in the outbox; callers must be in the
+ * transaction that created the token being mailed
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationService {
+
+    private final EmailOutboxService emailOutboxService;
+
+    @Value("${app.name:School Management System}")
+    private String appName;
+
+    @Value("${app.notifications.link-base-url:http://localhost:3000}")
+    private String linkBaseUrl;
+
+    /**
+     * Password reset link (valid 24 hours)
+     */
+    public void sendPasswordReset(User user, String resetToken) {
+        emailOutboxService.enqueue("password-reset:" + resetToken, user.getEmail(),
+                appName + ": reset your password",
+                """
+                Hello %s,
+
+                We received a request to reset your password. Use the link below within 24 hours:
+
+                %s/reset-password?token=%s
+
+                If you did not ask for this, you can ignore this email.
+                """.formatted(user.getFirstName(), linkBaseUrl, resetToken));
+        log.debug("Password reset email queued for user: {}", user.getUsername());
+    }
+
+    /**
+     * Activation link for a bulk-created account without a password
+     */
+    public void sendAccountActivation(User user, String activationToken) {
+        emailOutboxService.enqueue("activation:" + activationToken, user.getEmail(),
+                appName + ": activate your account",
+                """
+                Hello %s,
+
+                An account has been created for you (username: %s). Choose a password to activate it:
+
+                %s/activate?token=%s
+                """.formatted(user.getFirstName(), user.getUsername(), linkBaseUrl, activationToken));
+        log.debug("Activation email queued for user: {}", user.getUsername());
+    }
+
+    /**
+     * Email verification link sent on self-registration
+     */
+    public void sendEmailVerification(User user, String verificationToken) {
+        emailOutboxService.enqueue("verify-email:" + verificationToken, user.getEmail(),
+                appName + ": confirm your email address",
+                """
+                Hello %s,
+
+                Welcome to %s. Please confirm your email address:
+
+                %s/verify-email?token=%s
+                """.formatted(user.getFirstName(), appName, linkBaseUrl, verificationToken));
+        log.debug("Verification email queued for user: {}", user.getUsername());
+    }
+}
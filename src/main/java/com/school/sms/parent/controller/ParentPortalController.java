@@ -0,0 +1,92 @@
+package com.school.sms.parent.controller;
+
+import com.school.sms.attendance.dto.AttendanceSummaryResponse;
+import com.school.sms.attendance.service.AttendanceService;
+import com.school.sms.common.dto.ApiResponse;
+import com.school.sms.common.dto.VersionStamp;
+import com.school.sms.common.util.EtagUtils;
+import com.school.sms.security.UserDetailsImpl;
+import com.school.sms.student.dto.StudentSummary;
+import com.school.sms.student.service.StudentPortalService;
+import com.school.sms.timetable.dto.PublishedResultSnapshotResponse;
+import com.school.sms.timetable.dto.PublishedResultView;
+import com.school.sms.timetable.service.StudentResultService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+/**
+ * REST Controller for the parent self-service portal
+ * Children are linked through the father, mother or guardian email on the student profile
+ */
+@RestController
+@RequestMapping("/api/parent")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('PARENT')")
+public class ParentPortalController {
+
+    private final StudentPortalService studentPortalService;
+    private final StudentResultService studentResultService;
+    private final AttendanceService attendanceService;
+
+    @GetMapping("/children")
+    public ResponseEntity<ApiResponse<List<StudentSummary>>> getChildren(
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        List<StudentSummary> children = studentPortalService.getChildren(userDetails.getUser());
+        return ResponseEntity.ok(ApiResponse.success(
+                "Children retrieved successfully (" + children.size() + " found)", children));
+    }
+
+    /**
+     * Published results of one child with ETag/Last-Modified validation
+     */
+    @GetMapping("/children/{studentId}/results")
+    public ResponseEntity<ApiResponse<List<PublishedResultView>>> getChildResults(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @PathVariable Long studentId,
+            WebRequest webRequest) {
+        studentPortalService.getChild(userDetails.getUser(), studentId);
+
+        VersionStamp version = studentPortalService.getPublishedResultsVersion(studentId);
+        if (webRequest.checkNotModified(
+                EtagUtils.collectionEtag("student-results:" + studentId, version),
+                EtagUtils.toEpochMilli(version.getLastModified()))) {
+            return null;
+        }
+
+        List<PublishedResultView> results = studentPortalService.getPublishedResults(studentId);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success(
+                        "Results retrieved successfully (" + results.size() + " found)", results));
+    }
+
+    @GetMapping("/children/{studentId}/results/published")
+    public ResponseEntity<ApiResponse<PublishedResultSnapshotResponse>> getChildPublishedSnapshot(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @PathVariable Long studentId,
+            @RequestParam String academicYear,
+            @RequestParam String term) {
+        studentPortalService.getChild(userDetails.getUser(), studentId);
+        PublishedResultSnapshotResponse snapshot = studentResultService.getPublishedSnapshot(
+                studentId, academicYear, term);
+        return ResponseEntity.ok(ApiResponse.success("Published results retrieved successfully", snapshot));
+    }
+
+    @GetMapping("/children/{studentId}/attendance")
+    public ResponseEntity<ApiResponse<AttendanceSummaryResponse>> getChildAttendance(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @PathVariable Long studentId,
+            @RequestParam String academicYear,
+            @RequestParam String term) {
+        studentPortalService.getChild(userDetails.getUser(), studentId);
+        AttendanceSummaryResponse summary = attendanceService.getStudentSummary(studentId, academicYear, term);
+        return ResponseEntity.ok(ApiResponse.success("Attendance retrieved successfully", summary));
+    }
+}
@@ -5,6 +5,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import com.school.sms.common.util.LogSampler;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,6 +16,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Duration;
 
 /**
  * JWT Authentication Filter
@@ -29,6 +31,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsServiceImpl userDetailsService;
 
+    private final LogSampler failureLogSampler = new LogSampler(Duration.ofSeconds(10));
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
@@ -53,10 +57,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                log.debug("Set authentication for user: {}", userDetails.getUsername());
+                if (log.isTraceEnabled()) {
+                    log.trace("Set authentication for user: {}", userDetails.getUsername());
+                }
             }
         } catch (Exception ex) {
-            log.error("Could not set user authentication in security context", ex);
+            if (failureLogSampler.tryAcquire()) {
+                log.error("Could not set user authentication in security context ({} similar errors suppressed)",
+                        failureLogSampler.drainSuppressed(), ex);
+            }
         }
 
         filterChain.doFilter(request, response);
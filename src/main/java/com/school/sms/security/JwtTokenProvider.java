@@ -1,6 +1,7 @@
 package com.school.sms.security;
 
 import com.school.sms.auth.entity.User;
+import com.school.sms.common.util.LogSampler;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -12,6 +13,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -25,6 +27,11 @@ import java.util.stream.Collectors;
 @Slf4j
 public class JwtTokenProvider {
 
+    /**
+     * Claim carrying the refresh token family id
+     */
+    public static final String FAMILY_CLAIM = "fid";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
@@ -34,6 +41,9 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-expiration}")
     private long refreshExpiration;
 
+    // Invalid tokens arrive once per request from a misbehaving client, so they are sampled
+    private final LogSampler invalidTokenLogSampler = new LogSampler(Duration.ofSeconds(10));
+
     /**
      * Generate JWT token from Authentication
      */
@@ -62,12 +72,14 @@ public class JwtTokenProvider {
     }
 
     /**
-     * Generate refresh token
+     * Generate refresh token with its token id (jti) and family id
      */
-    public String generateRefreshToken(User user) {
+    public String generateRefreshToken(User user, String tokenId, String familyId) {
         return Jwts.builder()
+                .id(tokenId)
                 .subject(user.getUsername())
                 .claim("userId", user.getId())
+                .claim(FAMILY_CLAIM, familyId)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + refreshExpiration))
                 .signWith(getSigningKey())
@@ -108,19 +120,33 @@ public class JwtTokenProvider {
                     .parseSignedClaims(token);
             return true;
         } catch (SignatureException e) {
-            log.error("Invalid JWT signature: {}", e.getMessage());
+            logInvalidToken("Invalid JWT signature", e);
         } catch (MalformedJwtException e) {
-            log.error("Invalid JWT token: {}", e.getMessage());
+            logInvalidToken("Invalid JWT token", e);
         } catch (ExpiredJwtException e) {
-            log.error("JWT token is expired: {}", e.getMessage());
+            logInvalidToken("JWT token is expired", e);
         } catch (UnsupportedJwtException e) {
-            log.error("JWT token is unsupported: {}", e.getMessage());
+            logInvalidToken("JWT token is unsupported", e);
         } catch (IllegalArgumentException e) {
-            log.error("JWT claims string is empty: {}", e.getMessage());
+            logInvalidToken("JWT claims string is empty", e);
         }
         return false;
     }
 
+    private void logInvalidToken(String reason, Exception e) {
+        if (invalidTokenLogSampler.tryAcquire()) {
+            log.warn("{}: {} ({} similar messages suppressed)", reason, e.getMessage(),
+                    invalidTokenLogSampler.drainSuppressed());
+        }
+    }
+
+    /**
+     * Get all claims from a token that has already been validated
+     */
+    public Claims getClaims(String token) {
+        return getClaimsFromToken(token);
+    }
+
     /**
      * Check if token is expired
      */
@@ -158,4 +184,11 @@ public class JwtTokenProvider {
     public long getExpirationTime() {
         return jwtExpiration;
     }
+
+    /**
+     * Get refresh token expiration time in milliseconds
+     */
+    public long getRefreshExpirationTime() {
+        return refreshExpiration;
+    }
 }
@@ -0,0 +1,176 @@
+package com.school.sms.security;
+
+import com.school.sms.auth.dto.PasswordPoolStatsResponse;
+import com.school.sms.common.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded executor for password hashing and verification
+ * BCrypt is pure CPU, so the pool is sized to the cores and fronted by a small
+ * queue. When the queue is full the caller is rejected immediately with a 503
+ * instead of piling more hashing work onto every core, which keeps login storms
+ * from starving the rest of the API.
+ * BCrypt ignores interrupts, so a caller that gives up only frees capacity if its
+ * task had not started; a running hash keeps its thread until it finishes.
+ */
+@Component
+@Slf4j
+public class PasswordHashingExecutor implements MeterBinder {
+
+    @Value("${app.security.password-pool.threads:0}")
+    private int threads; // 0 = number of available processors
+
+    @Value("${app.security.password-pool.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${app.security.password-pool.wait-timeout-ms:5000}")
+    private long waitTimeoutMs;
+
+    @Value("${app.security.password-pool.retry-after-seconds:2}")
+    private int retryAfterSeconds;
+
+    private ThreadPoolExecutor executor;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder abandoned = new LongAdder();
+    private final LongAdder totalQueueNanos = new LongAdder();
+    private final LongAdder totalRunNanos = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hash-");
+        threadFactory.setDaemon(true);
+
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        log.info("Password hashing pool started with {} threads and queue capacity {}", poolSize, queueCapacity);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Run a hashing task on the pool and wait for its result
+     *
+     * @throws ServiceUnavailableException when the pool is saturated or the wait times out
+     */
+    public <T> T execute(Supplier<T> task) {
+        long enqueuedAt = System.nanoTime();
+        // Claimed by whichever comes first: a worker starting the task, or the caller giving up
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null;
+                }
+                long startedAt = System.nanoTime();
+                totalQueueNanos.add(startedAt - enqueuedAt);
+                try {
+                    return task.get();
+                } finally {
+                    totalRunNanos.add(System.nanoTime() - startedAt);
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            log.warn("Password hashing pool saturated, rejecting request");
+            throw new ServiceUnavailableException(
+                    "Too many sign-in attempts in progress. Please retry shortly.", retryAfterSeconds);
+        }
+        submitted.increment();
+
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            timedOut.increment();
+            abandon(future, claimed);
+            throw new ServiceUnavailableException(
+                    "Sign-in is taking longer than expected. Please retry shortly.", retryAfterSeconds);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            abandon(future, claimed);
+            throw new ServiceUnavailableException("Sign-in was interrupted. Please retry.", retryAfterSeconds);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    /**
+     * A queued task is removed so its slot is free at once; a running one is left to finish
+     */
+    private void abandon(Future<?> future, AtomicBoolean claimed) {
+        if (claimed.compareAndSet(false, true)) {
+            future.cancel(false);
+            executor.remove((Runnable) future);
+        } else {
+            abandoned.increment();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("password.pool.active", executor, ThreadPoolExecutor::getActiveCount).register(registry);
+        Gauge.builder("password.pool.queued", executor, e -> e.getQueue().size()).register(registry);
+        FunctionCounter.builder("password.pool.rejected", rejected, LongAdder::sum).register(registry);
+        FunctionCounter.builder("password.pool.timeouts", timedOut, LongAdder::sum).register(registry);
+        FunctionCounter.builder("password.pool.abandoned", abandoned, LongAdder::sum)
+                .description("Hashes left running after their caller timed out")
+                .register(registry);
+        FunctionCounter.builder("password.pool.completed", completed, LongAdder::sum).register(registry);
+    }
+
+    /**
+     * Current pool state and cumulative counters
+     */
+    public PasswordPoolStatsResponse getStats() {
+        long done = completed.sum();
+        return PasswordPoolStatsResponse.builder()
+                .poolSize(executor.getMaximumPoolSize())
+                .activeThreads(executor.getActiveCount())
+                .queueDepth(executor.getQueue().size())
+                .queueCapacity(queueCapacity)
+                .submitted(submitted.sum())
+                .completed(done)
+                .rejected(rejected.sum())
+                .timedOut(timedOut.sum())
+                .abandoned(abandoned.sum())
+                .averageQueueMillis(done > 0 ? totalQueueNanos.sum() / done / 1_000_000.0 : 0.0)
+                .averageHashMillis(done > 0 ? totalRunNanos.sum() / done / 1_000_000.0 : 0.0)
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.school.sms.security;
+
+import com.school.sms.common.enums.Role;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Role-aware password encoder
+ * Hashes are stored with an id prefix naming the BCrypt work factor, e.g.
+ * {bcrypt10}$2a$10$..., so any stored hash can be verified whatever the current
+ * policy is, and a hash whose id differs from its role's policy is re-encoded on
+ * the next successful login (both upgrades and downgrades). Legacy hashes
+ * without a prefix are verified as plain BCrypt and re-encoded the same way.
+ * All hashing runs on the bounded PasswordHashingExecutor.
+ */
+public class RolePasswordEncoder {
+
+    /**
+     * Placeholder stored for accounts awaiting activation; never matches any password
+     */
+    public static final String ACTIVATION_PENDING = "{" + PendingActivationEncoder.ID + "}";
+
+    private static final int MIN_STRENGTH = 4;
+    private static final int MAX_STRENGTH = 31;
+
+    private final DelegatingPasswordEncoder defaultEncoder;
+    private final Map<Role, DelegatingPasswordEncoder> roleEncoders = new EnumMap<>(Role.class);
+    private final PasswordHashingExecutor executor;
+
+    public RolePasswordEncoder(int defaultStrength, Map<Role, Integer> strengthByRole,
+                               PasswordHashingExecutor executor) {
+        this.executor = executor;
+
+        // Every work factor stays registered so hashes written under an older policy still verify
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        for (int strength = MIN_STRENGTH; strength <= MAX_STRENGTH; strength++) {
+            encoders.put(idFor(strength), new BCryptPasswordEncoder(strength));
+        }
+        encoders.put("bcrypt", new BCryptPasswordEncoder(defaultStrength));
+        encoders.put(PendingActivationEncoder.ID, new PendingActivationEncoder());
+
+        this.defaultEncoder = create(idFor(defaultStrength), encoders, defaultStrength);
+        strengthByRole.forEach((role, strength) ->
+                roleEncoders.put(role, create(idFor(strength), encoders, defaultStrength)));
+    }
+
+    /**
+     * Encoder used for verification; it accepts every registered id
+     */
+    public PasswordEncoder getVerifyingEncoder() {
+        return new PooledPasswordEncoder(defaultEncoder, executor);
+    }
+
+    /**
+     * Hash a password with the work factor configured for the role
+     */
+    public String encode(CharSequence rawPassword, Role role) {
+        PasswordEncoder encoder = forRole(role);
+        return executor.execute(() -> encoder.encode(rawPassword));
+    }
+
+    /**
+     * Verify a password against a stored hash of any registered id
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.execute(() -> defaultEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Whether the stored hash differs from the role's current policy
+     * Cheap: only inspects the prefix and cost, no hashing.
+     */
+    public boolean needsRehash(String encodedPassword, Role role) {
+        if (encodedPassword == null || encodedPassword.startsWith(ACTIVATION_PENDING)) {
+            return false;
+        }
+        return forRole(role).upgradeEncoding(encodedPassword);
+    }
+
+    private PasswordEncoder forRole(Role role) {
+        return role != null ? roleEncoders.getOrDefault(role, defaultEncoder) : defaultEncoder;
+    }
+
+    private static String idFor(int strength) {
+        if (strength < MIN_STRENGTH || strength > MAX_STRENGTH) {
+            throw new IllegalArgumentException("BCrypt strength must be between 4 and 31: " + strength);
+        }
+        return "bcrypt" + strength;
+    }
+
+    private static DelegatingPasswordEncoder create(String idForEncode, Map<String, PasswordEncoder> encoders,
+                                                    int defaultStrength) {
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(idForEncode, encoders);
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder(defaultStrength));
+        return encoder;
+    }
+
+    /**
+     * Encoder for the activation placeholder: nothing can be encoded to it or match it
+     */
+    private static final class PendingActivationEncoder implements PasswordEncoder {
+
+        private static final String ID = "activation-pending";
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            throw new IllegalStateException("Activation placeholder cannot encode passwords");
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return false;
+        }
+    }
+}
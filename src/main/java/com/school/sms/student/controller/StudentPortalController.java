@@ -0,0 +1,89 @@
+package com.school.sms.student.controller;
+
+import com.school.sms.attendance.dto.AttendanceSummaryResponse;
+import com.school.sms.attendance.service.AttendanceService;
+import com.school.sms.common.dto.ApiResponse;
+import com.school.sms.common.dto.VersionStamp;
+import com.school.sms.common.util.EtagUtils;
+import com.school.sms.security.UserDetailsImpl;
+import com.school.sms.student.dto.StudentSummary;
+import com.school.sms.student.service.StudentPortalService;
+import com.school.sms.timetable.dto.PublishedResultSnapshotResponse;
+import com.school.sms.timetable.dto.PublishedResultView;
+import com.school.sms.timetable.service.StudentResultService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+/**
+ * REST Controller for the student self-service portal
+ * Students only ever see their own published results
+ */
+@RestController
+@RequestMapping("/api/student")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('STUDENT')")
+public class StudentPortalController {
+
+    private final StudentPortalService studentPortalService;
+    private final StudentResultService studentResultService;
+    private final AttendanceService attendanceService;
+
+    @GetMapping("/me")
+    public ResponseEntity<ApiResponse<StudentSummary>> getProfile(
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        StudentSummary student = studentPortalService.getStudentForUser(userDetails.getId());
+        return ResponseEntity.ok(ApiResponse.success("Profile retrieved successfully", student));
+    }
+
+    /**
+     * Published results with ETag/Last-Modified validation
+     * Returns 304 before any result row is loaded when the client copy is current
+     */
+    @GetMapping("/results")
+    public ResponseEntity<ApiResponse<List<PublishedResultView>>> getResults(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            WebRequest webRequest) {
+        Long studentId = studentPortalService.getStudentForUser(userDetails.getId()).getId();
+
+        VersionStamp version = studentPortalService.getPublishedResultsVersion(studentId);
+        if (webRequest.checkNotModified(
+                EtagUtils.collectionEtag("student-results:" + studentId, version),
+                EtagUtils.toEpochMilli(version.getLastModified()))) {
+            return null;
+        }
+
+        List<PublishedResultView> results = studentPortalService.getPublishedResults(studentId);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success(
+                        "Results retrieved successfully (" + results.size() + " found)", results));
+    }
+
+    @GetMapping("/results/published")
+    public ResponseEntity<ApiResponse<PublishedResultSnapshotResponse>> getPublishedSnapshot(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam String academicYear,
+            @RequestParam String term) {
+        Long studentId = studentPortalService.getStudentForUser(userDetails.getId()).getId();
+        PublishedResultSnapshotResponse snapshot = studentResultService.getPublishedSnapshot(
+                studentId, academicYear, term);
+        return ResponseEntity.ok(ApiResponse.success("Published results retrieved successfully", snapshot));
+    }
+
+    @GetMapping("/attendance")
+    public ResponseEntity<ApiResponse<AttendanceSummaryResponse>> getAttendance(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam String academicYear,
+            @RequestParam String term) {
+        Long studentId = studentPortalService.getStudentForUser(userDetails.getId()).getId();
+        AttendanceSummaryResponse summary = attendanceService.getStudentSummary(studentId, academicYear, term);
+        return ResponseEntity.ok(ApiResponse.success("Attendance retrieved successfully", summary));
+    }
+}
@@ -0,0 +1,18 @@
+package com.school.sms.student.dto;
+
+/**
+ * Closed projection of a student's parent/guardian email addresses
+ * Used to resolve notification recipients without loading student profiles
+ */
+public interface GuardianContactView {
+
+    Long getId();
+
+    String getFirstName();
+
+    String getFatherEmail();
+
+    String getMotherEmail();
+
+    String getGuardianEmail();
+}
@@ -1,5 +1,6 @@
 package com.school.sms.student.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.school.sms.common.enums.BloodGroup;
 import com.school.sms.common.enums.Gender;
 import com.school.sms.common.enums.StudentStatus;
@@ -77,4 +78,8 @@ public class StudentResponse {
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    // Only set on creation of an account that still needs activation
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String activationToken;
 }
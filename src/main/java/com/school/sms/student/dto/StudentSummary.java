@@ -0,0 +1,27 @@
+package com.school.sms.student.dto;
+
+/**
+ * Closed projection of a student's identifying fields
+ * Used by the student and parent portals instead of the full profile
+ */
+public interface StudentSummary {
+
+    Long getId();
+
+    String getAdmissionNumber();
+
+    String getRollNumber();
+
+    String getCurrentClass();
+
+    String getSection();
+
+    UserName getUser();
+
+    interface UserName {
+
+        String getFirstName();
+
+        String getLastName();
+    }
+}
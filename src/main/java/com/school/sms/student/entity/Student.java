@@ -20,7 +20,7 @@ import java.time.LocalDate;
 @Table(name = "students", indexes = {
         @Index(name = "idx_student_admission_number", columnList = "admissionNumber"),
         @Index(name = "idx_student_roll_number", columnList = "rollNumber"),
-        @Index(name = "idx_student_class", columnList = "currentClass"),
+        @Index(name = "idx_student_class_section", columnList = "currentClass, section"),
         @Index(name = "idx_student_status", columnList = "status")
 })
 @Getter
@@ -1,12 +1,17 @@
 package com.school.sms.student.repository;
 
+import com.school.sms.common.dto.EntityVersion;
+import com.school.sms.common.dto.VersionStamp;
 import com.school.sms.common.enums.StudentStatus;
+import com.school.sms.student.dto.GuardianContactView;
+import com.school.sms.student.dto.StudentSummary;
 import com.school.sms.student.entity.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +27,15 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
 
     Optional<Student> findByUserId(Long userId);
 
+    <T> Optional<T> findByUserId(Long userId, Class<T> type);
+
+    List<StudentSummary> findByFatherEmailOrMotherEmailOrGuardianEmail(
+            String fatherEmail, String motherEmail, String guardianEmail);
+
+    @Query("SELECT s FROM Student s JOIN FETCH s.user WHERE s.id = :id AND " +
+            "(s.fatherEmail = :email OR s.motherEmail = :email OR s.guardianEmail = :email)")
+    Optional<StudentSummary> findChildOfParent(@Param("id") Long id, @Param("email") String parentEmail);
+
     List<Student> findByStatus(StudentStatus status);
 
     List<Student> findByCurrentClass(String currentClass);
@@ -42,4 +56,65 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
 
     @Query("SELECT MAX(CAST(SUBSTRING(s.admissionNumber, 4) AS int)) FROM Student s WHERE s.admissionNumber LIKE 'ADM%'")
     Integer findMaxAdmissionNumber();
+
+    @Query("SELECT s.id AS id, s.version + u.version AS version, " +
+            "greatest(s.updatedAt, u.updatedAt) AS lastModified " +
+            "FROM Student s JOIN s.user u WHERE s.id = :id")
+    Optional<EntityVersion> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT greatest(max(s.updatedAt), max(u.updatedAt)) AS lastModified, count(s) AS count " +
+            "FROM Student s JOIN s.user u")
+    VersionStamp findVersionStamp();
+
+    @Query("SELECT greatest(max(s.updatedAt), max(u.updatedAt)) AS lastModified, count(s) AS count " +
+            "FROM Student s JOIN s.user u WHERE s.currentClass = :className " +
+            "AND (:section IS NULL OR s.section = :section)")
+    VersionStamp findVersionStampByClass(
+            @Param("className") String className,
+            @Param("section") String section);
+
+    @Query("SELECT s.id FROM Student s WHERE s.currentClass = :className " +
+            "AND (:section IS NULL OR s.section = :section) AND s.status = :status")
+    List<Long> findIdsByClass(
+            @Param("className") String className,
+            @Param("section") String section,
+            @Param("status") StudentStatus status);
+
+    @Query("SELECT DISTINCT s.currentClass FROM Student s WHERE s.status = :status")
+    List<String> findDistinctClassesByStatus(@Param("status") StudentStatus status);
+
+    @Query("SELECT s.id AS id, u.firstName AS firstName, s.fatherEmail AS fatherEmail, " +
+            "s.motherEmail AS motherEmail, s.guardianEmail AS guardianEmail " +
+            "FROM Student s JOIN s.user u WHERE s.currentClass = :className " +
+            "AND (:section IS NULL OR s.section = :section) AND s.status = :status")
+    List<GuardianContactView> findGuardianContactsByClass(
+            @Param("className") String className,
+            @Param("section") String section,
+            @Param("status") StudentStatus status);
+
+    /**
+     * Guardian contacts of the students with published results for one exam and term
+     */
+    @Query("SELECT s.id AS id, u.firstName AS firstName, s.fatherEmail AS fatherEmail, " +
+            "s.motherEmail AS motherEmail, s.guardianEmail AS guardianEmail " +
+            "FROM Student s JOIN s.user u WHERE s.currentClass = :className " +
+            "AND (:section IS NULL OR s.section = :section) AND EXISTS (" +
+            "SELECT 1 FROM StudentResult r WHERE r.student = s AND r.examType = :examType " +
+            "AND r.academicYear = :academicYear AND r.term = :term AND r.isPublished = true)")
+    List<GuardianContactView> findGuardianContactsWithPublishedResults(
+            @Param("className") String className,
+            @Param("section") String section,
+            @Param("examType") String examType,
+            @Param("academicYear") String academicYear,
+            @Param("term") String term);
+
+    @Query("SELECT s FROM Student s JOIN FETCH s.user WHERE s.id IN :ids")
+    List<Student> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Row-lock students in id order until the transaction ends, serializing snapshot revision numbering.
+     * NO KEY UPDATE still lets other transactions insert rows referencing these students.
+     */
+    @Query(value = "SELECT id FROM students WHERE id IN (:ids) ORDER BY id FOR NO KEY UPDATE", nativeQuery = true)
+    List<Long> lockByIds(@Param("ids") Collection<Long> ids);
 }
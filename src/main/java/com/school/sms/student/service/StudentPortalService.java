@@ -0,0 +1,75 @@
+package com.school.sms.student.service;
+
+import com.school.sms.auth.entity.User;
+import com.school.sms.common.dto.VersionStamp;
+import com.school.sms.common.exception.ResourceNotFoundException;
+import com.school.sms.student.dto.StudentSummary;
+import com.school.sms.student.repository.StudentRepository;
+import com.school.sms.timetable.dto.PublishedResultView;
+import com.school.sms.timetable.repository.StudentResultRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Read-only service behind the student and parent self-service portals
+ * Every query is a narrow projection scoped to the caller's own students
+ */
+@Service
+@RequiredArgsConstructor
+public class StudentPortalService {
+
+    private final StudentRepository studentRepository;
+    private final StudentResultRepository studentResultRepository;
+
+    /**
+     * Resolve the student profile linked to a user account
+     */
+    @Transactional(readOnly = true)
+    public StudentSummary getStudentForUser(Long userId) {
+        return studentRepository.findByUserId(userId, StudentSummary.class)
+                .orElseThrow(() -> new ResourceNotFoundException("No student profile linked to this account"));
+    }
+
+    /**
+     * Get the students whose father, mother or guardian email matches the parent's email
+     */
+    @Transactional(readOnly = true)
+    public List<StudentSummary> getChildren(User parent) {
+        requireVerifiedEmail(parent);
+        String email = parent.getEmail();
+        return studentRepository.findByFatherEmailOrMotherEmailOrGuardianEmail(email, email, email);
+    }
+
+    /**
+     * Verify that a student belongs to the parent
+     */
+    @Transactional(readOnly = true)
+    public StudentSummary getChild(User parent, Long studentId) {
+        requireVerifiedEmail(parent);
+        return studentRepository.findChildOfParent(studentId, parent.getEmail())
+                .orElseThrow(() -> new AccessDeniedException("Student is not linked to this parent account"));
+    }
+
+    @Transactional(readOnly = true)
+    public List<PublishedResultView> getPublishedResults(Long studentId) {
+        return studentResultRepository.findByStudent_IdAndIsPublishedTrue(studentId, PublishedResultView.class);
+    }
+
+    @Transactional(readOnly = true)
+    public VersionStamp getPublishedResultsVersion(Long studentId) {
+        return studentResultRepository.findPublishedVersionStamp(studentId);
+    }
+
+    /**
+     * Children are linked by email alone, so the parent must have proved they own the address
+     */
+    private void requireVerifiedEmail(User parent) {
+        if (!Boolean.TRUE.equals(parent.getEmailVerified())) {
+            throw new AccessDeniedException("Verify your email address before viewing linked students");
+        }
+    }
+}
@@ -2,23 +2,33 @@ package com.school.sms.student.service;
 
 import com.school.sms.auth.entity.User;
 import com.school.sms.auth.repository.UserRepository;
+import com.school.sms.common.cache.CacheEvictor;
+import com.school.sms.common.cache.CacheNames;
+import com.school.sms.common.dto.EntityVersion;
+import com.school.sms.common.dto.VersionStamp;
 import com.school.sms.common.enums.AccountStatus;
 import com.school.sms.common.enums.Role;
 import com.school.sms.common.enums.StudentStatus;
 import com.school.sms.common.exception.BadRequestException;
 import com.school.sms.common.exception.ResourceNotFoundException;
+import com.school.sms.notification.service.NotificationService;
 import com.school.sms.student.dto.StudentRequest;
 import com.school.sms.student.dto.StudentResponse;
 import com.school.sms.student.entity.Student;
 import com.school.sms.student.repository.StudentRepository;
+import com.school.sms.security.RolePasswordEncoder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -31,11 +41,16 @@ public class StudentService {
 
     private final StudentRepository studentRepository;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final RolePasswordEncoder passwordEncoder;
+    private final CacheEvictor cacheEvictor;
+    private final NotificationService notificationService;
+
+    @Value("${app.security.activation-token-validity-days:14}")
+    private int activationTokenValidityDays;
 
     @Transactional
     public StudentResponse createStudent(StudentRequest request) {
-        log.info("Creating new student");
+        log.debug("Creating new student");
 
         // Generate admission number if not provided
         String admissionNumber = request.getAdmissionNumber();
@@ -67,21 +82,32 @@ public class StudentService {
             throw new BadRequestException("Username already exists: " + username);
         }
 
-        // Create user account
+        // Create user account; without a password the account waits for activation instead of
+        // paying a hash for a shared default at import time
+        boolean pendingActivation = request.getPassword() == null || request.getPassword().isEmpty();
         User user = User.builder()
                 .username(username)
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword() != null ? request.getPassword() : "student123"))
+                .password(pendingActivation
+                        ? RolePasswordEncoder.ACTIVATION_PENDING
+                        : passwordEncoder.encode(request.getPassword(), Role.STUDENT))
                 .firstName(request.getFirstName())
                 .lastName(request.getLastName())
                 .phoneNumber(request.getPhone())
                 .role(Role.STUDENT)
-                .accountStatus(AccountStatus.ACTIVE)
+                .accountStatus(pendingActivation ? AccountStatus.PENDING : AccountStatus.ACTIVE)
                 .emailVerified(true)
                 .build();
+        if (pendingActivation) {
+            user.setActivationToken(UUID.randomUUID().toString());
+            user.setActivationTokenExpiry(LocalDateTime.now().plusDays(activationTokenValidityDays));
+        }
 
         user = userRepository.save(user);
-        log.info("User account created for student: {}", username);
+        if (pendingActivation) {
+            notificationService.sendAccountActivation(user, user.getActivationToken());
+        }
+        log.debug("User account created for student: {}", username);
 
         // Create student profile
         Student student = Student.builder()
@@ -124,20 +150,28 @@ public class StudentService {
                 .build();
 
         student = studentRepository.save(student);
+        cacheEvictor.evictClassRoster(student.getCurrentClass(), student.getSection());
+        cacheEvictor.usersChanged(Role.STUDENT);
         log.info("Student created successfully with ID: {} and admission number: {}", student.getId(), admissionNumber);
 
-        return mapToResponse(student);
+        StudentResponse response = mapToResponse(student);
+        response.setActivationToken(user.getActivationToken());
+        return response;
     }
 
     @Transactional
     public StudentResponse updateStudent(Long id, StudentRequest request) {
-        log.info("Updating student with ID: {}", id);
+        log.debug("Updating student with ID: {}", id);
 
         Student student = studentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found"));
 
         User user = student.getUser();
 
+        // Evict the roster the student is leaving as well as the one it ends up in
+        cacheEvictor.evictClassRoster(student.getCurrentClass(), student.getSection());
+        cacheEvictor.usersChanged(Role.STUDENT);
+
         // Update user information
         if (request.getFirstName() != null) {
             user.setFirstName(request.getFirstName());
@@ -221,6 +255,7 @@ public class StudentService {
         student.setNotes(request.getNotes());
 
         student = studentRepository.save(student);
+        cacheEvictor.evictClassRoster(student.getCurrentClass(), student.getSection());
         log.info("Student updated successfully with ID: {}", id);
 
         return mapToResponse(student);
@@ -233,6 +268,16 @@ public class StudentService {
         return mapToResponse(student);
     }
 
+    /**
+     * Students by id in one query; ids that no longer exist are skipped
+     */
+    @Transactional(readOnly = true)
+    public List<StudentResponse> getStudentsByIds(Collection<Long> ids) {
+        return studentRepository.findAllWithUserByIdIn(ids).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
     @Transactional(readOnly = true)
     public List<StudentResponse> getAllStudents() {
         return studentRepository.findAll().stream()
@@ -262,21 +307,43 @@ public class StudentService {
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CLASS_ROSTERS,
+            key = "T(com.school.sms.common.cache.CacheNames).classKey(#className, #section)")
     public List<StudentResponse> getStudentsByClassAndSection(String className, String section) {
         return studentRepository.findByCurrentClassAndSection(className, section).stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get the version of a student without loading the entity graph
+     */
+    @Transactional(readOnly = true)
+    public EntityVersion getStudentVersion(Long id) {
+        return studentRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Student not found"));
+    }
+
+    /**
+     * Get the version stamp of the student list, narrowed to a class when given
+     */
+    @Transactional(readOnly = true)
+    public VersionStamp getStudentsVersion(String className, String section) {
+        if (className != null) {
+            return studentRepository.findVersionStampByClass(className, section);
+        }
+        return studentRepository.findVersionStamp();
+    }
+
     @Transactional
     public void deleteStudent(Long id) {
-        log.info("Deleting student with ID: {}", id);
+        log.debug("Deleting student with ID: {}", id);
 
-        if (!studentRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Student not found");
-        }
+        Student student = studentRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Student not found"));
 
-        studentRepository.deleteById(id);
+        studentRepository.delete(student);
+        cacheEvictor.evictClassRoster(student.getCurrentClass(), student.getSection());
         log.info("Student deleted successfully");
     }
 
@@ -0,0 +1,47 @@
+package com.school.sms.sync.controller;
+
+import com.school.sms.common.dto.ApiResponse;
+import com.school.sms.common.enums.SyncEntityType;
+import com.school.sms.common.exception.BadRequestException;
+import com.school.sms.sync.dto.ChangeSetResponse;
+import com.school.sms.sync.service.DeltaSyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for delta sync of client caches
+ * GET /api/sync/{students|teachers|timetables|results}/changes?since=token returns the
+ * upserts and tombstones since the token. Start without a token for a full load.
+ */
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+@PreAuthorize("hasAnyRole('ADMIN', 'PRINCIPAL', 'TEACHER', 'ACADEMIC_TEACHER', 'DISCIPLINE_TEACHER')")
+public class SyncController {
+
+    private final DeltaSyncService deltaSyncService;
+
+    @Value("${app.sync.default-page-size:500}")
+    private int defaultPageSize;
+
+    @Value("${app.sync.max-page-size:2000}")
+    private int maxPageSize;
+
+    @GetMapping("/{entityType}/changes")
+    public ResponseEntity<ApiResponse<ChangeSetResponse<?>>> getChanges(
+            @PathVariable String entityType,
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit) {
+        SyncEntityType type = SyncEntityType.fromPath(entityType)
+                .orElseThrow(() -> new BadRequestException("Unknown sync entity type: " + entityType));
+        int pageSize = Math.max(1, Math.min(limit != null ? limit : defaultPageSize, maxPageSize));
+
+        ChangeSetResponse<?> changes = deltaSyncService.getChanges(type, since, pageSize);
+        return ResponseEntity.ok(ApiResponse.success("Changes retrieved successfully ("
+                + changes.getUpserts().size() + " upserts, " + changes.getTombstones().size() + " tombstones)",
+                changes));
+    }
+}
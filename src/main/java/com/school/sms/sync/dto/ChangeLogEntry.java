@@ -0,0 +1,18 @@
+package com.school.sms.sync.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One change_log row: the entity that changed and its position in the change order
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeLogEntry {
+
+    private long txid;
+    private long seq;
+    private long entityId;
+}
@@ -0,0 +1,26 @@
+package com.school.sms.sync.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one page of changes since a sync token
+ * Upserts carry the current state of each changed entity, tombstones the ids of
+ * deleted ones. Pass nextToken as since on the next call; keep paging while hasMore.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeSetResponse<T> {
+
+    private String entityType;
+    private List<T> upserts;
+    private List<Long> tombstones;
+    private String nextToken;
+    private Boolean hasMore;
+}
@@ -0,0 +1,47 @@
+package com.school.sms.sync.repository;
+
+import com.school.sms.sync.dto.ChangeLogEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for the trigger-maintained change_log table
+ * Plain JDBC: the table is written only by the database and has no entity mapping.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChangeLogRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Entries after a cursor, in (txid, seq) order
+     * Only transactions older than every running one are returned: their rows can no
+     * longer appear behind the cursor, so a client never skips a late commit.
+     */
+    public List<ChangeLogEntry> findAfter(String entityType, long txid, long seq, int limit) {
+        return jdbcTemplate.query(
+                "SELECT c.txid::text::bigint AS txid, c.seq, c.entity_id FROM change_log c " +
+                        "WHERE c.entity_type = ? AND (c.txid, c.seq) > (?::xid8, ?) " +
+                        "AND c.txid < pg_snapshot_xmin(pg_current_snapshot()) " +
+                        "ORDER BY c.txid, c.seq LIMIT ?",
+                (rs, rowNum) -> new ChangeLogEntry(rs.getLong("txid"), rs.getLong("seq"), rs.getLong("entity_id")),
+                entityType, Long.toString(txid), seq, limit);
+    }
+
+    /**
+     * Drop entries followed by a newer entry for the same entity
+     * Safe for every cursor: a reader always resolves the entity's current state.
+     */
+    public int deleteSupersededBefore(LocalDateTime before) {
+        return jdbcTemplate.update(
+                "DELETE FROM change_log c WHERE c.changed_at < ? AND EXISTS (" +
+                        "SELECT 1 FROM change_log n WHERE n.entity_type = c.entity_type " +
+                        "AND n.entity_id = c.entity_id AND n.seq > c.seq)",
+                before);
+    }
+}
@@ -0,0 +1,130 @@
+package com.school.sms.sync.service;
+
+import com.school.sms.common.enums.SyncEntityType;
+import com.school.sms.common.exception.BadRequestException;
+import com.school.sms.student.dto.StudentResponse;
+import com.school.sms.student.service.StudentService;
+import com.school.sms.sync.dto.ChangeLogEntry;
+import com.school.sms.sync.dto.ChangeSetResponse;
+import com.school.sms.sync.repository.ChangeLogRepository;
+import com.school.sms.teacher.dto.TeacherResponse;
+import com.school.sms.teacher.service.TeacherService;
+import com.school.sms.timetable.dto.StudentResultResponse;
+import com.school.sms.timetable.dto.TimetableResponse;
+import com.school.sms.timetable.service.StudentResultService;
+import com.school.sms.timetable.service.TimetableService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Service for delta sync of client caches
+ * The sync token is an opaque encoding of the last (txid, seq) position read from
+ * change_log. A page resolves each changed id against the current rows: ids still
+ * present are returned as upserts, the rest as tombstones. Seeing the same entity
+ * twice across pages is therefore harmless, and clients apply pages as they come.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DeltaSyncService {
+
+    private final ChangeLogRepository changeLogRepository;
+    private final StudentService studentService;
+    private final TeacherService teacherService;
+    private final TimetableService timetableService;
+    private final StudentResultService studentResultService;
+
+    @Value("${app.sync.retention-days:30}")
+    private int retentionDays;
+
+    /**
+     * Changes of one entity type since a token; without a token, everything from the start of the log
+     */
+    @Transactional(readOnly = true)
+    public ChangeSetResponse<?> getChanges(SyncEntityType type, String since, int limit) {
+        long[] cursor = decodeToken(since);
+        List<ChangeLogEntry> entries = changeLogRepository.findAfter(type.name(), cursor[0], cursor[1], limit);
+
+        return switch (type) {
+            case STUDENT -> buildChangeSet(type, cursor, entries, limit,
+                    studentService::getStudentsByIds, StudentResponse::getId);
+            case TEACHER -> buildChangeSet(type, cursor, entries, limit,
+                    teacherService::getTeachersByIds, TeacherResponse::getId);
+            case TIMETABLE -> buildChangeSet(type, cursor, entries, limit,
+                    timetableService::getTimetablesByIds, TimetableResponse::getId);
+            case RESULT -> buildChangeSet(type, cursor, entries, limit,
+                    studentResultService::getResultsByIds, StudentResultResponse::getId);
+        };
+    }
+
+    /**
+     * Drop change log entries superseded by a newer entry for the same entity
+     * The latest entry of every entity (tombstones included) is kept, so old tokens stay valid.
+     */
+    @Scheduled(cron = "${app.sync.compact-cron:0 15 4 * * *}")
+    public void compactChangeLog() {
+        int deleted = changeLogRepository.deleteSupersededBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("Compacted change log: {} superseded entries removed", deleted);
+        }
+    }
+
+    private <T> ChangeSetResponse<T> buildChangeSet(SyncEntityType type, long[] cursor, List<ChangeLogEntry> entries,
+                                                    int limit, Function<Collection<Long>, List<T>> loader,
+                                                    Function<T, Long> idOf) {
+        Set<Long> changedIds = new LinkedHashSet<>();
+        entries.forEach(entry -> changedIds.add(entry.getEntityId()));
+
+        List<T> upserts = changedIds.isEmpty() ? List.of() : loader.apply(changedIds);
+        Set<Long> tombstones = new LinkedHashSet<>(changedIds);
+        upserts.forEach(upsert -> tombstones.remove(idOf.apply(upsert)));
+
+        ChangeLogEntry last = entries.isEmpty() ? null : entries.get(entries.size() - 1);
+        return ChangeSetResponse.<T>builder()
+                .entityType(type.getPath())
+                .upserts(upserts)
+                .tombstones(List.copyOf(tombstones))
+                .nextToken(last != null ? encodeToken(last.getTxid(), last.getSeq()) : encodeToken(cursor[0], cursor[1]))
+                .hasMore(entries.size() == limit)
+                .build();
+    }
+
+    private static String encodeToken(long txid, long seq) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((txid + ":" + seq).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static long[] decodeToken(String token) {
+        if (!StringUtils.hasText(token)) {
+            return new long[] { 0, 0 };
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII).split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException(token);
+            }
+            long txid = Long.parseLong(parts[0]);
+            long seq = Long.parseLong(parts[1]);
+            if (txid < 0 || seq < 0) {
+                throw new IllegalArgumentException(token);
+            }
+            return new long[] { txid, seq };
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid sync token");
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.school.sms.teacher.controller;
 
 import com.school.sms.common.dto.ApiResponse;
+import com.school.sms.common.dto.EntityVersion;
+import com.school.sms.common.dto.VersionStamp;
+import com.school.sms.common.util.EtagUtils;
 import com.school.sms.teacher.dto.TeacherRequest;
 import com.school.sms.teacher.dto.TeacherResponse;
 import com.school.sms.teacher.entity.Teacher;
@@ -11,6 +14,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -42,7 +46,14 @@ public class TeacherController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<TeacherResponse>> getTeacher(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<TeacherResponse>> getTeacher(@PathVariable Long id, WebRequest webRequest) {
+        EntityVersion version = teacherService.getTeacherVersion(id);
+        if (webRequest.checkNotModified(
+                EtagUtils.entityEtag("teacher", version),
+                EtagUtils.toEpochMilli(version.getLastModified()))) {
+            return null;
+        }
+
         TeacherResponse teacher = teacherService.getTeacher(id);
         return ResponseEntity.ok(ApiResponse.success("Teacher retrieved successfully", teacher));
     }
@@ -50,7 +61,15 @@ public class TeacherController {
     @GetMapping
     public ResponseEntity<ApiResponse<List<TeacherResponse>>> getAllTeachers(
             @RequestParam(required = false) String search,
-            @RequestParam(required = false) Teacher.EmploymentStatus status) {
+            @RequestParam(required = false) Teacher.EmploymentStatus status,
+            WebRequest webRequest) {
+
+        VersionStamp version = teacherService.getTeachersVersion();
+        if (webRequest.checkNotModified(
+                EtagUtils.collectionEtag("teachers:" + search + ":" + status, version),
+                EtagUtils.toEpochMilli(version.getLastModified()))) {
+            return null;
+        }
 
         List<TeacherResponse> teachers;
 
@@ -1,11 +1,14 @@
 package com.school.sms.teacher.repository;
 
+import com.school.sms.common.dto.EntityVersion;
+import com.school.sms.common.dto.VersionStamp;
 import com.school.sms.teacher.entity.Teacher;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,4 +39,16 @@ public interface TeacherRepository extends JpaRepository<Teacher, Long> {
 
     @Query("SELECT MAX(CAST(SUBSTRING(t.employeeId, 4) AS int)) FROM Teacher t WHERE t.employeeId LIKE 'EMP%'")
     Integer findMaxEmployeeIdNumber();
+
+    @Query("SELECT t.id AS id, t.version + u.version AS version, " +
+            "greatest(t.updatedAt, u.updatedAt) AS lastModified " +
+            "FROM Teacher t JOIN t.user u WHERE t.id = :id")
+    Optional<EntityVersion> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT greatest(max(t.updatedAt), max(u.updatedAt)) AS lastModified, count(t) AS count " +
+            "FROM Teacher t JOIN t.user u")
+    VersionStamp findVersionStamp();
+
+    @Query("SELECT t FROM Teacher t JOIN FETCH t.user WHERE t.id IN :ids")
+    List<Teacher> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
 }
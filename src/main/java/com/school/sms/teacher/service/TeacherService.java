@@ -1,5 +1,9 @@
 package com.school.sms.teacher.service;
 
+import com.school.sms.common.cache.CacheEvictor;
+import com.school.sms.common.cache.CacheNames;
+import com.school.sms.common.dto.EntityVersion;
+import com.school.sms.common.dto.VersionStamp;
 import com.school.sms.common.exception.BadRequestException;
 import com.school.sms.common.exception.ResourceNotFoundException;
 import com.school.sms.teacher.dto.TeacherRequest;
@@ -9,12 +13,14 @@ import com.school.sms.teacher.repository.TeacherRepository;
 import com.school.sms.common.enums.Role;
 import com.school.sms.auth.entity.User;
 import com.school.sms.auth.repository.UserRepository;
+import com.school.sms.security.RolePasswordEncoder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,15 +34,16 @@ public class TeacherService {
 
     private final TeacherRepository teacherRepository;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final RolePasswordEncoder passwordEncoder;
+    private final CacheEvictor cacheEvictor;
 
     @Transactional
     public TeacherResponse createTeacher(TeacherRequest request) {
-        log.info("Creating new teacher");
+        log.debug("Creating new teacher");
 
         // Auto-generate employee ID
         String employeeId = generateEmployeeId();
-        log.info("Generated employee ID: {}", employeeId);
+        log.debug("Generated employee ID: {}", employeeId);
 
         // Check if email already exists
         if (teacherRepository.existsByEmail(request.getEmail())) {
@@ -61,12 +68,13 @@ public class TeacherService {
             user = User.builder()
                     .username(request.getUsername())
                     .email(request.getEmail())
-                    .password(passwordEncoder.encode(request.getPassword()))
+                    .password(passwordEncoder.encode(request.getPassword(), Role.TEACHER))
                     .firstName(request.getFirstName())
                     .lastName(request.getLastName())
                     .role(Role.TEACHER)
                     .build();
             user = userRepository.save(user);
+            cacheEvictor.usersChanged(Role.TEACHER);
         }
 
         // Create teacher
@@ -99,7 +107,7 @@ public class TeacherService {
 
     @Transactional
     public TeacherResponse updateTeacher(Long id, TeacherRequest request) {
-        log.info("Updating teacher with ID: {}", id);
+        log.debug("Updating teacher with ID: {}", id);
 
         Teacher teacher = teacherRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Teacher not found"));
@@ -129,18 +137,30 @@ public class TeacherService {
         teacher.setSubjects(request.getSubjects());
 
         teacher = teacherRepository.save(teacher);
+        cacheEvictor.evictTeacher(id);
         log.info("Teacher updated successfully");
 
         return mapToResponse(teacher);
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.TEACHERS, key = "#id")
     public TeacherResponse getTeacher(Long id) {
         Teacher teacher = teacherRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Teacher not found"));
         return mapToResponse(teacher);
     }
 
+    /**
+     * Teachers by id in one query; ids that no longer exist are skipped
+     */
+    @Transactional(readOnly = true)
+    public List<TeacherResponse> getTeachersByIds(Collection<Long> ids) {
+        return teacherRepository.findAllWithUserByIdIn(ids).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
     @Transactional(readOnly = true)
     public List<TeacherResponse> getAllTeachers() {
         return teacherRepository.findAll().stream()
@@ -162,15 +182,30 @@ public class TeacherService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get the version of a teacher without loading the entity graph
+     */
+    @Transactional(readOnly = true)
+    public EntityVersion getTeacherVersion(Long id) {
+        return teacherRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Teacher not found"));
+    }
+
+    @Transactional(readOnly = true)
+    public VersionStamp getTeachersVersion() {
+        return teacherRepository.findVersionStamp();
+    }
+
     @Transactional
     public void deleteTeacher(Long id) {
-        log.info("Deleting teacher with ID: {}", id);
+        log.debug("Deleting teacher with ID: {}", id);
 
         if (!teacherRepository.existsById(id)) {
             throw new ResourceNotFoundException("Teacher not found");
         }
 
         teacherRepository.deleteById(id);
+        cacheEvictor.evictTeacher(id);
         log.info("Teacher deleted successfully");
     }
 
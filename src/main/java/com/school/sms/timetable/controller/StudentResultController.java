@@ -1,6 +1,12 @@
 package com.school.sms.timetable.controller;
 
 import com.school.sms.common.dto.ApiResponse;
+import com.school.sms.common.dto.EntityVersion;
+import com.school.sms.common.dto.VersionStamp;
+import com.school.sms.common.util.EtagUtils;
+import com.school.sms.timetable.dto.PublishedResultSnapshotResponse;
+import com.school.sms.timetable.dto.ResultPublishRequest;
+import com.school.sms.timetable.dto.ResultPublishResponse;
 import com.school.sms.timetable.dto.StudentResultRequest;
 import com.school.sms.timetable.dto.StudentResultResponse;
 import com.school.sms.timetable.service.StudentResultService;
@@ -10,6 +16,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -41,7 +48,14 @@ public class StudentResultController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<StudentResultResponse>> getResult(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<StudentResultResponse>> getResult(@PathVariable Long id, WebRequest webRequest) {
+        EntityVersion version = studentResultService.getResultVersion(id);
+        if (webRequest.checkNotModified(
+                EtagUtils.entityEtag("result", version),
+                EtagUtils.toEpochMilli(version.getLastModified()))) {
+            return null;
+        }
+
         StudentResultResponse result = studentResultService.getResult(id);
         return ResponseEntity.ok(ApiResponse.success("Result retrieved successfully", result));
     }
@@ -49,7 +63,15 @@ public class StudentResultController {
     @GetMapping("/student/{studentId}")
     public ResponseEntity<ApiResponse<List<StudentResultResponse>>> getResultsByStudent(
             @PathVariable Long studentId,
-            @RequestParam(required = false) String academicYear) {
+            @RequestParam(required = false) String academicYear,
+            WebRequest webRequest) {
+
+        VersionStamp version = studentResultService.getResultsVersionByStudent(studentId);
+        if (webRequest.checkNotModified(
+                EtagUtils.collectionEtag("results:student:" + studentId + ":" + academicYear, version),
+                EtagUtils.toEpochMilli(version.getLastModified()))) {
+            return null;
+        }
 
         List<StudentResultResponse> results;
         if (academicYear != null) {
@@ -65,13 +87,40 @@ public class StudentResultController {
     @GetMapping("/class")
     public ResponseEntity<ApiResponse<List<StudentResultResponse>>> getResultsByClass(
             @RequestParam String className,
-            @RequestParam(required = false) String section) {
+            @RequestParam(required = false) String section,
+            WebRequest webRequest) {
+
+        VersionStamp version = studentResultService.getResultsVersionByClass(className, section);
+        if (webRequest.checkNotModified(
+                EtagUtils.collectionEtag("results:class:" + className + ":" + section, version),
+                EtagUtils.toEpochMilli(version.getLastModified()))) {
+            return null;
+        }
 
         List<StudentResultResponse> results = studentResultService.getResultsByClass(className, section);
         return ResponseEntity.ok(ApiResponse.success(
                 "Results retrieved successfully (" + results.size() + " found)", results));
     }
 
+    @PostMapping("/publish")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PRINCIPAL', 'ACADEMIC_TEACHER')")
+    public ResponseEntity<ApiResponse<ResultPublishResponse>> publishResults(
+            @Valid @RequestBody ResultPublishRequest request) {
+        ResultPublishResponse response = studentResultService.publishResults(request);
+        return ResponseEntity.ok(ApiResponse.success(
+                "Results published successfully (" + response.getResultsPublished() + " published)", response));
+    }
+
+    @GetMapping("/student/{studentId}/published")
+    public ResponseEntity<ApiResponse<PublishedResultSnapshotResponse>> getPublishedSnapshot(
+            @PathVariable Long studentId,
+            @RequestParam String academicYear,
+            @RequestParam String term) {
+        PublishedResultSnapshotResponse snapshot = studentResultService.getPublishedSnapshot(
+                studentId, academicYear, term);
+        return ResponseEntity.ok(ApiResponse.success("Published results retrieved successfully", snapshot));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteResult(@PathVariable Long id) {
         studentResultService.deleteResult(id);
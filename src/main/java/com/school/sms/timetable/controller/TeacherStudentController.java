@@ -1,13 +1,17 @@
 package com.school.sms.timetable.controller;
 
 import com.school.sms.common.dto.ApiResponse;
+import com.school.sms.common.dto.EntityVersion;
+import com.school.sms.common.dto.VersionStamp;
 import com.school.sms.common.enums.StudentStatus;
+import com.school.sms.common.util.EtagUtils;
 import com.school.sms.student.dto.StudentResponse;
 import com.school.sms.student.service.StudentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -23,7 +27,14 @@ public class TeacherStudentController {
     private final StudentService studentService;
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<StudentResponse>> getStudent(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<StudentResponse>> getStudent(@PathVariable Long id, WebRequest webRequest) {
+        EntityVersion version = studentService.getStudentVersion(id);
+        if (webRequest.checkNotModified(
+                EtagUtils.entityEtag("student", version),
+                EtagUtils.toEpochMilli(version.getLastModified()))) {
+            return null;
+        }
+
         StudentResponse student = studentService.getStudent(id);
         return ResponseEntity.ok(ApiResponse.success("Student retrieved successfully", student));
     }
@@ -33,11 +44,24 @@ public class TeacherStudentController {
             @RequestParam(required = false) String search,
             @RequestParam(required = false) StudentStatus status,
             @RequestParam(required = false) String className,
-            @RequestParam(required = false) String section) {
+            @RequestParam(required = false) String section,
+            WebRequest webRequest) {
+
+        boolean searching = search != null && !search.trim().isEmpty();
+
+        // Class filters narrow the version stamp; search and status fall back to the whole table
+        VersionStamp version = studentService.getStudentsVersion(
+                searching || status != null ? null : className, section);
+        if (webRequest.checkNotModified(
+                EtagUtils.collectionEtag("students:" + search + ":" + status + ":" + className + ":" + section,
+                        version),
+                EtagUtils.toEpochMilli(version.getLastModified()))) {
+            return null;
+        }
 
         List<StudentResponse> students;
 
-        if (search != null && !search.trim().isEmpty()) {
+        if (searching) {
             students = studentService.searchStudents(search);
         } else if (status != null) {
             students = studentService.getStudentsByStatus(status);
@@ -1,6 +1,9 @@
 package com.school.sms.timetable.controller;
 
 import com.school.sms.common.dto.ApiResponse;
+import com.school.sms.common.dto.EntityVersion;
+import com.school.sms.common.dto.VersionStamp;
+import com.school.sms.common.util.EtagUtils;
 import com.school.sms.timetable.dto.ConflictCheckResponse;
 import com.school.sms.timetable.dto.TimetableRequest;
 import com.school.sms.timetable.dto.TimetableResponse;
@@ -11,6 +14,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.DayOfWeek;
 import java.util.List;
@@ -44,7 +48,14 @@ public class TimetableController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PRINCIPAL', 'TEACHER', 'ACADEMIC_TEACHER', 'DISCIPLINE_TEACHER')")
-    public ResponseEntity<ApiResponse<TimetableResponse>> getTimetable(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<TimetableResponse>> getTimetable(@PathVariable Long id, WebRequest webRequest) {
+        EntityVersion version = timetableService.getTimetableVersion(id);
+        if (webRequest.checkNotModified(
+                EtagUtils.entityEtag("timetable", version),
+                EtagUtils.toEpochMilli(version.getLastModified()))) {
+            return null;
+        }
+
         TimetableResponse timetable = timetableService.getTimetable(id);
         return ResponseEntity.ok(ApiResponse.success("Timetable retrieved successfully", timetable));
     }
@@ -55,7 +66,16 @@ public class TimetableController {
             @RequestParam(required = false) String className,
             @RequestParam(required = false) String section,
             @RequestParam(required = false) Long teacherId,
-            @RequestParam(required = false) DayOfWeek dayOfWeek) {
+            @RequestParam(required = false) DayOfWeek dayOfWeek,
+            WebRequest webRequest) {
+
+        VersionStamp version = timetableService.getTimetablesVersion();
+        if (webRequest.checkNotModified(
+                EtagUtils.collectionEtag(
+                        "timetables:" + className + ":" + section + ":" + teacherId + ":" + dayOfWeek, version),
+                EtagUtils.toEpochMilli(version.getLastModified()))) {
+            return null;
+        }
 
         List<TimetableResponse> timetables;
 
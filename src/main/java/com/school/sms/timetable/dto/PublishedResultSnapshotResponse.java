@@ -0,0 +1,28 @@
+package com.school.sms.timetable.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for published result snapshots
+ * The results are written out as the stored JSON without re-serialization
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublishedResultSnapshotResponse {
+
+    private Long studentId;
+    private String academicYear;
+    private String term;
+    private Integer revision;
+    private Integer resultCount;
+    private String publishedAt;
+
+    @JsonRawValue
+    private String results;
+}
@@ -0,0 +1,37 @@
+package com.school.sms.timetable.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Closed projection of a published result
+ * Selects only result columns, so no student or user rows are joined
+ */
+public interface PublishedResultView {
+
+    Long getId();
+
+    String getSubject();
+
+    String getExamType();
+
+    String getAcademicYear();
+
+    String getTerm();
+
+    Double getMarksObtained();
+
+    Double getTotalMarks();
+
+    String getGrade();
+
+    String getRemarks();
+
+    LocalDateTime getUpdatedAt();
+
+    default Double getPercentage() {
+        if (getTotalMarks() == null || getTotalMarks() == 0) {
+            return 0.0;
+        }
+        return (getMarksObtained() / getTotalMarks()) * 100;
+    }
+}
@@ -0,0 +1,33 @@
+package com.school.sms.timetable.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for publishing all results of a class for one exam and term
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultPublishRequest {
+
+    @NotBlank(message = "Class name is required")
+    private String className;
+
+    private String section;
+
+    @NotBlank(message = "Exam type is required")
+    private String examType;
+
+    @NotBlank(message = "Academic year is required")
+    private String academicYear;
+
+    @NotBlank(message = "Term is required")
+    private String term;
+
+    private Boolean notifyParents; // default true: email parents once the publication commits
+}
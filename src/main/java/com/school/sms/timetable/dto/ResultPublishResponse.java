@@ -0,0 +1,25 @@
+package com.school.sms.timetable.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for bulk result publication responses
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultPublishResponse {
+
+    private String className;
+    private String section;
+    private String examType;
+    private String academicYear;
+    private String term;
+    private Integer resultsPublished;
+    private Integer snapshotsWritten;
+    private Long notificationId; // bulk parent notification, if one was scheduled
+}
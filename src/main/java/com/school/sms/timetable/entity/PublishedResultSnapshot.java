@@ -0,0 +1,46 @@
+package com.school.sms.timetable.entity;
+
+import com.school.sms.common.entity.BaseEntity;
+import com.school.sms.student.entity.Student;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Published Result Snapshot Entity
+ * Immutable, pre-serialized copy of a student's published results for one term.
+ * Every publication writes a new revision; dashboards read the latest one
+ * instead of joining the live results table.
+ */
+@Entity
+@Immutable
+@Table(name = "published_result_snapshots", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_snapshot_student_term_revision",
+                columnNames = { "student_id", "academicYear", "term", "revision" })
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PublishedResultSnapshot extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id", nullable = false, updatable = false)
+    private Student student;
+
+    @Column(nullable = false, updatable = false, length = 20)
+    private String academicYear;
+
+    @Column(nullable = false, updatable = false, length = 20)
+    private String term;
+
+    @Column(nullable = false, updatable = false)
+    private Integer revision;
+
+    @Column(nullable = false, updatable = false)
+    private Integer resultCount;
+
+    @Column(nullable = false, updatable = false, columnDefinition = "TEXT")
+    private String payload; // JSON array of StudentResultResponse
+}
@@ -12,7 +12,7 @@ import lombok.*;
  */
 @Entity
 @Table(name = "student_results", indexes = {
-        @Index(name = "idx_result_student", columnList = "student_id"),
+        @Index(name = "idx_result_student_year_term", columnList = "student_id, academicYear, term"),
         @Index(name = "idx_result_exam", columnList = "examType, academicYear")
 })
 @Getter
@@ -80,22 +80,27 @@ public class StudentResult extends BaseEntity {
     @PreUpdate
     private void calculateGrade() {
         if (marksObtained != null && totalMarks != null) {
-            double percentage = getPercentage();
-            if (percentage >= 90) {
-                grade = "A+";
-            } else if (percentage >= 80) {
-                grade = "A";
-            } else if (percentage >= 70) {
-                grade = "B+";
-            } else if (percentage >= 60) {
-                grade = "B";
-            } else if (percentage >= 50) {
-                grade = "C";
-            } else if (percentage >= 40) {
-                grade = "D";
-            } else {
-                grade = "F";
-            }
+            grade = gradeFor(getPercentage());
         }
     }
+
+    /**
+     * Grade band for a percentage (shared with bulk loaders that bypass entity callbacks)
+     */
+    public static String gradeFor(double percentage) {
+        if (percentage >= 90) {
+            return "A+";
+        } else if (percentage >= 80) {
+            return "A";
+        } else if (percentage >= 70) {
+            return "B+";
+        } else if (percentage >= 60) {
+            return "B";
+        } else if (percentage >= 50) {
+            return "C";
+        } else if (percentage >= 40) {
+            return "D";
+        }
+        return "F";
+    }
 }
@@ -0,0 +1,51 @@
+package com.school.sms.timetable.repository;
+
+import com.school.sms.timetable.entity.PublishedResultSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for PublishedResultSnapshot entity
+ */
+@Repository
+public interface PublishedResultSnapshotRepository extends JpaRepository<PublishedResultSnapshot, Long> {
+
+    Optional<PublishedResultSnapshot> findFirstByStudent_IdAndAcademicYearAndTermOrderByRevisionDesc(
+            Long studentId, String academicYear, String term);
+
+    @Query("SELECT MAX(s.revision) FROM PublishedResultSnapshot s WHERE s.student.id = :studentId " +
+            "AND s.academicYear = :academicYear AND s.term = :term")
+    Integer findLatestRevision(
+            @Param("studentId") Long studentId,
+            @Param("academicYear") String academicYear,
+            @Param("term") String term);
+
+    /**
+     * Latest revision per student as [studentId, revision] rows
+     */
+    @Query("SELECT s.student.id, MAX(s.revision) FROM PublishedResultSnapshot s " +
+            "WHERE s.student.id IN :studentIds " +
+            "AND s.academicYear = :academicYear AND s.term = :term " +
+            "GROUP BY s.student.id")
+    List<Object[]> findLatestRevisions(
+            @Param("studentIds") Collection<Long> studentIds,
+            @Param("academicYear") String academicYear,
+            @Param("term") String term);
+
+    /**
+     * Delete all but the newest revisions of every student's term snapshot
+     */
+    @Modifying
+    @Query(value = "DELETE FROM published_result_snapshots s USING (" +
+            "SELECT id, ROW_NUMBER() OVER (PARTITION BY student_id, academic_year, term " +
+            "ORDER BY revision DESC) AS position FROM published_result_snapshots) r " +
+            "WHERE s.id = r.id AND r.position > :kept", nativeQuery = true)
+    int deleteRevisionsBeyond(@Param("kept") int kept);
+}
@@ -1,10 +1,18 @@
 package com.school.sms.timetable.repository;
 
+import com.school.sms.common.dto.EntityVersion;
+import com.school.sms.common.dto.VersionStamp;
 import com.school.sms.timetable.entity.StudentResult;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository for StudentResult entity
@@ -16,6 +24,12 @@ public interface StudentResultRepository extends JpaRepository<StudentResult, Lo
 
     List<StudentResult> findByStudent_IdAndIsPublishedTrue(Long studentId);
 
+    <T> List<T> findByStudent_IdAndIsPublishedTrue(Long studentId, Class<T> type);
+
+    @Query("SELECT MAX(r.updatedAt) AS lastModified, COUNT(r) AS count FROM StudentResult r " +
+            "WHERE r.student.id = :studentId AND r.isPublished = true")
+    VersionStamp findPublishedVersionStamp(@Param("studentId") Long studentId);
+
     List<StudentResult> findByStudent_IdAndAcademicYear(Long studentId, String academicYear);
 
     List<StudentResult> findByStudent_IdAndAcademicYearAndTerm(
@@ -24,4 +38,68 @@ public interface StudentResultRepository extends JpaRepository<StudentResult, Lo
     List<StudentResult> findByExamTypeAndAcademicYear(String examType, String academicYear);
 
     List<StudentResult> findByStudent_CurrentClassAndStudent_Section(String className, String section);
+
+    /**
+     * Publish every unpublished result of a class for one exam and term in a
+     * single UPDATE. Bumps version and updatedAt since bulk updates bypass the
+     * persistence context.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE StudentResult r SET r.isPublished = true, r.updatedAt = :now, r.version = r.version + 1 " +
+            "WHERE r.isPublished = false " +
+            "AND r.examType = :examType " +
+            "AND r.academicYear = :academicYear " +
+            "AND r.term = :term " +
+            "AND r.student.id IN (SELECT s.id FROM Student s WHERE s.currentClass = :className " +
+            "AND (:section IS NULL OR s.section = :section))")
+    int publishByClassAndExam(
+            @Param("className") String className,
+            @Param("section") String section,
+            @Param("examType") String examType,
+            @Param("academicYear") String academicYear,
+            @Param("term") String term,
+            @Param("now") LocalDateTime now);
+
+    @Query("SELECT r FROM StudentResult r JOIN FETCH r.student s JOIN FETCH s.user " +
+            "WHERE s.currentClass = :className " +
+            "AND (:section IS NULL OR s.section = :section) " +
+            "AND r.academicYear = :academicYear " +
+            "AND r.term = :term " +
+            "AND r.isPublished = true")
+    List<StudentResult> findPublishedByClassAndTerm(
+            @Param("className") String className,
+            @Param("section") String section,
+            @Param("academicYear") String academicYear,
+            @Param("term") String term);
+
+    @Query("SELECT r FROM StudentResult r JOIN FETCH r.student s JOIN FETCH s.user " +
+            "WHERE s.id = :studentId " +
+            "AND r.academicYear = :academicYear " +
+            "AND r.term = :term " +
+            "AND r.isPublished = true")
+    List<StudentResult> findPublishedByStudentAndTerm(
+            @Param("studentId") Long studentId,
+            @Param("academicYear") String academicYear,
+            @Param("term") String term);
+
+    @Query("SELECT r.id AS id, r.version + s.version + u.version AS version, " +
+            "greatest(r.updatedAt, s.updatedAt, u.updatedAt) AS lastModified " +
+            "FROM StudentResult r JOIN r.student s JOIN s.user u WHERE r.id = :id")
+    Optional<EntityVersion> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT greatest(max(r.updatedAt), max(s.updatedAt), max(u.updatedAt)) AS lastModified, " +
+            "count(r) AS count " +
+            "FROM StudentResult r JOIN r.student s JOIN s.user u WHERE s.id = :studentId")
+    VersionStamp findVersionStampByStudent(@Param("studentId") Long studentId);
+
+    @Query("SELECT greatest(max(r.updatedAt), max(s.updatedAt), max(u.updatedAt)) AS lastModified, " +
+            "count(r) AS count " +
+            "FROM StudentResult r JOIN r.student s JOIN s.user u WHERE s.currentClass = :className " +
+            "AND (:section IS NULL OR s.section = :section)")
+    VersionStamp findVersionStampByClass(
+            @Param("className") String className,
+            @Param("section") String section);
+
+    @Query("SELECT r FROM StudentResult r JOIN FETCH r.student s JOIN FETCH s.user WHERE r.id IN :ids")
+    List<StudentResult> findAllWithStudentByIdIn(@Param("ids") Collection<Long> ids);
 }
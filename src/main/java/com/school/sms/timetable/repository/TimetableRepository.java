@@ -1,5 +1,7 @@
 package com.school.sms.timetable.repository;
 
+import com.school.sms.common.dto.EntityVersion;
+import com.school.sms.common.dto.VersionStamp;
 import com.school.sms.timetable.entity.Timetable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -8,7 +10,9 @@ import org.springframework.stereotype.Repository;
 
 import java.time.DayOfWeek;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository for Timetable entity
@@ -55,4 +59,16 @@ public interface TimetableRepository extends JpaRepository<Timetable, Long> {
             @Param("dayOfWeek") DayOfWeek dayOfWeek,
             @Param("startTime") LocalTime startTime,
             @Param("endTime") LocalTime endTime);
+
+    @Query("SELECT t.id AS id, t.version + u.version AS version, " +
+            "greatest(t.updatedAt, u.updatedAt) AS lastModified " +
+            "FROM Timetable t JOIN t.teacher te JOIN te.user u WHERE t.id = :id")
+    Optional<EntityVersion> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT greatest(max(t.updatedAt), max(u.updatedAt)) AS lastModified, count(t) AS count " +
+            "FROM Timetable t JOIN t.teacher te JOIN te.user u")
+    VersionStamp findVersionStamp();
+
+    @Query("SELECT t FROM Timetable t JOIN FETCH t.teacher te JOIN FETCH te.user WHERE t.id IN :ids")
+    List<Timetable> findAllWithTeacherByIdIn(@Param("ids") Collection<Long> ids);
 }
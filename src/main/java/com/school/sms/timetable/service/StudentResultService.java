@@ -1,19 +1,42 @@
 package com.school.sms.timetable.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.school.sms.common.cache.CacheEvictor;
+import com.school.sms.common.dto.EntityVersion;
+import com.school.sms.common.dto.VersionStamp;
+import com.school.sms.common.exception.AppException;
 import com.school.sms.common.exception.ResourceNotFoundException;
+import com.school.sms.notification.service.BulkNotificationService;
 import com.school.sms.student.entity.Student;
 import com.school.sms.student.repository.StudentRepository;
+import com.school.sms.timetable.dto.PublishedResultSnapshotResponse;
+import com.school.sms.timetable.dto.ResultPublishRequest;
+import com.school.sms.timetable.dto.ResultPublishResponse;
 import com.school.sms.timetable.dto.StudentResultRequest;
 import com.school.sms.timetable.dto.StudentResultResponse;
+import com.school.sms.timetable.entity.PublishedResultSnapshot;
 import com.school.sms.timetable.entity.StudentResult;
+import com.school.sms.timetable.repository.PublishedResultSnapshotRepository;
 import com.school.sms.timetable.repository.StudentResultRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -26,11 +49,19 @@ public class StudentResultService {
 
     private final StudentResultRepository studentResultRepository;
     private final StudentRepository studentRepository;
+    private final PublishedResultSnapshotRepository snapshotRepository;
+    private final ObjectMapper objectMapper;
+    private final BulkNotificationService bulkNotificationService;
+    private final CacheEvictor cacheEvictor;
+
+    @Value("${app.results.snapshot-revisions-kept:10}")
+    private int snapshotRevisionsKept;
+
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     @Transactional
     public StudentResultResponse createResult(StudentResultRequest request) {
-        log.info("Creating result for student id: {}, subject: {}", request.getStudentId(), request.getSubject());
+        log.debug("Creating result for student id: {}, subject: {}", request.getStudentId(), request.getSubject());
 
         Student student = studentRepository.findById(request.getStudentId())
                 .orElseThrow(
@@ -51,12 +82,16 @@ public class StudentResultService {
         result = studentResultRepository.save(result);
         log.info("Result created successfully with id: {}", result.getId());
 
+        if (result.getIsPublished()) {
+            refreshSnapshot(student.getId(), result.getAcademicYear(), result.getTerm());
+        }
+
         return mapToResponse(result);
     }
 
     @Transactional
     public StudentResultResponse updateResult(Long id, StudentResultRequest request) {
-        log.info("Updating result with id: {}", id);
+        log.debug("Updating result with id: {}", id);
 
         StudentResult result = studentResultRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Result not found with id: " + id));
@@ -65,6 +100,12 @@ public class StudentResultService {
                 .orElseThrow(
                         () -> new ResourceNotFoundException("Student not found with id: " + request.getStudentId()));
 
+        // Remember where the result was published before the change
+        boolean wasPublished = result.getIsPublished();
+        Long previousStudentId = result.getStudent().getId();
+        String previousYear = result.getAcademicYear();
+        String previousTerm = result.getTerm();
+
         result.setStudent(student);
         result.setSubject(request.getSubject());
         result.setExamType(request.getExamType());
@@ -80,6 +121,16 @@ public class StudentResultService {
         result = studentResultRepository.save(result);
         log.info("Result updated successfully");
 
+        boolean sameSnapshot = previousStudentId.equals(student.getId())
+                && Objects.equals(previousYear, result.getAcademicYear())
+                && Objects.equals(previousTerm, result.getTerm());
+        if (wasPublished && !sameSnapshot) {
+            refreshSnapshot(previousStudentId, previousYear, previousTerm);
+        }
+        if (wasPublished || result.getIsPublished()) {
+            refreshSnapshot(student.getId(), result.getAcademicYear(), result.getTerm());
+        }
+
         return mapToResponse(result);
     }
 
@@ -90,6 +141,16 @@ public class StudentResultService {
         return mapToResponse(result);
     }
 
+    /**
+     * Results by id in one query; ids that no longer exist are skipped
+     */
+    @Transactional(readOnly = true)
+    public List<StudentResultResponse> getResultsByIds(Collection<Long> ids) {
+        return studentResultRepository.findAllWithStudentByIdIn(ids).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
     @Transactional(readOnly = true)
     public List<StudentResultResponse> getResultsByStudent(Long studentId) {
         return studentResultRepository.findByStudent_Id(studentId).stream()
@@ -111,12 +172,183 @@ public class StudentResultService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get the version of a result without loading the entity graph
+     */
+    @Transactional(readOnly = true)
+    public EntityVersion getResultVersion(Long id) {
+        return studentResultRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Result not found with id: " + id));
+    }
+
+    @Transactional(readOnly = true)
+    public VersionStamp getResultsVersionByStudent(Long studentId) {
+        return studentResultRepository.findVersionStampByStudent(studentId);
+    }
+
+    @Transactional(readOnly = true)
+    public VersionStamp getResultsVersionByClass(String className, String section) {
+        return studentResultRepository.findVersionStampByClass(className, section);
+    }
+
     @Transactional
     public void deleteResult(Long id) {
         StudentResult result = studentResultRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Result not found with id: " + id));
         studentResultRepository.delete(result);
         log.info("Result deleted successfully with id: {}", id);
+
+        if (result.getIsPublished()) {
+            refreshSnapshot(result.getStudent().getId(), result.getAcademicYear(), result.getTerm());
+        }
+    }
+
+    /**
+     * Publish all results of a class for one exam and term.
+     * Flags are flipped with a single set-based UPDATE, then one snapshot
+     * revision is written per affected student. Parent emails are fanned out
+     * in the background once the publication commits.
+     */
+    @Transactional
+    public ResultPublishResponse publishResults(ResultPublishRequest request) {
+        String section = StringUtils.hasText(request.getSection()) ? request.getSection() : null;
+        log.info("Publishing {} results for class: {}, section: {}, term: {} {}",
+                request.getExamType(), request.getClassName(), section, request.getTerm(), request.getAcademicYear());
+
+        int published = studentResultRepository.publishByClassAndExam(
+                request.getClassName(),
+                section,
+                request.getExamType(),
+                request.getAcademicYear(),
+                request.getTerm(),
+                LocalDateTime.now());
+
+        int snapshotsWritten = 0;
+        if (published > 0) {
+            // Group the term's published results by student, keeping only students sitting this exam
+            Map<Long, List<StudentResult>> resultsByStudent = studentResultRepository
+                    .findPublishedByClassAndTerm(request.getClassName(), section,
+                            request.getAcademicYear(), request.getTerm())
+                    .stream()
+                    .collect(Collectors.groupingBy(r -> r.getStudent().getId(), LinkedHashMap::new,
+                            Collectors.toList()));
+            resultsByStudent.values()
+                    .removeIf(results -> results.stream()
+                            .noneMatch(r -> r.getExamType().equals(request.getExamType())));
+
+            Map<Long, Integer> latestRevisions = new HashMap<>();
+            if (!resultsByStudent.isEmpty()) {
+                // A concurrent publish or result edit for the same students waits here, then reads our revisions
+                studentRepository.lockByIds(resultsByStudent.keySet());
+                for (Object[] row : snapshotRepository.findLatestRevisions(
+                        resultsByStudent.keySet(), request.getAcademicYear(), request.getTerm())) {
+                    latestRevisions.put((Long) row[0], (Integer) row[1]);
+                }
+            }
+
+            List<PublishedResultSnapshot> snapshots = new ArrayList<>(resultsByStudent.size());
+            resultsByStudent.forEach((studentId, results) -> snapshots.add(buildSnapshot(
+                    results.get(0).getStudent(),
+                    request.getAcademicYear(),
+                    request.getTerm(),
+                    latestRevisions.getOrDefault(studentId, 0) + 1,
+                    results)));
+
+            snapshotRepository.saveAll(snapshots);
+            snapshotsWritten = snapshots.size();
+            cacheEvictor.resultsPublished(request.getClassName(), section,
+                    request.getAcademicYear(), request.getTerm());
+        }
+
+        Long notificationId = null;
+        if (snapshotsWritten > 0 && !Boolean.FALSE.equals(request.getNotifyParents())) {
+            notificationId = bulkNotificationService.scheduleResultNotification(request.getClassName(), section,
+                    request.getExamType(), request.getAcademicYear(), request.getTerm());
+        }
+
+        log.info("Published {} results, wrote {} snapshots", published, snapshotsWritten);
+
+        return ResultPublishResponse.builder()
+                .className(request.getClassName())
+                .section(section)
+                .examType(request.getExamType())
+                .academicYear(request.getAcademicYear())
+                .term(request.getTerm())
+                .resultsPublished(published)
+                .snapshotsWritten(snapshotsWritten)
+                .notificationId(notificationId)
+                .build();
+    }
+
+    /**
+     * Get the latest published snapshot of a student's term results
+     */
+    @Transactional(readOnly = true)
+    public PublishedResultSnapshotResponse getPublishedSnapshot(Long studentId, String academicYear, String term) {
+        PublishedResultSnapshot snapshot = snapshotRepository
+                .findFirstByStudent_IdAndAcademicYearAndTermOrderByRevisionDesc(studentId, academicYear, term)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "No published results for student " + studentId + " in " + term + " " + academicYear));
+
+        return PublishedResultSnapshotResponse.builder()
+                .studentId(studentId)
+                .academicYear(snapshot.getAcademicYear())
+                .term(snapshot.getTerm())
+                .revision(snapshot.getRevision())
+                .resultCount(snapshot.getResultCount())
+                .publishedAt(snapshot.getCreatedAt() != null ? snapshot.getCreatedAt().format(FORMATTER) : null)
+                .results(snapshot.getPayload())
+                .build();
+    }
+
+    /**
+     * Prune old snapshot revisions; only the latest is served, the rest are kept as a short history
+     */
+    @Transactional
+    @Scheduled(cron = "${app.results.snapshot-purge-cron:0 0 4 * * *}")
+    public void purgeSnapshotRevisions() {
+        int deleted = snapshotRepository.deleteRevisionsBeyond(snapshotRevisionsKept);
+        if (deleted > 0) {
+            log.info("Purged {} result snapshot revisions beyond the latest {}", deleted, snapshotRevisionsKept);
+        }
+    }
+
+    /**
+     * Write a new snapshot revision after a single published result changed
+     */
+    private void refreshSnapshot(Long studentId, String academicYear, String term) {
+        if (term == null) {
+            return;
+        }
+
+        studentRepository.lockByIds(List.of(studentId));
+        Student student = studentRepository.getReferenceById(studentId);
+        List<StudentResult> results = studentResultRepository
+                .findPublishedByStudentAndTerm(studentId, academicYear, term);
+        Integer latestRevision = snapshotRepository.findLatestRevision(studentId, academicYear, term);
+
+        snapshotRepository.save(buildSnapshot(student, academicYear, term,
+                latestRevision != null ? latestRevision + 1 : 1, results));
+    }
+
+    private PublishedResultSnapshot buildSnapshot(Student student, String academicYear, String term,
+            int revision, List<StudentResult> results) {
+        List<StudentResultResponse> responses = results.stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+
+        try {
+            return PublishedResultSnapshot.builder()
+                    .student(student)
+                    .academicYear(academicYear)
+                    .term(term)
+                    .revision(revision)
+                    .resultCount(responses.size())
+                    .payload(objectMapper.writeValueAsString(responses))
+                    .build();
+        } catch (JsonProcessingException ex) {
+            throw new AppException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to serialize result snapshot", ex);
+        }
     }
 
     private StudentResultResponse mapToResponse(StudentResult result) {
@@ -1,5 +1,9 @@
 package com.school.sms.timetable.service;
 
+import com.school.sms.common.cache.CacheEvictor;
+import com.school.sms.common.cache.CacheNames;
+import com.school.sms.common.dto.EntityVersion;
+import com.school.sms.common.dto.VersionStamp;
 import com.school.sms.common.exception.ResourceNotFoundException;
 import com.school.sms.teacher.entity.Teacher;
 import com.school.sms.teacher.repository.TeacherRepository;
@@ -8,6 +12,7 @@ import com.school.sms.timetable.entity.Timetable;
 import com.school.sms.timetable.repository.TimetableRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +20,7 @@ import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,11 +34,12 @@ public class TimetableService {
 
     private final TimetableRepository timetableRepository;
     private final TeacherRepository teacherRepository;
+    private final CacheEvictor cacheEvictor;
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     @Transactional
     public TimetableResponse createTimetable(TimetableRequest request) {
-        log.info("Creating timetable for class: {}, subject: {}", request.getClassName(), request.getSubject());
+        log.debug("Creating timetable for class: {}, subject: {}", request.getClassName(), request.getSubject());
 
         // Validate teacher exists
         Teacher teacher = teacherRepository.findById(request.getTeacherId())
@@ -60,6 +67,7 @@ public class TimetableService {
                 .build();
 
         timetable = timetableRepository.save(timetable);
+        evictSlot(timetable);
         log.info("Timetable created successfully with id: {}", timetable.getId());
 
         return mapToResponse(timetable);
@@ -67,7 +75,7 @@ public class TimetableService {
 
     @Transactional
     public TimetableResponse updateTimetable(Long id, TimetableRequest request) {
-        log.info("Updating timetable with id: {}", id);
+        log.debug("Updating timetable with id: {}", id);
 
         Timetable timetable = timetableRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Timetable not found with id: " + id));
@@ -82,6 +90,9 @@ public class TimetableService {
             throw new IllegalStateException("Cannot update timetable: " + conflictCheck.getMessage());
         }
 
+        // Evict the slot's current placement before it moves
+        evictSlot(timetable);
+
         // Update timetable
         timetable.setClassName(request.getClassName());
         timetable.setSection(request.getSection());
@@ -97,6 +108,7 @@ public class TimetableService {
         }
 
         timetable = timetableRepository.save(timetable);
+        evictSlot(timetable);
         log.info("Timetable updated successfully");
 
         return mapToResponse(timetable);
@@ -109,6 +121,16 @@ public class TimetableService {
         return mapToResponse(timetable);
     }
 
+    /**
+     * Timetable slots by id in one query; ids that no longer exist are skipped
+     */
+    @Transactional(readOnly = true)
+    public List<TimetableResponse> getTimetablesByIds(Collection<Long> ids) {
+        return timetableRepository.findAllWithTeacherByIdIn(ids).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
     @Transactional(readOnly = true)
     public List<TimetableResponse> getAllTimetables() {
         return timetableRepository.findAll().stream()
@@ -117,6 +139,8 @@ public class TimetableService {
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.TIMETABLES_BY_CLASS,
+            key = "T(com.school.sms.common.cache.CacheNames).classKey(#className, #section)")
     public List<TimetableResponse> getTimetableByClass(String className, String section) {
         List<Timetable> timetables;
         if (section != null && !section.isEmpty()) {
@@ -130,6 +154,7 @@ public class TimetableService {
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.TIMETABLES_BY_TEACHER, key = "#teacherId")
     public List<TimetableResponse> getTimetableByTeacher(Long teacherId) {
         return timetableRepository.findByTeacher_IdAndIsActiveTrue(teacherId).stream()
                 .map(this::mapToResponse)
@@ -137,18 +162,34 @@ public class TimetableService {
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.TIMETABLES_BY_DAY, key = "#dayOfWeek")
     public List<TimetableResponse> getTimetableByDay(DayOfWeek dayOfWeek) {
         return timetableRepository.findByDayOfWeekAndIsActiveTrue(dayOfWeek).stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get the version of a timetable slot without loading the entity graph
+     */
+    @Transactional(readOnly = true)
+    public EntityVersion getTimetableVersion(Long id) {
+        return timetableRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Timetable not found with id: " + id));
+    }
+
+    @Transactional(readOnly = true)
+    public VersionStamp getTimetablesVersion() {
+        return timetableRepository.findVersionStamp();
+    }
+
     @Transactional
     public void deleteTimetable(Long id) {
         Timetable timetable = timetableRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Timetable not found with id: " + id));
         timetable.setIsActive(false);
         timetableRepository.save(timetable);
+        evictSlot(timetable);
         log.info("Timetable deactivated successfully with id: {}", id);
     }
 
@@ -249,6 +290,14 @@ public class TimetableService {
                 .build();
     }
 
+    private void evictSlot(Timetable timetable) {
+        cacheEvictor.evictTimetableSlot(
+                timetable.getClassName(),
+                timetable.getSection(),
+                timetable.getTeacher().getId(),
+                timetable.getDayOfWeek());
+    }
+
     private TimetableResponse mapToResponse(Timetable timetable) {
         return TimetableResponse.builder()
                 .id(timetable.getId())
@@ -1,5 +1,6 @@
 package com.school.sms.user.service;
 
+import com.school.sms.common.cache.CacheEvictor;
 import com.school.sms.common.exception.BadRequestException;
 import com.school.sms.common.exception.ResourceNotFoundException;
 import com.school.sms.user.dto.UserResponse;
@@ -7,6 +8,9 @@ import com.school.sms.user.dto.UserUpdateRequest;
 import com.school.sms.common.enums.Role;
 import com.school.sms.auth.entity.User;
 import com.school.sms.auth.repository.UserRepository;
+import com.school.sms.student.repository.StudentRepository;
+import com.school.sms.teacher.repository.TeacherRepository;
+import com.school.sms.timetable.repository.TimetableRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -24,6 +28,10 @@ import java.util.stream.Collectors;
 public class UserManagementService {
 
     private final UserRepository userRepository;
+    private final TeacherRepository teacherRepository;
+    private final StudentRepository studentRepository;
+    private final TimetableRepository timetableRepository;
+    private final CacheEvictor cacheEvictor;
 
     @Transactional(readOnly = true)
     public List<UserResponse> getAllUsers() {
@@ -32,6 +40,10 @@ public class UserManagementService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Users of a role
+     * Not cached: last sign-in and lock state change on every login and when a lock expires
+     */
     @Transactional(readOnly = true)
     public List<UserResponse> getUsersByRole(Role role) {
         return userRepository.findByRole(role).stream()
@@ -55,7 +67,7 @@ public class UserManagementService {
 
     @Transactional
     public UserResponse updateUser(Long id, UserUpdateRequest request) {
-        log.info("Updating user with ID: {}", id);
+        log.debug("Updating user with ID: {}", id);
 
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -72,6 +84,8 @@ public class UserManagementService {
             throw new BadRequestException("Email already exists");
         }
 
+        cacheEvictor.usersChanged(user.getRole());
+
         user.setUsername(request.getUsername());
         user.setEmail(request.getEmail());
         user.setFirstName(request.getFirstName());
@@ -86,6 +100,8 @@ public class UserManagementService {
         }
 
         user = userRepository.save(user);
+        cacheEvictor.usersChanged(user.getRole());
+        evictProfileViews(user);
         log.info("User updated successfully");
 
         return mapToResponse(user);
@@ -93,7 +109,7 @@ public class UserManagementService {
 
     @Transactional
     public void activateUser(Long id) {
-        log.info("Activating user with ID: {}", id);
+        log.debug("Activating user with ID: {}", id);
 
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -102,26 +118,28 @@ public class UserManagementService {
         user.setAccountLockedUntil(null);
         user.setFailedLoginAttempts(0);
         userRepository.save(user);
+        cacheEvictor.usersChanged(user.getRole());
 
         log.info("User activated successfully");
     }
 
     @Transactional
     public void deactivateUser(Long id) {
-        log.info("Deactivating user with ID: {}", id);
+        log.debug("Deactivating user with ID: {}", id);
 
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         user.setActive(false);
         userRepository.save(user);
+        cacheEvictor.usersChanged(user.getRole());
 
         log.info("User deactivated successfully");
     }
 
     @Transactional
     public void unlockUser(Long id) {
-        log.info("Unlocking user with ID: {}", id);
+        log.debug("Unlocking user with ID: {}", id);
 
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -129,22 +147,37 @@ public class UserManagementService {
         user.setAccountLockedUntil(null);
         user.setFailedLoginAttempts(0);
         userRepository.save(user);
+        cacheEvictor.usersChanged(user.getRole());
 
         log.info("User unlocked successfully");
     }
 
     @Transactional
     public void deleteUser(Long id) {
-        log.info("Deleting user with ID: {}", id);
+        log.debug("Deleting user with ID: {}", id);
 
-        if (!userRepository.existsById(id)) {
-            throw new ResourceNotFoundException("User not found");
-        }
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        userRepository.deleteById(id);
+        userRepository.delete(user);
+        cacheEvictor.usersChanged(user.getRole());
         log.info("User deleted successfully");
     }
 
+    /**
+     * Evict cached teacher, timetable and roster views that embed this user's name
+     */
+    private void evictProfileViews(User user) {
+        teacherRepository.findByUserId(user.getId()).ifPresent(teacher -> {
+            cacheEvictor.evictTeacher(teacher.getId());
+            timetableRepository.findByTeacher_IdAndIsActiveTrue(teacher.getId())
+                    .forEach(slot -> cacheEvictor.evictTimetableSlot(
+                            slot.getClassName(), slot.getSection(), teacher.getId(), slot.getDayOfWeek()));
+        });
+        studentRepository.findByUserId(user.getId())
+                .ifPresent(student -> cacheEvictor.evictClassRoster(student.getCurrentClass(), student.getSection()));
+    }
+
     private UserResponse mapToResponse(User user) {
         return UserResponse.builder()
                 .id(user.getId())
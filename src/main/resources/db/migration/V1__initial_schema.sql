@@ -0,0 +1,200 @@
+-- Initial schema, equivalent to what hibernate.ddl-auto=update generated from the original entities.
+-- Databases created that way are baselined at version 1 (spring.flyway.baseline-on-migrate)
+-- and only receive the later migrations.
+
+CREATE TABLE users (
+    id                              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at                      TIMESTAMP(6) NOT NULL,
+    updated_at                      TIMESTAMP(6) NOT NULL,
+    created_by                      VARCHAR(255),
+    updated_by                      VARCHAR(255),
+    version                         BIGINT,
+    active                          BOOLEAN      NOT NULL,
+    username                        VARCHAR(50)  NOT NULL,
+    email                           VARCHAR(255) NOT NULL,
+    password                        VARCHAR(255) NOT NULL,
+    first_name                      VARCHAR(50)  NOT NULL,
+    last_name                       VARCHAR(50)  NOT NULL,
+    phone_number                    VARCHAR(15),
+    role                            VARCHAR(20)  NOT NULL,
+    gender                          VARCHAR(10),
+    account_status                  VARCHAR(20)  NOT NULL,
+    profile_photo_url               VARCHAR(255),
+    email_verified                  BOOLEAN      NOT NULL,
+    last_login_at                   TIMESTAMP(6),
+    failed_login_attempts           INTEGER      NOT NULL,
+    account_locked_until            TIMESTAMP(6),
+    password_changed_at             TIMESTAMP(6),
+    password_expired                BOOLEAN      NOT NULL,
+    password_reset_token            VARCHAR(255),
+    password_reset_token_expiry     TIMESTAMP(6),
+    email_verification_token        VARCHAR(255),
+    email_verification_token_expiry TIMESTAMP(6),
+    CONSTRAINT uk_user_username UNIQUE (username),
+    CONSTRAINT uk_user_email UNIQUE (email)
+);
+
+CREATE INDEX idx_user_email ON users (email);
+CREATE INDEX idx_user_username ON users (username);
+CREATE INDEX idx_user_role ON users (role);
+
+CREATE TABLE students (
+    id                       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at               TIMESTAMP(6) NOT NULL,
+    updated_at               TIMESTAMP(6) NOT NULL,
+    created_by               VARCHAR(255),
+    updated_by               VARCHAR(255),
+    version                  BIGINT,
+    active                   BOOLEAN      NOT NULL,
+    user_id                  BIGINT       NOT NULL,
+    admission_number         VARCHAR(50)  NOT NULL,
+    roll_number              VARCHAR(50),
+    date_of_birth            DATE         NOT NULL,
+    gender                   VARCHAR(10)  NOT NULL,
+    blood_group              VARCHAR(10),
+    current_class            VARCHAR(50)  NOT NULL,
+    section                  VARCHAR(20),
+    admission_date           DATE         NOT NULL,
+    status                   VARCHAR(20)  NOT NULL,
+    nationality              VARCHAR(100),
+    religion                 VARCHAR(100),
+    caste                    VARCHAR(100),
+    address                  TEXT,
+    city                     VARCHAR(100),
+    state                    VARCHAR(100),
+    postal_code              VARCHAR(10),
+    country                  VARCHAR(50),
+    father_name              VARCHAR(100) NOT NULL,
+    father_occupation        VARCHAR(100),
+    father_phone             VARCHAR(15),
+    father_email             VARCHAR(100),
+    mother_name              VARCHAR(100),
+    mother_occupation        VARCHAR(100),
+    mother_phone             VARCHAR(15),
+    mother_email             VARCHAR(100),
+    guardian_name            VARCHAR(100),
+    guardian_relation        VARCHAR(100),
+    guardian_phone           VARCHAR(15),
+    guardian_email           VARCHAR(100),
+    previous_school          VARCHAR(200),
+    previous_class           VARCHAR(50),
+    previous_percentage      VARCHAR(20),
+    medical_conditions       TEXT,
+    allergies                TEXT,
+    birth_certificate_url    VARCHAR(255),
+    transfer_certificate_url VARCHAR(255),
+    previous_marksheet_url   VARCHAR(255),
+    notes                    TEXT,
+    CONSTRAINT uk_student_user UNIQUE (user_id),
+    CONSTRAINT uk_student_admission_number UNIQUE (admission_number),
+    CONSTRAINT uk_student_roll_number UNIQUE (roll_number),
+    CONSTRAINT fk_student_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE INDEX idx_student_admission_number ON students (admission_number);
+CREATE INDEX idx_student_roll_number ON students (roll_number);
+CREATE INDEX idx_student_class ON students (current_class);
+CREATE INDEX idx_student_status ON students (status);
+
+CREATE TABLE teachers (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6) NOT NULL,
+    created_by        VARCHAR(255),
+    updated_by        VARCHAR(255),
+    version           BIGINT,
+    active            BOOLEAN      NOT NULL,
+    user_id           BIGINT       NOT NULL,
+    employee_id       VARCHAR(20)  NOT NULL,
+    first_name        VARCHAR(50)  NOT NULL,
+    last_name         VARCHAR(50)  NOT NULL,
+    email             VARCHAR(100) NOT NULL,
+    phone             VARCHAR(20),
+    date_of_birth     DATE,
+    gender            VARCHAR(10),
+    address           VARCHAR(500),
+    qualification     VARCHAR(100),
+    specialization    VARCHAR(500),
+    experience_years  INTEGER,
+    joining_date      DATE,
+    salary            FLOAT(53),
+    employment_status VARCHAR(20),
+    subjects          VARCHAR(500),
+    CONSTRAINT uk_teacher_user UNIQUE (user_id),
+    CONSTRAINT uk_teacher_employee_id UNIQUE (employee_id),
+    CONSTRAINT uk_teacher_email UNIQUE (email),
+    CONSTRAINT fk_teacher_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE timetables (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    created_by  VARCHAR(255),
+    updated_by  VARCHAR(255),
+    version     BIGINT,
+    active      BOOLEAN      NOT NULL,
+    class_name  VARCHAR(50)  NOT NULL,
+    section     VARCHAR(20),
+    subject     VARCHAR(100) NOT NULL,
+    teacher_id  BIGINT       NOT NULL,
+    day_of_week VARCHAR(10)  NOT NULL,
+    start_time  TIME(6)      NOT NULL,
+    end_time    TIME(6)      NOT NULL,
+    room        VARCHAR(50),
+    notes       TEXT,
+    is_active   BOOLEAN      NOT NULL,
+    CONSTRAINT fk_timetable_teacher FOREIGN KEY (teacher_id) REFERENCES teachers (id)
+);
+
+CREATE INDEX idx_timetable_class ON timetables (class_name, section);
+CREATE INDEX idx_timetable_teacher ON timetables (teacher_id);
+CREATE INDEX idx_timetable_day_time ON timetables (day_of_week, start_time);
+
+CREATE TABLE student_results (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at     TIMESTAMP(6) NOT NULL,
+    updated_at     TIMESTAMP(6) NOT NULL,
+    created_by     VARCHAR(255),
+    updated_by     VARCHAR(255),
+    version        BIGINT,
+    active         BOOLEAN      NOT NULL,
+    student_id     BIGINT       NOT NULL,
+    subject        VARCHAR(100) NOT NULL,
+    exam_type      VARCHAR(50)  NOT NULL,
+    academic_year  VARCHAR(20)  NOT NULL,
+    term           VARCHAR(20),
+    marks_obtained FLOAT(53)    NOT NULL,
+    total_marks    FLOAT(53)    NOT NULL,
+    grade          VARCHAR(5),
+    remarks        TEXT,
+    is_published   BOOLEAN      NOT NULL,
+    CONSTRAINT fk_result_student FOREIGN KEY (student_id) REFERENCES students (id)
+);
+
+CREATE INDEX idx_result_student ON student_results (student_id);
+CREATE INDEX idx_result_exam ON student_results (exam_type, academic_year);
+
+CREATE TABLE audit_logs (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    created_by    VARCHAR(255),
+    updated_by    VARCHAR(255),
+    version       BIGINT,
+    active        BOOLEAN      NOT NULL,
+    username      VARCHAR(50)  NOT NULL,
+    action        VARCHAR(50)  NOT NULL,
+    entity_type   VARCHAR(100),
+    entity_id     BIGINT,
+    details       TEXT,
+    ip_address    VARCHAR(45),
+    user_agent    VARCHAR(500),
+    success       BOOLEAN,
+    error_message TEXT
+);
+
+CREATE INDEX idx_audit_user ON audit_logs (username);
+CREATE INDEX idx_audit_action ON audit_logs (action);
+CREATE INDEX idx_audit_entity ON audit_logs (entity_type, entity_id);
+CREATE INDEX idx_audit_created ON audit_logs (created_at);
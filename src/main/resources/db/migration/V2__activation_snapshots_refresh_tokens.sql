@@ -0,0 +1,46 @@
+-- Schema added after the initial entities: activation tokens for password-less student accounts,
+-- published result snapshots and refresh token families. Guarded with IF NOT EXISTS because
+-- databases that ran those versions under ddl-auto=update already have them.
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS activation_token VARCHAR(255);
+ALTER TABLE users ADD COLUMN IF NOT EXISTS activation_token_expiry TIMESTAMP(6);
+
+CREATE TABLE IF NOT EXISTS published_result_snapshots (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    created_by    VARCHAR(255),
+    updated_by    VARCHAR(255),
+    version       BIGINT,
+    active        BOOLEAN      NOT NULL,
+    student_id    BIGINT       NOT NULL,
+    academic_year VARCHAR(20)  NOT NULL,
+    term          VARCHAR(20)  NOT NULL,
+    revision      INTEGER      NOT NULL,
+    result_count  INTEGER      NOT NULL,
+    payload       TEXT         NOT NULL,
+    CONSTRAINT uk_snapshot_student_term_revision UNIQUE (student_id, academic_year, term, revision),
+    CONSTRAINT fk_snapshot_student FOREIGN KEY (student_id) REFERENCES students (id)
+);
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    created_by VARCHAR(255),
+    updated_by VARCHAR(255),
+    version    BIGINT,
+    active     BOOLEAN      NOT NULL,
+    token_hash VARCHAR(64)  NOT NULL,
+    family_id  VARCHAR(36)  NOT NULL,
+    user_id    BIGINT       NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL,
+    used_at    TIMESTAMP(6),
+    revoked_at TIMESTAMP(6),
+    CONSTRAINT uk_refresh_token_hash UNIQUE (token_hash),
+    CONSTRAINT fk_refresh_token_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_token_family ON refresh_tokens (family_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_token_user ON refresh_tokens (user_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_token_expires ON refresh_tokens (expires_at);
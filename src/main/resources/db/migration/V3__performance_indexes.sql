@@ -0,0 +1,53 @@
+-- Indexes shaped after the repository queries (composite, partial and covering),
+-- plus removal of indexes that duplicate a unique constraint or a new composite prefix.
+
+-- timetables: class/teacher/room conflict checks and class timetables only ever read active slots
+CREATE INDEX IF NOT EXISTS idx_timetable_class_day_active
+    ON timetables (class_name, section, day_of_week, start_time) WHERE is_active;
+CREATE INDEX IF NOT EXISTS idx_timetable_teacher_day_active
+    ON timetables (teacher_id, day_of_week, start_time) WHERE is_active;
+CREATE INDEX IF NOT EXISTS idx_timetable_room_day_active
+    ON timetables (room, day_of_week, start_time) WHERE is_active AND room IS NOT NULL;
+
+-- student_results: per-student term lookups and snapshots; replaces the student_id-only index
+CREATE INDEX IF NOT EXISTS idx_result_student_year_term
+    ON student_results (student_id, academic_year, term);
+DROP INDEX IF EXISTS idx_result_student;
+-- Published-results ETag stamp (max(updated_at), count(*)) answered by an index-only scan
+CREATE INDEX IF NOT EXISTS idx_result_student_published
+    ON student_results (student_id) INCLUDE (updated_at) WHERE is_published;
+
+-- students: class rosters and version stamps filter on class and section together
+CREATE INDEX IF NOT EXISTS idx_student_class_section ON students (current_class, section);
+DROP INDEX IF EXISTS idx_student_class;
+-- Parent portal lookup: father OR mother OR guardian email (bitmap OR over three partial indexes)
+CREATE INDEX IF NOT EXISTS idx_student_father_email ON students (father_email) WHERE father_email IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_student_mother_email ON students (mother_email) WHERE mother_email IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_student_guardian_email ON students (guardian_email) WHERE guardian_email IS NOT NULL;
+
+-- users: username/email already have unique indexes; one-time tokens are sparse
+DROP INDEX IF EXISTS idx_user_email;
+DROP INDEX IF EXISTS idx_user_username;
+CREATE INDEX IF NOT EXISTS idx_user_password_reset_token
+    ON users (password_reset_token) WHERE password_reset_token IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_user_email_verification_token
+    ON users (email_verification_token) WHERE email_verification_token IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_user_activation_token
+    ON users (activation_token) WHERE activation_token IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_user_locked_until
+    ON users (account_locked_until) WHERE account_locked_until IS NOT NULL;
+
+-- refresh_tokens: active families of a user (logout everywhere, password change)
+CREATE INDEX IF NOT EXISTS idx_refresh_token_user_active
+    ON refresh_tokens (user_id, expires_at) INCLUDE (family_id) WHERE revoked_at IS NULL;
+
+-- published_result_snapshots: the unique constraint already indexes these columns; only
+-- databases built by ddl-auto=update carry this duplicate
+DROP INDEX IF EXISTS idx_snapshot_student_term;
+
+-- audit_logs: append-only, so a BRIN index serves date ranges at a fraction of the size;
+-- latest-activity-per-user reads (username, created_at desc)
+CREATE INDEX IF NOT EXISTS idx_audit_user_created ON audit_logs (username, created_at DESC);
+DROP INDEX IF EXISTS idx_audit_user;
+CREATE INDEX IF NOT EXISTS idx_audit_created_brin ON audit_logs USING BRIN (created_at);
+DROP INDEX IF EXISTS idx_audit_created;
@@ -0,0 +1,28 @@
+-- Transactional email outbox: rows are written in the same transaction as the business change
+-- and delivered later by EmailDispatcher.
+
+CREATE TABLE email_outbox (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at      TIMESTAMP(6)  NOT NULL,
+    updated_at      TIMESTAMP(6)  NOT NULL,
+    created_by      VARCHAR(255),
+    updated_by      VARCHAR(255),
+    version         BIGINT,
+    active          BOOLEAN       NOT NULL,
+    idempotency_key VARCHAR(200)  NOT NULL,
+    recipient       VARCHAR(255)  NOT NULL,
+    subject         VARCHAR(255)  NOT NULL,
+    body            TEXT          NOT NULL,
+    status          VARCHAR(20)   NOT NULL,
+    attempts        INTEGER       NOT NULL,
+    next_attempt_at TIMESTAMP(6)  NOT NULL,
+    lease_until     TIMESTAMP(6),
+    sent_at         TIMESTAMP(6),
+    last_error      VARCHAR(1000),
+    CONSTRAINT uk_email_outbox_idempotency_key UNIQUE (idempotency_key)
+);
+
+-- Dispatcher poll: only undelivered rows, in due order
+CREATE INDEX idx_email_outbox_due ON email_outbox (next_attempt_at) WHERE status IN ('PENDING', 'SENDING');
+-- Retention purge of delivered rows
+CREATE INDEX idx_email_outbox_sent_at ON email_outbox (sent_at) WHERE status = 'SENT';
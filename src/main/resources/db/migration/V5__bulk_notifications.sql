@@ -0,0 +1,43 @@
+-- Bulk parent notifications (result publication, announcements): one row per fan-out job,
+-- with its outbox messages linked back for delivery progress.
+
+CREATE TABLE bulk_notifications (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at         TIMESTAMP(6) NOT NULL,
+    updated_at         TIMESTAMP(6) NOT NULL,
+    created_by         VARCHAR(255),
+    updated_by         VARCHAR(255),
+    version            BIGINT,
+    active             BOOLEAN      NOT NULL,
+    kind               VARCHAR(30)  NOT NULL,
+    status             VARCHAR(20)  NOT NULL,
+    class_name         VARCHAR(50),
+    section            VARCHAR(20),
+    exam_type          VARCHAR(50),
+    academic_year      VARCHAR(20),
+    term               VARCHAR(20),
+    subject            VARCHAR(255) NOT NULL,
+    message            TEXT,
+    students           INTEGER      NOT NULL,
+    recipients         INTEGER      NOT NULL,
+    duplicates_skipped INTEGER      NOT NULL,
+    enqueued           INTEGER      NOT NULL,
+    started_at         TIMESTAMP(6),
+    completed_at       TIMESTAMP(6),
+    last_error         VARCHAR(1000)
+);
+
+-- Sweep for jobs that were never started or whose runner died
+CREATE INDEX idx_bulk_notification_open ON bulk_notifications (updated_at) WHERE status IN ('QUEUED', 'RUNNING');
+
+-- Transactional emails (priority 0) are dispatched ahead of bulk ones (priority 1)
+ALTER TABLE email_outbox ADD COLUMN priority INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE email_outbox ADD COLUMN bulk_notification_id BIGINT;
+ALTER TABLE email_outbox ADD CONSTRAINT fk_email_outbox_bulk_notification
+    FOREIGN KEY (bulk_notification_id) REFERENCES bulk_notifications (id);
+
+DROP INDEX IF EXISTS idx_email_outbox_due;
+CREATE INDEX idx_email_outbox_due
+    ON email_outbox (priority, next_attempt_at) WHERE status IN ('PENDING', 'SENDING');
+CREATE INDEX idx_email_outbox_bulk_notification
+    ON email_outbox (bulk_notification_id, status) WHERE bulk_notification_id IS NOT NULL;
@@ -0,0 +1,68 @@
+-- Attendance stored as bitmaps instead of a row per student per period.
+-- Each marked period of a class in a term is a session with an ordinal (0, 1, 2, ...);
+-- a student's term attendance is one row holding "marked" and "present" bitmaps indexed
+-- by that ordinal, plus running counts so percentages need no bitmap decoding.
+
+-- One register per class/section and term; session_count hands out the next ordinal
+CREATE TABLE attendance_registers (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    created_by    VARCHAR(255),
+    updated_by    VARCHAR(255),
+    version       BIGINT,
+    active        BOOLEAN      NOT NULL,
+    class_name    VARCHAR(50)  NOT NULL,
+    section       VARCHAR(20),
+    academic_year VARCHAR(20)  NOT NULL,
+    term          VARCHAR(20)  NOT NULL,
+    session_count INTEGER      NOT NULL
+);
+
+-- Sections are optional; COALESCE keeps "no section" unique as well
+CREATE UNIQUE INDEX uk_attendance_register_class_term
+    ON attendance_registers (class_name, (COALESCE(section, '')), academic_year, term);
+
+CREATE TABLE attendance_sessions (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    created_by    VARCHAR(255),
+    updated_by    VARCHAR(255),
+    version       BIGINT,
+    active        BOOLEAN      NOT NULL,
+    register_id   BIGINT       NOT NULL,
+    ordinal       INTEGER      NOT NULL,
+    session_date  DATE         NOT NULL,
+    timetable_id  BIGINT       NOT NULL,
+    subject       VARCHAR(100) NOT NULL,
+    present_count INTEGER      NOT NULL,
+    absent_count  INTEGER      NOT NULL,
+    CONSTRAINT uk_attendance_session_ordinal UNIQUE (register_id, ordinal),
+    CONSTRAINT uk_attendance_session_slot UNIQUE (register_id, session_date, timetable_id),
+    CONSTRAINT fk_attendance_session_register FOREIGN KEY (register_id) REFERENCES attendance_registers (id),
+    CONSTRAINT fk_attendance_session_timetable FOREIGN KEY (timetable_id) REFERENCES timetables (id)
+);
+
+CREATE TABLE student_attendance (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    created_by    VARCHAR(255),
+    updated_by    VARCHAR(255),
+    version       BIGINT,
+    active        BOOLEAN      NOT NULL,
+    student_id    BIGINT       NOT NULL,
+    register_id   BIGINT       NOT NULL,
+    academic_year VARCHAR(20)  NOT NULL,
+    term          VARCHAR(20)  NOT NULL,
+    marked_bits   BYTEA        NOT NULL,
+    present_bits  BYTEA        NOT NULL,
+    marked_count  INTEGER      NOT NULL,
+    present_count INTEGER      NOT NULL,
+    CONSTRAINT uk_student_attendance_register_student UNIQUE (register_id, student_id),
+    CONSTRAINT fk_student_attendance_student FOREIGN KEY (student_id) REFERENCES students (id),
+    CONSTRAINT fk_student_attendance_register FOREIGN KEY (register_id) REFERENCES attendance_registers (id)
+);
+
+CREATE INDEX idx_student_attendance_student_term ON student_attendance (student_id, academic_year, term);
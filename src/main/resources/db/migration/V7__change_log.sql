@@ -0,0 +1,67 @@
+-- Change log for delta sync (/api/sync/{type}/changes): one row per write to a synced table,
+-- recorded by triggers so set-based updates (e.g. result publication) are captured as well.
+-- Readers page by (txid, seq) below the oldest running transaction, which keeps the cursor
+-- monotonic even though transactions commit out of sequence order.
+
+CREATE TABLE change_log (
+    seq         BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    txid        XID8         NOT NULL DEFAULT pg_current_xact_id(),
+    entity_type VARCHAR(20)  NOT NULL,
+    entity_id   BIGINT       NOT NULL,
+    changed_at  TIMESTAMP(6) NOT NULL DEFAULT LOCALTIMESTAMP
+);
+
+CREATE INDEX idx_change_log_cursor ON change_log (entity_type, txid, seq);
+CREATE INDEX idx_change_log_entity ON change_log (entity_type, entity_id, seq);
+
+CREATE FUNCTION log_entity_change() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO change_log (entity_type, entity_id)
+    VALUES (TG_ARGV[0], CASE WHEN TG_OP = 'DELETE' THEN OLD.id ELSE NEW.id END);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_students_change_log
+    AFTER INSERT OR UPDATE OR DELETE ON students
+    FOR EACH ROW EXECUTE FUNCTION log_entity_change('STUDENT');
+
+CREATE TRIGGER trg_teachers_change_log
+    AFTER INSERT OR UPDATE OR DELETE ON teachers
+    FOR EACH ROW EXECUTE FUNCTION log_entity_change('TEACHER');
+
+CREATE TRIGGER trg_timetables_change_log
+    AFTER INSERT OR UPDATE OR DELETE ON timetables
+    FOR EACH ROW EXECUTE FUNCTION log_entity_change('TIMETABLE');
+
+CREATE TRIGGER trg_student_results_change_log
+    AFTER INSERT OR UPDATE OR DELETE ON student_results
+    FOR EACH ROW EXECUTE FUNCTION log_entity_change('RESULT');
+
+-- Student and teacher payloads include the account's name and contact details; sign-ins
+-- and token updates on users are not logged
+CREATE FUNCTION log_user_profile_change() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO change_log (entity_type, entity_id)
+    SELECT 'STUDENT', s.id FROM students s WHERE s.user_id = NEW.id
+    UNION ALL
+    SELECT 'TEACHER', t.id FROM teachers t WHERE t.user_id = NEW.id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_users_profile_change_log
+    AFTER UPDATE ON users
+    FOR EACH ROW
+    WHEN (OLD.username IS DISTINCT FROM NEW.username
+        OR OLD.first_name IS DISTINCT FROM NEW.first_name
+        OR OLD.last_name IS DISTINCT FROM NEW.last_name
+        OR OLD.email IS DISTINCT FROM NEW.email
+        OR OLD.phone_number IS DISTINCT FROM NEW.phone_number)
+    EXECUTE FUNCTION log_user_profile_change();
+
+-- Existing rows, so a client starting without a token receives everything
+INSERT INTO change_log (entity_type, entity_id) SELECT 'STUDENT', id FROM students ORDER BY id;
+INSERT INTO change_log (entity_type, entity_id) SELECT 'TEACHER', id FROM teachers ORDER BY id;
+INSERT INTO change_log (entity_type, entity_id) SELECT 'TIMETABLE', id FROM timetables ORDER BY id;
+INSERT INTO change_log (entity_type, entity_id) SELECT 'RESULT', id FROM student_results ORDER BY id;
@@ -131,6 +131,88 @@ const UI = {
     }
 };
 
+// Live updates over Server-Sent Events
+// Read with fetch rather than EventSource so the token goes in the Authorization header.
+// Handlers are keyed by topic (timetable, results, rosters, users) and receive the list of
+// changes; 'resync' handlers run when changes may have been missed.
+const LiveUpdates = {
+    handlers: {},
+    lastEventId: null,
+    retryMs: 1000,
+    started: false,
+
+    on(topic, handler) {
+        this.handlers[topic] = handler;
+        return this;
+    },
+
+    start() {
+        if (this.started || !Auth.isAuthenticated()) return;
+        this.started = true;
+        this.connect();
+    },
+
+    async connect() {
+        try {
+            const response = await fetch(`${API_BASE}/live/stream`, {
+                headers: {
+                    'Accept': 'text/event-stream',
+                    'Authorization': `Bearer ${Auth.getToken()}`,
+                    ...(this.lastEventId && { 'Last-Event-ID': this.lastEventId })
+                }
+            });
+            if (response.status === 401 || response.status === 403) {
+                this.started = false;
+                return;
+            }
+            if (!response.ok) {
+                throw new Error(`Live stream unavailable (${response.status})`);
+            }
+
+            this.retryMs = 1000;
+            const reader = response.body.getReader();
+            const decoder = new TextDecoder();
+            let buffer = '';
+            for (;;) {
+                const { value, done } = await reader.read();
+                if (done) break;
+                buffer += decoder.decode(value, { stream: true });
+                let boundary;
+                while ((boundary = buffer.indexOf('\n\n')) >= 0) {
+                    this.dispatch(buffer.slice(0, boundary));
+                    buffer = buffer.slice(boundary + 2);
+                }
+            }
+        } catch (error) {
+            console.warn('Live updates disconnected:', error.message);
+        }
+
+        setTimeout(() => this.connect(), this.retryMs);
+        this.retryMs = Math.min(this.retryMs * 2, 30000);
+    },
+
+    dispatch(block) {
+        let name = 'message';
+        const data = [];
+        for (const line of block.split('\n')) {
+            if (line.startsWith(':')) continue;
+            const separator = line.indexOf(':');
+            const field = separator >= 0 ? line.slice(0, separator) : line;
+            const value = separator >= 0 ? line.slice(separator + 1).replace(/^ /, '') : '';
+            if (field === 'id') this.lastEventId = value;
+            else if (field === 'event') name = value;
+            else if (field === 'data') data.push(value);
+        }
+        if (data.length === 0) return;
+
+        if (name === 'resync') {
+            Object.values(this.handlers).forEach(handler => handler(null));
+        } else if (this.handlers[name]) {
+            this.handlers[name](JSON.parse(data.join('\n')));
+        }
+    }
+};
+
 // Check authentication on protected pages
 function checkAuth() {
     if (!Auth.isAuthenticated()) {
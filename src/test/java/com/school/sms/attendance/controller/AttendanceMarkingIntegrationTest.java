@@ -0,0 +1,137 @@
+package com.school.sms.attendance.controller;
+
+import com.school.sms.auth.repository.UserRepository;
+import com.school.sms.common.sql.SqlBudgetResponseAdvice;
+import com.school.sms.security.UserDetailsImpl;
+import com.school.sms.support.AbstractIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Marking a class period writes every student's bitmap within the default SQL budget,
+ * and only admins, principals and the slot's own teacher may mark it
+ */
+class AttendanceMarkingIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int STUDENTS = 30;
+    private static final LocalDate LAST_MONDAY =
+            LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void seedClass() {
+        jdbcTemplate.update("INSERT INTO users (created_at, updated_at, version, active, username, email, password, " +
+                "first_name, last_name, role, account_status, email_verified, failed_login_attempts, " +
+                "password_expired) VALUES " +
+                "(LOCALTIMESTAMP, LOCALTIMESTAMP, 0, TRUE, 'attend_teacher', 'attend.teacher@school.local', " +
+                "'{noop}secret', 'Class', 'Teacher', 'TEACHER', 'ACTIVE', TRUE, 0, FALSE), " +
+                "(LOCALTIMESTAMP, LOCALTIMESTAMP, 0, TRUE, 'attend_other', 'attend.other@school.local', " +
+                "'{noop}secret', 'Other', 'Teacher', 'ACADEMIC_TEACHER', 'ACTIVE', TRUE, 0, FALSE), " +
+                "(LOCALTIMESTAMP, LOCALTIMESTAMP, 0, TRUE, 'attend_admin', 'attend.admin@school.local', " +
+                "'{noop}secret', 'School', 'Admin', 'ADMIN', 'ACTIVE', TRUE, 0, FALSE) " +
+                "ON CONFLICT DO NOTHING");
+        jdbcTemplate.update("INSERT INTO teachers (created_at, updated_at, version, active, user_id, employee_id, " +
+                "first_name, last_name, email) " +
+                "SELECT LOCALTIMESTAMP, LOCALTIMESTAMP, 0, TRUE, u.id, 'ATT-' || u.id, u.first_name, u.last_name, " +
+                "u.email FROM users u WHERE u.username IN ('attend_teacher', 'attend_other') ON CONFLICT DO NOTHING");
+        jdbcTemplate.update("INSERT INTO timetables (created_at, updated_at, version, active, class_name, section, " +
+                "subject, teacher_id, day_of_week, start_time, end_time, is_active) " +
+                "SELECT LOCALTIMESTAMP, LOCALTIMESTAMP, 0, TRUE, 'Attend', 'A', 'Mathematics', t.id, 'MONDAY', " +
+                "TIME '09:00', TIME '09:45', TRUE FROM teachers t JOIN users u ON u.id = t.user_id " +
+                "WHERE u.username = 'attend_teacher' " +
+                "AND NOT EXISTS (SELECT 1 FROM timetables WHERE class_name = 'Attend')");
+        jdbcTemplate.update("INSERT INTO users (created_at, updated_at, version, active, username, email, password, " +
+                "first_name, last_name, role, account_status, email_verified, failed_login_attempts, " +
+                "password_expired) " +
+                "SELECT LOCALTIMESTAMP, LOCALTIMESTAMP, 0, TRUE, 'attend_' || i, 'attend_' || i || '@school.local', " +
+                "'{noop}secret', 'Student', 'No' || i, 'STUDENT', 'ACTIVE', TRUE, 0, FALSE " +
+                "FROM generate_series(1, ?) i ON CONFLICT DO NOTHING", STUDENTS);
+        jdbcTemplate.update("INSERT INTO students (created_at, updated_at, version, active, user_id, " +
+                "admission_number, date_of_birth, gender, current_class, section, admission_date, status, " +
+                "father_name) " +
+                "SELECT LOCALTIMESTAMP, LOCALTIMESTAMP, 0, TRUE, u.id, 'ATT' || u.id, DATE '2015-01-01', 'MALE', " +
+                "'Attend', 'A', CURRENT_DATE, 'ACTIVE', 'Parent' " +
+                "FROM users u WHERE u.username ~ '^attend_[0-9]+$' ON CONFLICT DO NOTHING");
+    }
+
+    @Test
+    void assignedTeacherMarksWholeClassWithinBudget() throws Exception {
+        List<Long> absent = studentIds().subList(0, 2);
+
+        mark("attend_teacher", "TERM1", absent)
+                .andExpect(status().isOk())
+                .andExpect(header().exists(SqlBudgetResponseAdvice.STATEMENTS_HEADER))
+                .andExpect(jsonPath("$.data.present").value(STUDENTS - 2))
+                .andExpect(jsonPath("$.data.absent").value(2))
+                .andExpect(jsonPath("$.data.corrected").value(false));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM student_attendance a " +
+                "JOIN attendance_registers r ON r.id = a.register_id WHERE r.class_name = 'Attend' " +
+                "AND r.term = 'TERM1' AND a.marked_count = 1", Integer.class)).isEqualTo(STUDENTS);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM student_attendance a " +
+                "JOIN attendance_registers r ON r.id = a.register_id WHERE r.class_name = 'Attend' " +
+                "AND r.term = 'TERM1' AND a.present_count = 0", Integer.class)).isEqualTo(2);
+
+        // Re-marking the same slot and date corrects it in place
+        mark("attend_teacher", "TERM1", absent.subList(0, 1))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.absent").value(1))
+                .andExpect(jsonPath("$.data.corrected").value(true));
+    }
+
+    @Test
+    void otherTeacherCannotMarkTheSlot() throws Exception {
+        mark("attend_other", "TERM2", List.of())
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void adminMarksAnySlot() throws Exception {
+        mark("attend_admin", "TERM3", List.of())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.present").value(STUDENTS));
+    }
+
+    private List<Long> studentIds() {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM students WHERE current_class = 'Attend' ORDER BY id", Long.class);
+    }
+
+    private ResultActions mark(String username, String term, List<Long> absentStudentIds) throws Exception {
+        Long slotId = jdbcTemplate.queryForObject(
+                "SELECT id FROM timetables WHERE class_name = 'Attend'", Long.class);
+        UserDetailsImpl principal = new UserDetailsImpl(userRepository.findByUsername(username).orElseThrow());
+        String absent = absentStudentIds.stream().map(String::valueOf).reduce((a, b) -> a + ", " + b).orElse("");
+        return mockMvc.perform(post("/api/attendance/sessions")
+                .with(user(principal))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"timetableId\": " + slotId + ", \"date\": \"" + LAST_MONDAY + "\", " +
+                        "\"academicYear\": \"2025-2026\", \"term\": \"" + term + "\", " +
+                        "\"absentStudentIds\": [" + absent + "]}"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.school.sms.auth.controller;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.school.sms.support.AbstractIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Registration emails a verification link whose token POST /api/auth/verify-email redeems once
+ */
+class EmailVerificationIntegrationTest extends AbstractIntegrationTest {
+
+    private static final Pattern TOKEN = Pattern.compile("/verify-email\\?token=([\\w-]+)");
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void verificationLinkFromRegistrationEmailVerifiesTheAddressOnce() throws Exception {
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"username": "verify_me", "email": "verify.me@school.local",
+                                 "password": "Secret@123", "confirmPassword": "Secret@123",
+                                 "firstName": "Verify", "lastName": "Me", "role": "PARENT"}
+                                """))
+                .andExpect(status().isCreated());
+
+        await().atMost(Duration.ofSeconds(15)).until(() -> greenMail.getReceivedMessages().length == 1);
+        Matcher link = TOKEN.matcher(GreenMailUtil.getBody(greenMail.getReceivedMessages()[0]));
+        assertThat(link.find()).isTrue();
+        String token = link.group(1);
+
+        String body = "{\"token\": \"" + token + "\"}";
+        mockMvc.perform(post("/api/auth/verify-email").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk());
+
+        Map<String, Object> user = jdbcTemplate.queryForMap("SELECT email_verified, email_verification_token, " +
+                "email_verification_token_expiry FROM users WHERE username = 'verify_me'");
+        assertThat(user.get("email_verified")).isEqualTo(true);
+        assertThat(user.get("email_verification_token")).isNull();
+        assertThat(user.get("email_verification_token_expiry")).isNull();
+
+        mockMvc.perform(post("/api/auth/verify-email").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void expiredTokenIsRejected() throws Exception {
+        jdbcTemplate.update("INSERT INTO users (created_at, updated_at, version, active, username, email, password, " +
+                "first_name, last_name, role, account_status, email_verified, failed_login_attempts, " +
+                "password_expired, email_verification_token, email_verification_token_expiry) " +
+                "VALUES (LOCALTIMESTAMP, LOCALTIMESTAMP, 0, TRUE, 'verify_late', 'verify.late@school.local', " +
+                "'{noop}secret', 'Verify', 'Late', 'PARENT', 'ACTIVE', FALSE, 0, FALSE, 'expired-token', " +
+                "LOCALTIMESTAMP - INTERVAL '1 hour')");
+
+        mockMvc.perform(post("/api/auth/verify-email")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"token\": \"expired-token\"}"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT email_verified FROM users WHERE username = 'verify_late'", Boolean.class)).isFalse();
+    }
+}
@@ -0,0 +1,68 @@
+package com.school.sms.auth.controller;
+
+import com.school.sms.support.AbstractIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A client IP over its failure allowance gets 429 for failed logins, while correct
+ * credentials from the same address (one school behind a NAT) still sign in
+ */
+@TestPropertySource(properties = "app.security.login-limiter.ip-max-failures=3")
+class LoginThrottleIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String SCHOOL_NAT = "203.0.113.10";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seedParents() {
+        String hash = "{bcrypt10}" + new BCryptPasswordEncoder(10).encode("Secret@123");
+        jdbcTemplate.update("INSERT INTO users (created_at, updated_at, version, active, username, email, password, " +
+                "first_name, last_name, role, account_status, email_verified, failed_login_attempts, " +
+                "password_expired) " +
+                "SELECT LOCALTIMESTAMP, LOCALTIMESTAMP, 0, TRUE, 'nat_parent_' || i, 'nat.parent.' || i || " +
+                "'@school.local', ?, 'Parent', 'No' || i, 'PARENT', 'ACTIVE', TRUE, 0, FALSE " +
+                "FROM generate_series(1, 4) i ON CONFLICT DO NOTHING", hash);
+    }
+
+    @Test
+    void correctCredentialsSucceedFromThrottledAddress() throws Exception {
+        // Typos from several accounts behind the same address; the third exhausts the IP allowance
+        login("nat_parent_1", "Wrong@123").andExpect(status().isUnauthorized());
+        login("nat_parent_2", "Wrong@123").andExpect(status().isUnauthorized());
+        login("nat_parent_3", "Wrong@123").andExpect(status().isTooManyRequests());
+        login("no_such_user", "Wrong@123")
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+        login("nat_parent_4", "Wrong@123").andExpect(status().isTooManyRequests());
+
+        login("nat_parent_4", "Secret@123").andExpect(status().isOk());
+        login("nat_parent_1", "Secret@123").andExpect(status().isOk());
+    }
+
+    private ResultActions login(String username, String password) throws Exception {
+        return mockMvc.perform(post("/api/auth/login")
+                .with(request -> {
+                    request.setRemoteAddr(SCHOOL_NAT);
+                    return request;
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"usernameOrEmail\": \"" + username + "\", \"password\": \"" + password + "\"}"));
+    }
+}
@@ -0,0 +1,66 @@
+package com.school.sms.common.cache;
+
+import com.school.sms.support.AbstractIntegrationTest;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two nodes exchange invalidations over LISTEN/NOTIFY without holding a pooled connection
+ */
+class PostgresInvalidationTransportIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final List<PostgresInvalidationTransport> nodes = new ArrayList<>();
+
+    @AfterEach
+    void stopNodes() {
+        nodes.forEach(PostgresInvalidationTransport::stop);
+    }
+
+    @Test
+    void deliversToOtherNodeOutsideThePool() throws Exception {
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        PostgresInvalidationTransport listener = node();
+        PostgresInvalidationTransport sender = node();
+        listener.start(received::add, () -> { });
+        sender.start(message -> { }, () -> { });
+
+        // LISTEN is issued asynchronously, so keep publishing until the listener is subscribed
+        String message = null;
+        for (int attempt = 0; attempt < 50 && message == null; attempt++) {
+            sender.publish("students:42");
+            message = received.poll(100, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(message).isEqualTo("students:42");
+        assertThat(dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections())
+                .isZero();
+    }
+
+    private PostgresInvalidationTransport node() {
+        PostgresInvalidationTransport transport = new PostgresInvalidationTransport(dataSourceProperties);
+        ReflectionTestUtils.setField(transport, "channel", "sms_cache_invalidation_test");
+        ReflectionTestUtils.setField(transport, "pollIntervalMs", 50);
+        ReflectionTestUtils.setField(transport, "queueCapacity", 100);
+        nodes.add(transport);
+        return transport;
+    }
+}
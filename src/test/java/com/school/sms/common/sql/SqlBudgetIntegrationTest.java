@@ -0,0 +1,115 @@
+package com.school.sms.common.sql;
+
+import com.school.sms.student.entity.Student;
+import com.school.sms.student.repository.StudentRepository;
+import com.school.sms.support.AbstractIntegrationTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * With app.sql-budget.fail-on-exceed (test profile) an N+1 endpoint fails the request
+ * while one within its budget answers normally
+ */
+@Import(SqlBudgetIntegrationTest.BudgetFixtureController.class)
+@WithMockUser(roles = "ADMIN")
+class SqlBudgetIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int STUDENTS = 12;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seedStudents() {
+        jdbcTemplate.update("INSERT INTO users (created_at, updated_at, version, active, username, email, password, " +
+                "first_name, last_name, role, account_status, email_verified, failed_login_attempts, " +
+                "password_expired) " +
+                "SELECT LOCALTIMESTAMP, LOCALTIMESTAMP, 0, TRUE, 'budget_' || i, 'budget_' || i || '@school.local', " +
+                "'{noop}secret', 'Student', 'No' || i, 'STUDENT', 'ACTIVE', TRUE, 0, FALSE " +
+                "FROM generate_series(1, ?) i ON CONFLICT DO NOTHING", STUDENTS);
+        jdbcTemplate.update("INSERT INTO students (created_at, updated_at, version, active, user_id, " +
+                "admission_number, date_of_birth, gender, current_class, section, admission_date, status, " +
+                "father_name) " +
+                "SELECT LOCALTIMESTAMP, LOCALTIMESTAMP, 0, TRUE, u.id, 'BUD' || u.id, DATE '2015-01-01', 'MALE', " +
+                "'Budget', 'A', CURRENT_DATE, 'ACTIVE', 'Parent' " +
+                "FROM users u WHERE u.username LIKE 'budget\\_%' ON CONFLICT DO NOTHING");
+    }
+
+    @Test
+    void nPlusOneEndpointFailsTheRequest() throws Exception {
+        mockMvc.perform(get("/test/sql-budget/students/n-plus-one"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.message", containsString("SQL budget exceeded")));
+    }
+
+    @Test
+    void endpointWithinBudgetSucceeds() throws Exception {
+        mockMvc.perform(get("/test/sql-budget/students/fetch-join"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(STUDENTS));
+    }
+
+    @Test
+    void applicationEndpointStaysWithinDefaultBudget() throws Exception {
+        Long studentId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM students WHERE current_class = 'Budget'", Long.class);
+
+        mockMvc.perform(get("/api/admin/students/{id}", studentId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(SqlBudgetResponseAdvice.STATEMENTS_HEADER));
+    }
+
+    /**
+     * The same list read two ways under the same budget
+     */
+    @RestController
+    static class BudgetFixtureController {
+
+        private final StudentRepository studentRepository;
+        private final EntityManager entityManager;
+
+        BudgetFixtureController(StudentRepository studentRepository, EntityManager entityManager) {
+            this.studentRepository = studentRepository;
+            this.entityManager = entityManager;
+        }
+
+        // Student.user is an eager one-to-one, so every student costs one more select
+        @SqlBudget(maxStatements = 5)
+        @GetMapping("/test/sql-budget/students/n-plus-one")
+        List<String> nPlusOne() {
+            return studentRepository.findAll().stream()
+                    .filter(student -> "Budget".equals(student.getCurrentClass()))
+                    .map(student -> student.getUser().getLastName())
+                    .toList();
+        }
+
+        @SqlBudget(maxStatements = 5)
+        @GetMapping("/test/sql-budget/students/fetch-join")
+        List<String> fetchJoin() {
+            return entityManager.createQuery(
+                            "SELECT s FROM Student s JOIN FETCH s.user WHERE s.currentClass = 'Budget'", Student.class)
+                    .getResultList().stream()
+                    .map(student -> student.getUser().getLastName())
+                    .toList();
+        }
+    }
+}
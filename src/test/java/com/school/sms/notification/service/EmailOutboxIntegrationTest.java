@@ -0,0 +1,163 @@
+package com.school.sms.notification.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.school.sms.support.AbstractIntegrationTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Outbox delivery against a GreenMail SMTP server: enqueue, dispatch, retry with backoff
+ * and idempotency
+ */
+class EmailOutboxIntegrationTest extends AbstractIntegrationTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
+    @Autowired
+    private EmailDispatcher emailDispatcher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearOutbox() {
+        jdbcTemplate.update("DELETE FROM email_outbox");
+    }
+
+    @Test
+    void enqueueRequiresTheCallersTransaction() {
+        assertThatThrownBy(() -> emailOutboxService.enqueue("outside", "parent@school.local", "Subject", "Body"))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    @Test
+    void enqueueWritesOneRowPerIdempotencyKey() {
+        Boolean first = transactionTemplate.execute(status ->
+                emailOutboxService.enqueue("welcome:1", "parent@school.local", "Welcome", "Hello"));
+        Boolean second = transactionTemplate.execute(status ->
+                emailOutboxService.enqueue("welcome:1", "parent@school.local", "Welcome", "Hello again"));
+
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM email_outbox WHERE idempotency_key = 'welcome:1'", Integer.class))
+                .isEqualTo(1);
+
+        awaitStatus("welcome:1", "SENT");
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+    }
+
+    @Test
+    void committedEmailIsDispatchedAndMarkedSent() throws Exception {
+        transactionTemplate.executeWithoutResult(status ->
+                emailOutboxService.enqueue("reset:42", "parent@school.local", "Reset your password", "Link"));
+
+        awaitStatus("reset:42", "SENT");
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(1);
+        assertThat(received[0].getSubject()).isEqualTo("Reset your password");
+        assertThat(received[0].getAllRecipients()[0].toString()).isEqualTo("parent@school.local");
+        assertThat(received[0].getMessageID()).endsWith("@school.local>");
+
+        Map<String, Object> row = outboxRow("reset:42");
+        assertThat(row.get("attempts")).isEqualTo(1);
+        assertThat(row.get("sent_at")).isNotNull();
+        assertThat(row.get("lease_until")).isNull();
+    }
+
+    @Test
+    void rolledBackEnqueueIsNeverSent() {
+        transactionTemplate.executeWithoutResult(status -> {
+            emailOutboxService.enqueue("rolled-back", "parent@school.local", "Subject", "Body");
+            status.setRollbackOnly();
+        });
+        emailDispatcher.wake();
+
+        await().during(Duration.ofMillis(500)).atMost(Duration.ofSeconds(2))
+                .until(() -> greenMail.getReceivedMessages().length == 0);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM email_outbox", Integer.class)).isZero();
+    }
+
+    @Test
+    void failedSendIsRetriedWithBackoff() {
+        greenMail.stop();
+        transactionTemplate.executeWithoutResult(status ->
+                emailOutboxService.enqueue("verify:7", "parent@school.local", "Verify", "Link"));
+
+        await().atMost(Duration.ofSeconds(15))
+                .until(() -> outboxRow("verify:7").get("last_error") != null);
+        Map<String, Object> rescheduled = outboxRow("verify:7");
+        assertThat(rescheduled.get("status")).isEqualTo("PENDING");
+        assertThat(rescheduled.get("attempts")).isEqualTo(1);
+        // initial-backoff-seconds (30) with +-20% jitter
+        LocalDateTime nextAttempt = ((Timestamp) rescheduled.get("next_attempt_at")).toLocalDateTime();
+        assertThat(nextAttempt).isBetween(LocalDateTime.now().plusSeconds(20), LocalDateTime.now().plusSeconds(40));
+
+        // Not due yet: a wake-up leaves it alone
+        emailDispatcher.wake();
+        await().during(Duration.ofMillis(500)).atMost(Duration.ofSeconds(2))
+                .until(() -> outboxRow("verify:7").get("attempts").equals(1));
+
+        greenMail.start();
+        jdbcTemplate.update("UPDATE email_outbox SET next_attempt_at = ? WHERE idempotency_key = 'verify:7'",
+                Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)));
+        emailDispatcher.wake();
+
+        awaitStatus("verify:7", "SENT");
+        assertThat(outboxRow("verify:7").get("attempts")).isEqualTo(2);
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+    }
+
+    @Test
+    void expiredLeaseIsReclaimedAndSentOnce() {
+        // Claimed by a dispatcher that died before recording the outcome
+        jdbcTemplate.update("INSERT INTO email_outbox (created_at, updated_at, version, active, idempotency_key, " +
+                        "recipient, subject, body, status, attempts, next_attempt_at, lease_until) " +
+                        "VALUES (?, ?, 0, TRUE, 'crashed:1', 'parent@school.local', 'Subject', 'Body', " +
+                        "'SENDING', 1, ?, ?)",
+                now(), now(), now(), Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)));
+
+        emailDispatcher.wake();
+
+        awaitStatus("crashed:1", "SENT");
+        assertThat(outboxRow("crashed:1").get("attempts")).isEqualTo(2);
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+    }
+
+    private void awaitStatus(String idempotencyKey, String status) {
+        await().atMost(Duration.ofSeconds(15))
+                .until(() -> status.equals(outboxRow(idempotencyKey).get("status")));
+    }
+
+    private Map<String, Object> outboxRow(String idempotencyKey) {
+        return jdbcTemplate.queryForMap("SELECT * FROM email_outbox WHERE idempotency_key = ?", idempotencyKey);
+    }
+
+    private static Timestamp now() {
+        return Timestamp.valueOf(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,86 @@
+package com.school.sms.parent.controller;
+
+import com.school.sms.auth.repository.UserRepository;
+import com.school.sms.security.UserDetailsImpl;
+import com.school.sms.support.AbstractIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Parents see only students linked to their verified email address
+ */
+class ParentPortalIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void seedFamilies() {
+        jdbcTemplate.update("INSERT INTO users (created_at, updated_at, version, active, username, email, password, " +
+                "first_name, last_name, role, account_status, email_verified, failed_login_attempts, " +
+                "password_expired) VALUES " +
+                "(LOCALTIMESTAMP, LOCALTIMESTAMP, 0, TRUE, 'portal_parent', 'portal.parent@school.local', " +
+                "'{noop}secret', 'Verified', 'Parent', 'PARENT', 'ACTIVE', TRUE, 0, FALSE), " +
+                "(LOCALTIMESTAMP, LOCALTIMESTAMP, 0, TRUE, 'portal_claimant', 'portal.claimant@school.local', " +
+                "'{noop}secret', 'Unverified', 'Parent', 'PARENT', 'ACTIVE', FALSE, 0, FALSE), " +
+                "(LOCALTIMESTAMP, LOCALTIMESTAMP, 0, TRUE, 'portal_child', 'portal.child@school.local', " +
+                "'{noop}secret', 'Linked', 'Child', 'STUDENT', 'ACTIVE', TRUE, 0, FALSE), " +
+                "(LOCALTIMESTAMP, LOCALTIMESTAMP, 0, TRUE, 'portal_stranger', 'portal.stranger@school.local', " +
+                "'{noop}secret', 'Other', 'Child', 'STUDENT', 'ACTIVE', TRUE, 0, FALSE) " +
+                "ON CONFLICT DO NOTHING");
+        jdbcTemplate.update("INSERT INTO students (created_at, updated_at, version, active, user_id, " +
+                "admission_number, date_of_birth, gender, current_class, section, admission_date, status, " +
+                "father_name, father_email, mother_email) " +
+                "SELECT LOCALTIMESTAMP, LOCALTIMESTAMP, 0, TRUE, u.id, 'PRT' || u.id, DATE '2015-01-01', 'MALE', " +
+                "'Portal', 'A', CURRENT_DATE, 'ACTIVE', 'Parent', " +
+                "CASE WHEN u.username = 'portal_child' THEN 'portal.parent@school.local' END, " +
+                "'portal.claimant@school.local' " +
+                "FROM users u WHERE u.username IN ('portal_child', 'portal_stranger') ON CONFLICT DO NOTHING");
+    }
+
+    @Test
+    void verifiedParentSeesOnlyLinkedChildren() throws Exception {
+        perform("portal_parent", "/api/parent/children")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].id").value(studentId("portal_child")));
+
+        perform("portal_parent", "/api/parent/children/" + studentId("portal_child") + "/results")
+                .andExpect(status().isOk());
+        perform("portal_parent", "/api/parent/children/" + studentId("portal_stranger") + "/results")
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void unverifiedParentSeesNoChildren() throws Exception {
+        perform("portal_claimant", "/api/parent/children")
+                .andExpect(status().isForbidden());
+        perform("portal_claimant", "/api/parent/children/" + studentId("portal_child") + "/results")
+                .andExpect(status().isForbidden());
+    }
+
+    private Long studentId(String username) {
+        return jdbcTemplate.queryForObject("SELECT s.id FROM students s JOIN users u ON u.id = s.user_id " +
+                "WHERE u.username = ?", Long.class, username);
+    }
+
+    private ResultActions perform(String username, String path) throws Exception {
+        UserDetailsImpl principal = new UserDetailsImpl(userRepository.findByUsername(username).orElseThrow());
+        return mockMvc.perform(get(path).with(user(principal)));
+    }
+}